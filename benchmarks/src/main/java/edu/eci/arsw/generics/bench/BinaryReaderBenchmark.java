@@ -0,0 +1,79 @@
+package edu.eci.arsw.generics.bench;
+
+import edu.eci.arsw.generics.io.BinaryDoubleReader;
+import edu.eci.arsw.generics.io.BinaryDoubleWriter;
+import edu.eci.arsw.generics.math.RunningStats;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Throughput de {@link BinaryDoubleReader} sobre el mismo dataset que ReaderBenchmark (separadores comma),
+ * convertido al formato binario con y sin compresión.
+ * El contador auxiliar {@code values} reporta valores cargados por segundo, comparable entre formatos.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BinaryReaderBenchmark {
+
+    @Param({"1000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean compressed;
+
+    private Path file;
+    private final BinaryDoubleReader reader = new BinaryDoubleReader();
+
+    /**
+     * Valores procesados, acumulados por operación.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Throughput {
+        public long values;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path text = Datasets.writeText(size, "comma");
+        file = Files.createTempFile("generics-bench-" + size + "-", ".gdbl");
+        file.toFile().deleteOnExit();
+        BinaryDoubleWriter.convert(text.toString(), file.toString(), compressed);
+    }
+
+    @Benchmark
+    public double[] load(Throughput counter) throws IOException {
+        counter.values += size;
+        return reader.load(file.toString());
+    }
+
+    @Benchmark
+    public double readStreaming(Throughput counter) throws IOException {
+        counter.values += size;
+        RunningStats stats = new RunningStats();
+        reader.read(file.toString(), stats);
+        return stats.m2();
+    }
+
+    @Benchmark
+    public double headerStats() throws IOException {
+        return reader.header(file.toString()).stats().m2();
+    }
+}
@@ -0,0 +1,93 @@
+package edu.eci.arsw.generics.bench;
+
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.math.RunningStats;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Lectura de un archivo gzip con {@link DoubleFileReader} (descompresión y parseo en hilos separados)
+ * frente a solo descomprimir, que es la cota superior de throughput, y a parsear el texto sin comprimir.
+ * El contador auxiliar {@code bytes} reporta bytes de texto (descomprimido) por segundo.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CompressedReaderBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private Path text;
+    private Path gzip;
+    private long textBytes;
+    private final DoubleFileReader reader = new DoubleFileReader();
+
+    /**
+     * Bytes de texto procesados, acumulados por operación.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Throughput {
+        public long bytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        text = Datasets.writeText(size, "comma");
+        textBytes = Files.size(text);
+        gzip = Files.createTempFile("generics-bench-" + size + "-", ".txt.gz");
+        gzip.toFile().deleteOnExit();
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzip), 1 << 16)) {
+            Files.copy(text, out);
+        }
+    }
+
+    @Benchmark
+    public long decompressOnly(Throughput counter) throws IOException {
+        counter.bytes += textBytes;
+        long total = 0;
+        byte[] buf = new byte[1 << 18];
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(gzip), 1 << 16)) {
+            int n;
+            while ((n = in.read(buf)) >= 0) total += n;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double readGzip(Throughput counter) throws IOException {
+        counter.bytes += textBytes;
+        RunningStats stats = new RunningStats();
+        reader.readMapped(gzip.toString(), stats);
+        return stats.m2();
+    }
+
+    @Benchmark
+    public double readPlain(Throughput counter) throws IOException {
+        counter.bytes += textBytes;
+        RunningStats stats = new RunningStats();
+        reader.readMapped(text.toString(), stats);
+        return stats.m2();
+    }
+}
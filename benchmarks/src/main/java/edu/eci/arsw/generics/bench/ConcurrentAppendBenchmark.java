@@ -0,0 +1,52 @@
+package edu.eci.arsw.generics.bench;
+
+import edu.eci.arsw.generics.collections.ConcurrentAppendList;
+import edu.eci.arsw.generics.collections.SimpleLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Añadidos concurrentes desde varios hilos: {@link ConcurrentAppendList} frente a
+ * {@link SimpleLinkedList} envuelta en Collections.synchronizedList (un único monitor).
+ * La lista se recrea en cada iteración para que el heap no crezca sin límite.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentAppendBenchmark {
+
+    @Param({"ConcurrentAppendList", "synchronized-SimpleLinkedList"})
+    public String impl;
+
+    private List<Double> list;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        list = switch (impl) {
+            case "ConcurrentAppendList" -> new ConcurrentAppendList<>();
+            case "synchronized-SimpleLinkedList" -> Collections.synchronizedList(new SimpleLinkedList<>());
+            default -> throw new IllegalArgumentException("Implementación desconocida: " + impl);
+        };
+    }
+
+    @Benchmark
+    public boolean add() {
+        return list.add(1.5);
+    }
+}
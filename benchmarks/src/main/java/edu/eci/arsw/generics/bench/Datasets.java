@@ -0,0 +1,68 @@
+package edu.eci.arsw.generics.bench;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Generación de datasets sintéticos para los benchmarks
+ * Formatos (parámetro separators):
+ *   -comma: valores separados por ", "
+ *   -whitespace: valores separados por espacios y tabs
+ *   -comments: mezcla de comas/espacios, líneas en blanco y comentarios con '#'
+ */
+final class Datasets {
+
+    private static final int VALUES_PER_LINE = 8;
+
+    private Datasets() { }
+
+    /**
+     * Valores pseudoaleatorios reproducibles con dos decimales, como los de src/main/resources.
+     */
+    static double[] values(int n) {
+        SplittableRandom rnd = new SplittableRandom(42);
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = Math.round(rnd.nextDouble(-1000.0, 1000.0) * 100.0) / 100.0;
+        }
+        return values;
+    }
+
+    /**
+     * Escribe {@code n} valores en un archivo temporal que se borra al terminar la JVM.
+     */
+    static Path writeText(int n, String separators) {
+        try {
+            Path file = Files.createTempFile("generics-bench-" + separators + "-" + n + "-", ".txt");
+            file.toFile().deleteOnExit();
+            SplittableRandom rnd = new SplittableRandom(42);
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (int i = 0; i < n; i++) {
+                    out.write(String.format(Locale.ROOT, "%.2f", rnd.nextDouble(-1000.0, 1000.0)));
+                    boolean endOfLine = (i + 1) % VALUES_PER_LINE == 0;
+                    switch (separators) {
+                        case "comma" -> out.write(endOfLine ? "\n" : ", ");
+                        case "whitespace" -> out.write(endOfLine ? "\n" : (i % 2 == 0 ? " " : "\t"));
+                        case "comments" -> {
+                            if (endOfLine) {
+                                out.write(i % 3 == 0 ? "  # lote " + i + "\n\n" : "\n");
+                            } else {
+                                out.write(i % 2 == 0 ? ", " : "  ");
+                            }
+                        }
+                        default -> throw new IllegalArgumentException("Separadores desconocidos: " + separators);
+                    }
+                }
+            }
+            return file;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package edu.eci.arsw.generics.bench;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.collections.SimpleLinkedList;
+import edu.eci.arsw.generics.collections.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Compara {@link SimpleLinkedList} con ArrayList, LinkedList, {@link UnrolledLinkedList} y {@link DoubleList}
+ * en add (construcción completa), get por índice aleatorio e iteración.
+ * Las listas enlazadas con 100M de elementos requieren un heap grande; ajustar -jvmArgs si se usa ese tamaño.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ListBenchmark {
+
+    private static final int RANDOM_GETS = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"SimpleLinkedList", "SimpleLinkedList-finger", "ArrayList", "LinkedList", "UnrolledLinkedList", "DoubleList"})
+    public String impl;
+
+    private double[] values;
+    private List<Double> list;
+    private int[] indexes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = Datasets.values(size);
+        list = newList();
+        for (double v : values) list.add(v);
+        SplittableRandom rnd = new SplittableRandom(7);
+        indexes = new int[RANDOM_GETS];
+        for (int i = 0; i < indexes.length; i++) indexes[i] = rnd.nextInt(size);
+    }
+
+    private List<Double> newList() {
+        Supplier<List<Double>> factory = switch (impl) {
+            case "SimpleLinkedList" -> SimpleLinkedList::new;
+            case "SimpleLinkedList-finger" -> () -> new SimpleLinkedList<>(true);
+            case "ArrayList" -> ArrayList::new;
+            case "LinkedList" -> LinkedList::new;
+            case "UnrolledLinkedList" -> UnrolledLinkedList::new;
+            case "DoubleList" -> DoubleList::new;
+            default -> throw new IllegalArgumentException("Implementación desconocida: " + impl);
+        };
+        return factory.get();
+    }
+
+    @Benchmark
+    public List<Double> add() {
+        List<Double> l = newList();
+        for (double v : values) l.add(v);
+        return l;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RANDOM_GETS)
+    public void getRandom(Blackhole bh) {
+        for (int index : indexes) bh.consume(list.get(index));
+    }
+
+    /**
+     * Patrón {@code for (i...) list.get(i)} sobre una ventana consecutiva a mitad de la lista.
+     */
+    @Benchmark
+    @OperationsPerInvocation(RANDOM_GETS)
+    public void getSequential(Blackhole bh) {
+        int from = size >> 1;
+        for (int i = 0; i < RANDOM_GETS; i++) bh.consume(list.get((from + i) % size));
+    }
+
+    @Benchmark
+    public double iterate() {
+        double sum = 0.0;
+        for (Double d : list) sum += d;
+        return sum;
+    }
+}
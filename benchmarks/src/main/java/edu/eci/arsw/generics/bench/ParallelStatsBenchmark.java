@@ -0,0 +1,77 @@
+package edu.eci.arsw.generics.bench;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.math.Stats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link Stats#mean(List)} frente a {@link Stats#parallelMean(List)} alrededor de
+ * {@link Stats#PARALLEL_THRESHOLD}. Para ver el punto de corte real del paralelismo se puede
+ * medir con -Djava.util.concurrent.ForkJoinPool.common.parallelism=N y bajar el umbral temporalmente;
+ * el tamaño donde ambas rutas empatan es el valor que conviene usar en cada máquina.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class ParallelStatsBenchmark {
+
+    @Param({"10000", "131072", "1000000", "10000000"})
+    public int size;
+
+    @Param({"ArrayList", "DoubleList"})
+    public String impl;
+
+    private double[] values;
+    private List<Double> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = Datasets.values(size);
+        list = switch (impl) {
+            case "ArrayList" -> new ArrayList<>(size);
+            case "DoubleList" -> new DoubleList(size);
+            default -> throw new IllegalArgumentException("Implementación desconocida: " + impl);
+        };
+        for (double v : values) list.add(v);
+    }
+
+    @Benchmark
+    public double mean() {
+        return Stats.mean(list);
+    }
+
+    @Benchmark
+    public double parallelMean() {
+        return Stats.parallelMean(list);
+    }
+
+    @Benchmark
+    public double sampleStdDev() {
+        return Stats.sampleStdDev(list);
+    }
+
+    @Benchmark
+    public double parallelSampleStdDev() {
+        return Stats.parallelSampleStdDev(list);
+    }
+
+    @Benchmark
+    public double parallelMeanArray() {
+        return Stats.parallelMean(values);
+    }
+}
@@ -0,0 +1,86 @@
+package edu.eci.arsw.generics.bench;
+
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.math.RunningStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Costo de parseo en memoria (sin E/S de disco) del parser propio, por la ruta de bytes y la de chars,
+ * frente a la referencia split + Double.parseDouble.
+ * Formatos (parámetro digits): short, dos decimales como los datasets; full, representación
+ * más corta de doubles arbitrarios (hasta 17 dígitos y exponente).
+ * Ejemplo: java -jar target/benchmarks.jar ParseBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"short", "full"})
+    public String digits;
+
+    private String text;
+    private byte[] bytes;
+    private final DoubleFileReader reader = new DoubleFileReader();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom rnd = new SplittableRandom(42);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            double x = rnd.nextDouble(-1000.0, 1000.0);
+            sb.append("short".equals(digits) ? String.format(Locale.ROOT, "%.2f", x)
+                    : Double.toString(x * Math.pow(10, rnd.nextInt(40) - 20)));
+            sb.append(i % 8 == 7 ? "\n" : ", ");
+        }
+        text = sb.toString();
+        bytes = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public double bytes() throws IOException {
+        RunningStats stats = new RunningStats();
+        reader.read(new ByteArrayInputStream(bytes), stats);
+        return stats.m2();
+    }
+
+    @Benchmark
+    public double chars() throws IOException {
+        RunningStats stats = new RunningStats();
+        reader.read(new StringReader(text), stats);
+        return stats.m2();
+    }
+
+    @Benchmark
+    public double splitParseDouble() {
+        RunningStats stats = new RunningStats();
+        for (String line : text.split("\n")) {
+            for (String token : line.split("[,\\s]+")) {
+                if (!token.isEmpty()) stats.accept(Double.parseDouble(token));
+            }
+        }
+        return stats.m2();
+    }
+}
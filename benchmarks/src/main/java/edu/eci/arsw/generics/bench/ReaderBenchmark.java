@@ -0,0 +1,89 @@
+package edu.eci.arsw.generics.bench;
+
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.math.RunningStats;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Throughput de {@link DoubleFileReader} por modo de lectura.
+ * El contador auxiliar {@code bytes} reporta los bytes parseados por segundo (MB/s = bytes/s / 1e6).
+ * Ejemplo: java -jar target/benchmarks.jar ReaderBenchmark -p size=1000000 -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ReaderBenchmark {
+
+    @Param({"1000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"comma", "whitespace", "comments"})
+    public String separators;
+
+    private Path file;
+    private long fileBytes;
+    private final DoubleFileReader reader = new DoubleFileReader();
+
+    /**
+     * Bytes procesados, acumulados por operación para reportar throughput de parseo.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Throughput {
+        public long bytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Datasets.writeText(size, separators);
+        fileBytes = Files.size(file);
+    }
+
+    @Benchmark
+    public List<Double> readLinesToList(Throughput counter) throws IOException {
+        counter.bytes += fileBytes;
+        return reader.read(file.toString());
+    }
+
+    @Benchmark
+    public double readLinesStreaming(Throughput counter) throws IOException {
+        counter.bytes += fileBytes;
+        RunningStats stats = new RunningStats();
+        reader.read(file.toString(), stats);
+        return stats.m2();
+    }
+
+    @Benchmark
+    public double readMapped(Throughput counter) throws IOException {
+        counter.bytes += fileBytes;
+        RunningStats stats = new RunningStats();
+        reader.readMapped(file.toString(), stats);
+        return stats.m2();
+    }
+
+    @Benchmark
+    public double readParallel(Throughput counter) throws IOException {
+        counter.bytes += fileBytes;
+        RunningStats stats = reader.readParallel(file.toString(), Runtime.getRuntime().availableProcessors(),
+                RunningStats::new, RunningStats::combine);
+        return stats.m2();
+    }
+}
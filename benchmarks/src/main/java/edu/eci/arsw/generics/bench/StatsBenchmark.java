@@ -0,0 +1,104 @@
+package edu.eci.arsw.generics.bench;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.collections.SimpleLinkedList;
+import edu.eci.arsw.generics.math.KllSketch;
+import edu.eci.arsw.generics.math.RunningStats;
+import edu.eci.arsw.generics.math.Stats;
+import edu.eci.arsw.generics.math.Summary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Throughput de {@link Stats#mean(List)} y {@link Stats#sampleStdDev(List)} según la lista de entrada,
+ * y de {@link RunningStats} sobre un double[] como referencia de una sola pasada.
+ * Las sobrecargas double[] usan el Vector API porque el fork arranca con jdk.incubator.vector.
+ * También compara percentiles exactos (copia ordenada) con los aproximados de {@link KllSketch}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class StatsBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"SimpleLinkedList", "ArrayList", "DoubleList"})
+    public String impl;
+
+    private double[] values;
+    private List<Double> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = Datasets.values(size);
+        list = switch (impl) {
+            case "SimpleLinkedList" -> new SimpleLinkedList<>();
+            case "ArrayList" -> new ArrayList<>(size);
+            case "DoubleList" -> new DoubleList(size);
+            default -> throw new IllegalArgumentException("Implementación desconocida: " + impl);
+        };
+        for (double v : values) list.add(v);
+    }
+
+    @Benchmark
+    public double mean() {
+        return Stats.mean(list);
+    }
+
+    @Benchmark
+    public double sampleStdDev() {
+        return Stats.sampleStdDev(list);
+    }
+
+    @Benchmark
+    public double meanArray() {
+        return Stats.mean(values);
+    }
+
+    @Benchmark
+    public double sampleStdDevArray() {
+        return Stats.sampleStdDev(values);
+    }
+
+    @Benchmark
+    public double runningStats() {
+        RunningStats stats = new RunningStats();
+        for (double v : values) stats.accept(v);
+        return stats.sampleStdDev();
+    }
+
+    @Benchmark
+    public Summary summarize() {
+        return Stats.summarize(list);
+    }
+
+    @Benchmark
+    public double[] sortedPercentiles() {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return new double[] {sorted[(int) (0.5 * (size - 1))], sorted[(int) (0.99 * (size - 1))]};
+    }
+
+    @Benchmark
+    public double[] sketchPercentiles() {
+        KllSketch sketch = new KllSketch();
+        for (double v : values) sketch.accept(v);
+        return sketch.quantiles(0.5, 0.99);
+    }
+}
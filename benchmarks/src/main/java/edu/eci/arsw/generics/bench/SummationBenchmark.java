@@ -0,0 +1,57 @@
+package edu.eci.arsw.generics.bench;
+
+import edu.eci.arsw.generics.math.DoubleKernels;
+import edu.eci.arsw.generics.math.Summation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Costo en throughput de cada {@link Summation} sobre un double[] y en streaming (Accumulator),
+ * con {@link DoubleKernels#sum(double[])} (Kahan + SIMD) como referencia.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class SummationBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"NAIVE", "NEUMAIER", "PAIRWISE", "BLOCKED"})
+    public Summation summation;
+
+    private double[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = Datasets.values(size);
+    }
+
+    @Benchmark
+    public double array() {
+        return summation.sum(values);
+    }
+
+    @Benchmark
+    public double streaming() {
+        Summation.Accumulator acc = summation.newAccumulator();
+        for (double v : values) acc.accept(v);
+        return acc.sum();
+    }
+
+    @Benchmark
+    public double kernel() {
+        return DoubleKernels.sum(values);
+    }
+}
@@ -0,0 +1,74 @@
+package edu.eci.arsw.generics.bench;
+
+import edu.eci.arsw.generics.math.DecayingStats;
+import edu.eci.arsw.generics.math.RunningStats;
+import edu.eci.arsw.generics.math.WindowedStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+
+/**
+ * Costo por dato de {@link WindowedStats} (por cantidad y por tiempo) y {@link DecayingStats}
+ * frente a {@link RunningStats}. Con -prof gc se verifica que la ventana no asigna por dato.
+ * Ejemplo: java -jar target/benchmarks.jar WindowedStatsBenchmark -p window=1000 -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class WindowedStatsBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"64", "1000", "100000"})
+    public int window;
+
+    private double[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = Datasets.values(size);
+    }
+
+    @Benchmark
+    public double countWindow() {
+        WindowedStats stats = WindowedStats.lastN(window);
+        for (double v : values) stats.accept(v);
+        return stats.sampleStdDev();
+    }
+
+    @Benchmark
+    public double timeWindow() {
+        // un dato por microsegundo: la ventana de "window" µs retiene "window" datos
+        WindowedStats stats = WindowedStats.lastDuration(Duration.ofNanos(window * 1_000L));
+        long t = 0;
+        for (double v : values) stats.accept(t += 1_000L, v);
+        return stats.sampleStdDev();
+    }
+
+    @Benchmark
+    public double decaying() {
+        DecayingStats stats = DecayingStats.withSpan(window);
+        for (double v : values) stats.accept(v);
+        return stats.stdDev();
+    }
+
+    @Benchmark
+    public double runningStats() {
+        RunningStats stats = new RunningStats();
+        for (double v : values) stats.accept(v);
+        return stats.sampleStdDev();
+    }
+}
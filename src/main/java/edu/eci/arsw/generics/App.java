@@ -1,50 +1,479 @@
 package edu.eci.arsw.generics;
 
+import edu.eci.arsw.generics.io.BinaryDoubleReader;
+import edu.eci.arsw.generics.io.BinaryDoubleWriter;
+import edu.eci.arsw.generics.io.BinaryHeader;
 import edu.eci.arsw.generics.io.DoubleFileReader;
-import edu.eci.arsw.generics.math.Stats;
+import edu.eci.arsw.generics.io.IncrementalReader;
+import edu.eci.arsw.generics.io.ParseErrors;
+import edu.eci.arsw.generics.math.RunningStats;
+import edu.eci.arsw.generics.metrics.Metrics;
+import edu.eci.arsw.generics.math.Summation;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.DoubleConsumer;
 
 /**
  * Punto de entrada de la aplicación CLI
  * Uso:
- * java -jar target/generics-1.0.0.jar --input &lt;ruta-al-archivo&gt;
+ * java -jar target/generics-1.0.0.jar --input &lt;archivo|directorio|glob&gt; [--input ...] [--jobs N]
+ *     [--threads N] [--summation naive|neumaier|pairwise|blocked] [--convert &lt;salida.gdbl&gt; [--compress]]
+ *     [--every N] [--on-error skip|fail [--max-error-rate R]] [--metrics json] [--incremental [--checkpoint-dir D]]
+ * java -jar target/generics-1.0.0.jar --serve [--port P] [--cache-size N] [--threads N] [--summation ...] [--on-error ...]
+ * Con {@code --input -} lee los valores de la entrada estándar (pipes) en streaming; {@code --every N}
+ * imprime la media y la desviación acumuladas cada N valores, con memoria constante.
+ * El formato de cada archivo de entrada (texto o binario GDBL) se detecta automáticamente.
+ * Con varios archivos se procesan en paralelo (a lo sumo N a la vez con --jobs) y se imprimen
+ * las estadísticas de cada uno y las totales, combinando los acumuladores sin releer datos.
+ * Con {@code --on-error skip} los tokens inválidos se omiten y se informan (línea y columna) por
+ * la salida de error; el archivo falla solo si la fracción de inválidos supera {@code --max-error-rate}.
+ * Con {@code --metrics json} imprime al final por la salida de error un reporte JSON de una línea
+ * (bytes, líneas, tokens, valores por segundo, tiempo y memoria asignada por fase).
+ * Con {@code --incremental} cada archivo de texto se retoma desde su checkpoint y solo se parsean los
+ * bytes añadidos desde la ejecución anterior (ver {@link IncrementalReader}).
+ * Con {@code --serve} queda residente y responde consultas por un protocolo de líneas en 127.0.0.1
+ * (ver {@link StatsServer}), con los resultados en una caché LRU por huella de archivo ({@link StatsCache}).
  */
 public final class App {
 
+    /** Valor de --input que indica la entrada estándar */
+    private static final String STDIN = "-";
+    /** Fracción máxima de tokens inválidos por defecto con --on-error skip */
+    private static final double DEFAULT_MAX_ERROR_RATE = 0.01;
+    /** Errores que se muestran por archivo; el resto solo se cuenta */
+    private static final int SHOWN_ERRORS = 10;
+    /** Puerto por defecto de --serve */
+    private static final int DEFAULT_PORT = 7070;
+    /** Archivos en la caché de --serve por defecto */
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    /** Máximo paralelismo que admite un ForkJoinPool */
+    private static final int MAX_POOL_SIZE = 0x7fff;
+
+    private static final String USAGE =
+            "Uso: java -jar target/generics-1.0.0.jar --input <archivo|directorio|glob> [--input ...] [--jobs N]"
+                    + " [--threads N] [--summation naive|neumaier|pairwise|blocked]"
+                    + " [--convert <salida.gdbl> [--compress]] [--every N]"
+                    + " [--on-error skip|fail [--max-error-rate R]] [--metrics json]"
+                    + " [--incremental [--checkpoint-dir <dir>]]"
+                    + "\n       java -jar target/generics-1.0.0.jar --serve [--port P] [--cache-size N] [--threads N]"
+                    + " [--summation ...] [--on-error ...]"
+                    + "\n  --threads N: hilos de lectura (por defecto todos los procesadores). Con más de uno la media"
+                    + " y la desviación se combinan desde parciales por rango y pueden diferir en los últimos"
+                    + " dígitos de la lectura secuencial; --threads 1 la fuerza.";
+
     private App() { }
 
     /**
      * Main de la aplicación.
-     * @param args argumentos de línea de comandos. Se espera @code --input <ruta>
+     * @param args argumentos de línea de comandos. Se espera al menos un @code --input <ruta>
+     *             (archivo, directorio o glob; se puede repetir), opcionalmente @code --jobs N
+     *             para procesar hasta N archivos a la vez, @code --threads N para leer cada archivo con N hilos
+     *             (por defecto todos los procesadores, compartidos por los archivos simultáneos; los
+     *             archivos de menos de 2 MiB se leen igual en un solo hilo; con más de un hilo el resultado
+     *             se combina desde parciales por rango y puede diferir en los últimos dígitos del de
+     *             @code --threads 1),
+     *             @code --summation S para calcular la media con esa estrategia de suma y
+     *             @code --convert <salida> para guardar la entrada en formato binario
+     *             (comprimido con @code --compress) antes de calcular. @code --input - lee de la
+     *             entrada estándar y @code --every N imprime resultados parciales cada N valores
+     *             (con la entrada estándar o un único archivo).
+     *             @code --on-error skip omite los tokens inválidos (hasta la fracción
+     *             @code --max-error-rate, 0.01 por defecto) en lugar de terminar en el primero.
+     *             @code --metrics json activa las métricas e imprime el reporte al terminar.
+     *             @code --incremental parsea solo lo añadido desde la ejecución anterior, con los
+     *             checkpoints junto a cada archivo o en @code --checkpoint-dir.
+     *             @code --serve atiende consultas en @code --port (7070 por defecto) en lugar de
+     *             leer @code --input, con hasta @code --cache-size resultados en caché (256 por defecto)
      */
     public static void main(String[] args) {
-        String inputPath = null;
+        List<String> inputs = new ArrayList<>();
+        int jobs = 0;
+        int threads = 0;
+        Summation summation = null;
+        String convertPath = null;
+        boolean compress = false;
+        long every = 0;
+        boolean skipErrors = false;
+        double maxErrorRate = DEFAULT_MAX_ERROR_RATE;
+        boolean metrics = false;
+        boolean serve = false;
+        int port = DEFAULT_PORT;
+        int cacheSize = DEFAULT_CACHE_SIZE;
+        boolean incremental = false;
+        Path checkpointDir = null;
         for (int i = 0; i < args.length; i++) {
             if ("--input".equals(args[i]) && i + 1 < args.length) {
-                inputPath = args[i + 1];
-                break;
+                inputs.add(args[++i]);
+            } else if ("--jobs".equals(args[i]) && i + 1 < args.length) {
+                jobs = parsePositiveInt(args[++i]);
+            } else if ("--threads".equals(args[i]) && i + 1 < args.length) {
+                threads = parsePositiveInt(args[++i]);
+            } else if ("--summation".equals(args[i]) && i + 1 < args.length) {
+                summation = parseSummation(args[++i]);
+            } else if ("--convert".equals(args[i]) && i + 1 < args.length) {
+                convertPath = args[++i];
+            } else if ("--every".equals(args[i]) && i + 1 < args.length) {
+                every = parsePositiveInt(args[++i]);
+            } else if ("--on-error".equals(args[i]) && i + 1 < args.length) {
+                skipErrors = parseOnError(args[++i]);
+            } else if ("--max-error-rate".equals(args[i]) && i + 1 < args.length) {
+                maxErrorRate = parseRate(args[++i]);
+            } else if ("--metrics".equals(args[i]) && i + 1 < args.length) {
+                metrics = parseMetrics(args[++i]);
+            } else if ("--port".equals(args[i]) && i + 1 < args.length) {
+                port = parsePort(args[++i]);
+            } else if ("--cache-size".equals(args[i]) && i + 1 < args.length) {
+                cacheSize = parsePositiveInt(args[++i]);
+            } else if ("--compress".equals(args[i])) {
+                compress = true;
+            } else if ("--checkpoint-dir".equals(args[i]) && i + 1 < args.length) {
+                checkpointDir = Path.of(args[++i]);
+                incremental = true;
+            } else if ("--serve".equals(args[i])) {
+                serve = true;
+            } else if ("--incremental".equals(args[i])) {
+                incremental = true;
             }
         }
 
-        if (inputPath == null) {
-            System.err.println("Uso: java -jar target/generics-1.0.0.jar --input <ruta-al-archivo>");
-            System.exit(1);
+        if (serve && (!inputs.isEmpty() || convertPath != null || every > 0)) {
+            System.err.println("--serve no se puede combinar con --input, --convert ni --every.");
+            usage();
         }
 
-        try {
-            DoubleFileReader reader = new DoubleFileReader();
-            List<Double> data = reader.read(inputPath);
+        if (incremental && (serve || inputs.contains(STDIN) || summation != null || every > 0 || skipErrors)) {
+            System.err.println("--incremental no se puede combinar con --serve, --input -, --summation, --every"
+                    + " ni --on-error skip.");
+            usage();
+        }
 
-            double mean = Stats.mean(data);
-            double std = Stats.sampleStdDev(data);
+        if (inputs.isEmpty() && !serve) {
+            usage();
+        }
 
-            System.out.printf(Locale.ROOT, "Media: %.2f%n", mean);
-            System.out.printf(Locale.ROOT, "Desviación estándar muestral: %.2f%n", std);
+        if (inputs.contains(STDIN) && (inputs.size() > 1 || convertPath != null)) {
+            System.err.println("--input - no se puede combinar con otras entradas ni con --convert.");
+            usage();
+        }
+
+        if (metrics) Metrics.enable();
+        long started = System.nanoTime();
+        Double errorRate = skipErrors ? maxErrorRate : null;
+        IncrementalReader checkpoints = incremental ? new IncrementalReader(checkpointDir) : null;
+        boolean ok = true;
+        ForkJoinPool readers = null;
+        try {
+            if (serve) {
+                readers = readerPool(threads, 1);
+                serve(port, cacheSize, readers, threads, summation, errorRate);
+            } else if (inputs.contains(STDIN)) {
+                Totals totals = new Totals(summation, every);
+                totals.errors = errorRate == null ? null : new ParseErrors(errorRate);
+                new DoubleFileReader(totals.errors).read(System.in, totals);
+                printFinal(totals);
+            } else {
+                List<Path> files = InputFiles.expand(inputs);
+                if (every > 0 && files.size() > 1) {
+                    System.err.println("--every requiere un único archivo de entrada (hay " + files.size() + ").");
+                    usage();
+                }
+                if (convertPath != null) {
+                    if (files.size() != 1) {
+                        System.err.println("--convert requiere un único archivo de entrada.");
+                        usage();
+                    }
+                    String source = files.get(0).toString();
+                    BinaryHeader header = BinaryDoubleWriter.convert(source, convertPath, compress);
+                    System.out.printf(Locale.ROOT, "Convertido: %s (%d valores)%n", convertPath, header.count());
+                    files = List.of(Path.of(convertPath));
+                }
+                if (files.size() == 1) {
+                    readers = readerPool(threads, 1);
+                    printFinal(compute(files.get(0).toString(), readers, threads, summation, every, errorRate, checkpoints));
+                } else {
+                    int workers = jobs > 0 ? jobs : Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+                    readers = readerPool(threads, workers);
+                    ok = batch(files, workers, readers, threads, summation, errorRate, checkpoints);
+                }
+            }
         } catch (Exception ex) {
             System.err.println("Error: " + ex.getMessage());
-            System.exit(2);
+            ok = false;
+        } finally {
+            if (readers != null) readers.shutdown();
+        }
+        if (metrics) System.err.println(Metrics.toJson(System.nanoTime() - started));
+        if (!ok) System.exit(2);
+    }
+
+    /**
+     * Procesa varios archivos en un pool acotado de {@code workers} hilos. Cada archivo produce sus
+     * propios totales, que se imprimen en el orden de entrada y luego se combinan en el total general.
+     * El pool es de hilos de plataforma: el trabajo por archivo es parseo (CPU) y lectura de archivos
+     * mapeados, cuyos fallos de página bloquean el hilo igual que un hilo virtual fijado. Los rangos
+     * de los archivos grandes se parsean en {@code readers}, compartido por todos los archivos, con a lo
+     * sumo {@code threads} hilos por archivo (todo el pool si es 0).
+     *
+     * @return true si todos los archivos se procesaron sin error
+     */
+    private static boolean batch(List<Path> files, int workers, ForkJoinPool readers, int threads,
+                                 Summation summation, Double errorRate, IncrementalReader checkpoints)
+            throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<Totals>> results = new ArrayList<>(files.size());
+            for (Path file : files) {
+                results.add(pool.submit(() -> compute(file.toString(), readers, threads, summation, 0, errorRate, checkpoints)));
+            }
+            Totals all = new Totals(summation, 0);
+            int ok = 0;
+            for (int i = 0; i < files.size(); i++) {
+                try {
+                    Totals totals = results.get(i).get();
+                    System.out.printf(Locale.ROOT, "%s: n=%d, media=%s, s=%s%n", files.get(i),
+                            totals.stats.count(), format(totals.meanOrNaN()), format(totals.stdDevOrNaN()));
+                    printErrors(files.get(i) + ": ", totals.errors);
+                    printIncremental(files.get(i) + ": ", totals.incremental);
+                    all.combine(totals);
+                    ok++;
+                } catch (ExecutionException ex) {
+                    System.err.println("Error en " + files.get(i) + ": " + ex.getCause().getMessage());
+                }
+            }
+            System.out.printf(Locale.ROOT, "Total (%d de %d archivos, %d valores):%n", ok, files.size(), all.stats.count());
+            System.out.printf(Locale.ROOT, "Media: %s%n", format(all.meanOrNaN()));
+            System.out.printf(Locale.ROOT, "Desviación estándar muestral: %s%n", format(all.stdDevOrNaN()));
+            return ok == files.size();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Atiende consultas hasta recibir SHUTDOWN. Cada archivo se calcula como en una ejecución normal
+     * ({@link #compute}) y su resultado queda en caché hasta que el archivo cambie. Todas las conexiones
+     * leen en el mismo pool {@code readers}, creado una vez al arrancar: las consultas concurrentes
+     * reparten sus hilos en lugar de crear cada una un pool propio.
+     */
+    private static void serve(int port, int cacheSize, ForkJoinPool readers, int threads, Summation summation,
+                              Double errorRate)
+            throws IOException {
+        StatsCache cache = new StatsCache(cacheSize, path -> {
+            Totals totals = compute(path.toString(), readers, threads, summation, 0, errorRate, null);
+            return new StatsCache.Result(totals.stats.count(), totals.meanOrNaN(), totals.stdDevOrNaN(),
+                    totals.errors == null ? 0 : totals.errors.errorCount());
+        });
+        try (StatsServer server = new StatsServer(port, cache)) {
+            System.out.printf(Locale.ROOT, "Escuchando en 127.0.0.1:%d%n", server.port());
+            server.serve();
+        }
+    }
+
+    private static void printFinal(Totals totals) {
+        printErrors("", totals.errors);
+        printIncremental("", totals.incremental);
+        System.out.printf(Locale.ROOT, "Media: %.2f%n", totals.mean());
+        System.out.printf(Locale.ROOT, "Desviación estándar muestral: %.2f%n", totals.stats.sampleStdDev());
+    }
+
+    /** Informa por la salida de error los tokens omitidos en modo tolerante, si hubo alguno */
+    private static void printErrors(String prefix, ParseErrors errors) {
+        if (errors == null || errors.errorCount() == 0) return;
+        System.err.println(prefix + "Omitidos " + errors);
+        List<ParseErrors.Entry> recorded = errors.recorded();
+        for (int i = 0; i < Math.min(SHOWN_ERRORS, recorded.size()); i++) {
+            System.err.println("  " + recorded.get(i));
+        }
+        if (errors.errorCount() > SHOWN_ERRORS) {
+            System.err.println("  ... (" + (errors.errorCount() - SHOWN_ERRORS) + " más)");
+        }
+    }
+
+    /** Informa por la salida de error desde dónde se retomó un archivo en modo incremental */
+    private static void printIncremental(String prefix, IncrementalReader.Result result) {
+        if (result == null) return;
+        if (result.resumedAt() > 0) {
+            System.err.printf(Locale.ROOT, "%sIncremental: %d valores nuevos desde el byte %d%n",
+                    prefix, result.newValues(), result.resumedAt());
+        } else if (result.reset()) {
+            System.err.println(prefix + "El archivo fue truncado o reescrito desde el último checkpoint: lectura completa");
+        }
+    }
+
+    private static String format(double value) {
+        return Double.isNaN(value) ? "-" : String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    /**
+     * Calcula los totales de un archivo. Los binarios con estadísticas precalculadas no se leen
+     * salvo que se pida una estrategia de suma; los de texto se leen en una sola pasada en
+     * streaming, con memoria constante sin importar el tamaño del archivo. Con {@code every} &gt; 0
+     * la lectura es secuencial para poder informar resultados parciales en orden. Con
+     * {@code errorRate} no nulo los tokens inválidos se omiten hasta esa fracción. Con
+     * {@code checkpoints} no nulo los archivos de texto se retoman desde su checkpoint. Con
+     * {@code readers} no nulo los archivos de texto grandes se parsean por rangos en ese pool, con
+     * {@code threads} hilos (los pedidos con --threads; 0 usa todo el pool).
+     */
+    private static Totals compute(String path, ForkJoinPool readers, int threads, Summation summation, long every,
+                                  Double errorRate, IncrementalReader checkpoints) throws IOException {
+        Totals totals = new Totals(summation, every);
+        if (BinaryDoubleReader.isBinary(path)) {
+            BinaryDoubleReader reader = new BinaryDoubleReader();
+            BinaryHeader header = reader.header(path);
+            if (summation == null && every == 0 && header.hasStats()) {
+                totals.stats.combine(header.stats());
+            } else {
+                reader.read(path, totals);
+            }
+            return totals;
+        }
+        if (checkpoints != null) {
+            totals.incremental = checkpoints.read(path);
+            totals.stats.combine(totals.incremental.stats());
+            return totals;
+        }
+        ParseErrors errors = errorRate == null ? null : new ParseErrors(errorRate);
+        DoubleFileReader reader = new DoubleFileReader(errors);
+        if (readers != null && every == 0 && errors == null) {
+            int perFile = threads > 0 ? threads : readers.getParallelism();
+            return reader.readParallel(path, perFile, readers, () -> new Totals(summation, 0), Totals::combine);
         }
+        reader.readMapped(path, totals);
+        totals.errors = errors;
+        return totals;
+    }
+
+    /**
+     * Pool de lectura del proceso, o null si la lectura es secuencial (--threads 1 o un solo
+     * procesador). Con --threads N tiene N hilos por cada uno de los {@code files} archivos
+     * simultáneos; si no se indicó (0), tantos como procesadores, compartidos por todos.
+     * DoubleFileReader.readParallel decide luego por tamaño: un archivo que no llega a dos
+     * rangos mínimos se lee secuencialmente.
+     */
+    private static ForkJoinPool readerPool(int threads, int files) {
+        if (threads == 1) return null;
+        long size = threads > 0 ? (long) threads * files : Runtime.getRuntime().availableProcessors();
+        return size > 1 ? new ForkJoinPool((int) Math.min(size, MAX_POOL_SIZE)) : null;
+    }
+
+    private static int parsePositiveInt(String value) {
+        try {
+            int n = Integer.parseInt(value);
+            if (n >= 1) return n;
+        } catch (NumberFormatException ignored) {
+            // se reporta con la ayuda
+        }
+        System.err.println("Valor inválido: " + value);
+        usage();
+        return -1;
+    }
+
+    private static int parsePort(String value) {
+        int port = parsePositiveInt(value);
+        if (port <= 65535) return port;
+        System.err.println("Puerto inválido: " + value);
+        usage();
+        return -1;
+    }
+
+    private static boolean parseOnError(String value) {
+        if ("skip".equals(value)) return true;
+        if ("fail".equals(value)) return false;
+        System.err.println("Valor inválido para --on-error (skip|fail): " + value);
+        usage();
+        return false;
+    }
+
+    private static boolean parseMetrics(String value) {
+        if ("json".equals(value)) return true;
+        System.err.println("Formato de métricas no soportado (json): " + value);
+        usage();
+        return false;
+    }
+
+    private static double parseRate(String value) {
+        try {
+            double rate = Double.parseDouble(value);
+            if (rate >= 0.0 && rate <= 1.0) return rate;
+        } catch (NumberFormatException ignored) {
+            // se reporta con la ayuda
+        }
+        System.err.println("Valor inválido para --max-error-rate (fracción entre 0 y 1): " + value);
+        usage();
+        return -1;
+    }
+
+    private static Summation parseSummation(String value) {
+        try {
+            return Summation.parse(value);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            usage();
+            return null;
+        }
+    }
+
+    /**
+     * RunningStats para la desviación y, si se eligió una estrategia, su acumulador para la media.
+     * Con {@code every} &gt; 0 imprime los resultados acumulados cada {@code every} valores.
+     * {@code errors} es el reporte de la lectura tolerante (null en modo estricto) e
+     * {@code incremental} el de la lectura incremental (null si no se usó).
+     */
+    private static final class Totals implements DoubleConsumer {
+        final RunningStats stats = new RunningStats();
+        final Summation.Accumulator sum;
+        private final long every;
+        ParseErrors errors;
+        IncrementalReader.Result incremental;
+
+        Totals(Summation summation, long every) {
+            this.sum = summation == null ? null : summation.newAccumulator();
+            this.every = every;
+        }
+
+        @Override
+        public void accept(double value) {
+            stats.accept(value);
+            if (sum != null) sum.accept(value);
+            if (every > 0 && stats.count() % every == 0) {
+                System.out.printf(Locale.ROOT, "n=%d, media=%s, s=%s%n",
+                        stats.count(), format(meanOrNaN()), format(stdDevOrNaN()));
+            }
+        }
+
+        /** Media con la estrategia de suma elegida, o la de Welford; lanza si no hay datos */
+        double mean() {
+            return sum == null ? stats.mean() : sum.sum() / sum.count();
+        }
+
+        /** Media o NaN si no hay datos, para los informes por archivo */
+        double meanOrNaN() {
+            return stats.count() == 0 ? Double.NaN : mean();
+        }
+
+        /** Desviación estándar muestral o NaN si hay menos de 2 datos */
+        double stdDevOrNaN() {
+            return stats.count() < 2 ? Double.NaN : stats.sampleStdDev();
+        }
+
+        Totals combine(Totals other) {
+            stats.combine(other.stats);
+            if (sum != null) sum.combine(other.sum);
+            return this;
+        }
+    }
+
+    private static void usage() {
+        System.err.println(USAGE);
+        System.exit(1);
     }
 }
@@ -0,0 +1,87 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.io.IncrementalReader;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Expande los argumentos de entrada del CLI a una lista de archivos
+ * Reglas:
+ *   -Un archivo se usa tal cual
+ *   -Un directorio aporta sus archivos regulares (sin recorrer subdirectorios), en orden alfabético
+ *   -Un patrón glob ({@code *}, {@code ?}, {@code [..]}, {@code {..}}) se resuelve desde el directorio
+ *    anterior al primer comodín; {@code **} cruza directorios
+ *   -Los directorios y globs omiten los checkpoints de la lectura incremental ({@code *.gstats});
+ *    un checkpoint nombrado explícitamente se usa tal cual
+ *   -Los duplicados se descartan conservando el primer orden de aparición
+ */
+final class InputFiles {
+
+    private InputFiles() { }
+
+    /**
+     * @param specs rutas, directorios o patrones glob en el orden dado por el usuario
+     * @return archivos a procesar
+     * @throws IOException si una ruta no existe, un patrón no encuentra archivos o falla la E/S
+     */
+    static List<Path> expand(List<String> specs) throws IOException {
+        Set<Path> files = new LinkedHashSet<>();
+        for (String spec : specs) {
+            int glob = firstGlobChar(spec);
+            if (glob >= 0) {
+                List<Path> matches = matchGlob(spec, glob);
+                if (matches.isEmpty()) throw new IOException("Ningún archivo coincide con: " + spec);
+                files.addAll(matches);
+                continue;
+            }
+            Path path = Path.of(spec);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> children = Files.list(path)) {
+                    children.filter(InputFiles::isDataFile).sorted().forEach(files::add);
+                }
+            } else if (Files.isRegularFile(path)) {
+                files.add(path);
+            } else {
+                throw new IOException("No existe el archivo: " + spec);
+            }
+        }
+        return new ArrayList<>(files);
+    }
+
+    private static boolean isDataFile(Path path) {
+        String name = path.getFileName().toString();
+        return Files.isRegularFile(path) && !name.endsWith(IncrementalReader.SUFFIX)
+                && !name.endsWith(IncrementalReader.SUFFIX + ".tmp");
+    }
+
+    private static int firstGlobChar(String spec) {
+        for (int i = 0; i < spec.length(); i++) {
+            char c = spec.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == '{') return i;
+        }
+        return -1;
+    }
+
+    private static List<Path> matchGlob(String spec, int firstGlob) throws IOException {
+        int slash = Math.max(spec.lastIndexOf('/', firstGlob), spec.lastIndexOf('\\', firstGlob));
+        Path base = slash < 0 ? Path.of(".") : Path.of(spec.substring(0, slash + 1));
+        String pattern = spec.substring(slash + 1);
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        if (!Files.isDirectory(base)) return List.of();
+        try (Stream<Path> walk = Files.walk(base)) {
+            return walk.filter(InputFiles::isDataFile)
+                    .filter(p -> matcher.matches(base.relativize(p)))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package edu.eci.arsw.generics;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Caché LRU acotada de resultados por archivo, para el modo servidor de {@link App}
+ * Características:
+ *   -La clave es la ruta real del archivo; cada entrada guarda su huella: tamaño, fecha de
+ *    modificación y, desde la primera vez que hizo falta comparar, CRC32C del contenido
+ *   -Una consulta con el mismo tamaño y fecha es un acierto sin leer el archivo (solo un stat)
+ *   -Un archivo nuevo o que cambió de tamaño se procesa sin calcular el CRC32C, así un fallo de
+ *    caché lee el archivo una sola vez
+ *   -Si solo cambió la fecha se calcula el CRC32C y se guarda con la entrada: si coincide con el
+ *    guardado (por ejemplo tras un touch) se reutiliza el resultado, si no (o si aún no había uno)
+ *    el archivo se vuelve a procesar; desde entonces los touch siguientes son aciertos
+ *   -Los archivos borrados salen de la caché en la siguiente consulta, también si se consultaban
+ *    por un enlace simbólico (se recuerda la ruta real de cada ruta pedida)
+ *   -Al superar el máximo de entradas se descarta la usada hace más tiempo
+ * Como con cualquier huella por fecha, una modificación que conserva el tamaño dentro de la misma
+ * marca de tiempo del sistema de archivos no se detecta.
+ */
+final class StatsCache {
+
+    /** Tamaño de cada región mapeada al calcular el CRC32C */
+    private static final long HASH_CHUNK = 64L << 20;
+
+    /**
+     * Resultado de procesar un archivo.
+     *
+     * @param count cantidad de valores
+     * @param mean media (NaN si no hay datos)
+     * @param stdDev desviación estándar muestral (NaN con menos de 2 datos)
+     * @param skipped tokens inválidos omitidos en modo tolerante
+     */
+    record Result(long count, double mean, double stdDev, long skipped) { }
+
+    /**
+     * Resultado de una consulta.
+     *
+     * @param result resultado del archivo
+     * @param hit true si se obtuvo de la caché sin volver a procesar el archivo
+     */
+    record Lookup(Result result, boolean hit) { }
+
+    /** Procesa un archivo completo; se llama fuera del lock de la caché */
+    @FunctionalInterface
+    interface Loader {
+        Result load(Path path) throws IOException;
+    }
+
+    /** Valor de {@code checksum} mientras no se haya calculado el CRC32C de la versión procesada */
+    private static final long UNKNOWN = -1;
+
+    /** {@code checksum} es el CRC32C de la versión procesada, o {@link #UNKNOWN} */
+    private record Entry(long size, long modified, long checksum, Result result) { }
+
+    private final Loader loader;
+    private final Map<Path, Entry> entries;
+    /** Ruta pedida (absoluta y normalizada) → ruta real, para las que no coinciden */
+    private final Map<Path, Path> realPaths;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param maxEntries máximo de archivos en caché
+     * @param loader cálculo de un archivo cuando no está en caché o cambió
+     * @throws IllegalArgumentException si {@code maxEntries} &lt; 1
+     */
+    StatsCache(int maxEntries, Loader loader) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("La caché debe admitir al menos 1 entrada.");
+        }
+        this.loader = loader;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.realPaths = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Path> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Obtiene el resultado de un archivo, de la caché si su huella no cambió.
+     * Dos consultas simultáneas del mismo archivo modificado pueden procesarlo ambas; la última gana.
+     *
+     * @param file archivo a consultar
+     * @return resultado y si fue un acierto
+     * @throws IOException si el archivo no existe o falla su lectura
+     */
+    Lookup get(Path file) throws IOException {
+        Path requested = file.toAbsolutePath().normalize();
+        Path key;
+        BasicFileAttributes attrs;
+        try {
+            key = file.toRealPath();
+            attrs = Files.readAttributes(key, BasicFileAttributes.class);
+        } catch (NoSuchFileException ex) {
+            synchronized (this) {
+                Path real = realPaths.remove(requested);
+                entries.remove(real != null ? real : requested);
+            }
+            throw new NoSuchFileException(file.toString(), null, "No existe el archivo");
+        }
+        long size = attrs.size();
+        long modified = attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+        Entry cached;
+        synchronized (this) {
+            if (!requested.equals(key)) realPaths.put(requested, key);
+            cached = entries.get(key);
+            if (cached != null && cached.size == size && cached.modified == modified) {
+                hits++;
+                return new Lookup(cached.result, true);
+            }
+        }
+        long checksum = UNKNOWN;
+        if (cached != null && cached.size == size) {
+            // Solo cambió la fecha: comparar el contenido antes de volver a procesar
+            checksum = checksum(key);
+            if (cached.checksum == checksum) {
+                synchronized (this) {
+                    hits++;
+                    entries.put(key, new Entry(size, modified, checksum, cached.result));
+                }
+                return new Lookup(cached.result, true);
+            }
+        }
+        Result result = loader.load(key);
+        synchronized (this) {
+            misses++;
+            entries.put(key, new Entry(size, modified, checksum, result));
+        }
+        return new Lookup(result, false);
+    }
+
+    /**
+     * Descarta todas las entradas.
+     */
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return cantidad de archivos en caché
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return consultas respondidas sin procesar el archivo
+     */
+    synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * @return consultas que procesaron el archivo
+     */
+    synchronized long misses() {
+        return misses;
+    }
+
+    /** CRC32C del contenido completo, por regiones mapeadas (intrínseco en HotSpot) */
+    private static long checksum(Path file) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long pos = 0; pos < size; pos += HASH_CHUNK) {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(HASH_CHUNK, size - pos));
+                crc.update(region);
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,139 @@
+package edu.eci.arsw.generics;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servidor residente de estadísticas ({@code App --serve}): la JVM, el JIT y la {@link StatsCache}
+ * quedan calientes entre consultas
+ * Protocolo (TCP en 127.0.0.1, una línea UTF-8 por petición y por respuesta):
+ *   -{@code STATS <ruta>}: {@code OK n=<n> media=<m> s=<s> omitidos=<k> cache=hit|miss}; la media y s
+ *    van con todos sus dígitos (NaN si no hay datos suficientes) y la ruta es relativa al directorio del servidor
+ *   -{@code CACHE}: {@code OK entradas=<e> aciertos=<h> fallos=<f>}
+ *   -{@code CLEAR}: vacía la caché
+ *   -{@code PING}: {@code OK pong}
+ *   -{@code QUIT}: cierra la conexión; {@code SHUTDOWN}: detiene el servidor
+ *   -Cualquier fallo responde {@code ERR <mensaje>} y la conexión sigue abierta
+ * Cada conexión se atiende en su propio hilo, así que un cliente puede mantenerla abierta
+ * para varias consultas sin bloquear a los demás.
+ */
+final class StatsServer implements Closeable {
+
+    private final ServerSocket socket;
+    private final StatsCache cache;
+    private final ExecutorService connections = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "stats-server-connection");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Abre el puerto en la interfaz local; las consultas se atienden al llamar a {@link #serve()}.
+     *
+     * @param port puerto TCP, o 0 para uno libre (ver {@link #port()})
+     * @param cache caché con el cálculo por archivo
+     * @throws IOException si el puerto no está disponible
+     */
+    StatsServer(int port, StatsCache cache) throws IOException {
+        this.socket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.cache = cache;
+    }
+
+    /**
+     * @return puerto en el que escucha el servidor
+     */
+    int port() {
+        return socket.getLocalPort();
+    }
+
+    /**
+     * Acepta conexiones hasta recibir {@code SHUTDOWN} o hasta que se llame a {@link #close()}.
+     *
+     * @throws IOException si falla la aceptación de conexiones
+     */
+    void serve() throws IOException {
+        while (!socket.isClosed()) {
+            Socket client;
+            try {
+                client = socket.accept();
+            } catch (SocketException ex) {
+                if (socket.isClosed()) return;
+                throw ex;
+            }
+            connections.execute(() -> handle(client));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+        connections.shutdownNow();
+    }
+
+    private void handle(Socket client) {
+        try (client;
+             BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8), true)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.strip();
+                if ("QUIT".equals(command)) {
+                    out.println("OK");
+                    return;
+                }
+                if ("SHUTDOWN".equals(command)) {
+                    out.println("OK");
+                    close();
+                    return;
+                }
+                out.println(respond(command));
+            }
+        } catch (IOException ex) {
+            // el cliente cerró la conexión o el servidor se detuvo
+        }
+    }
+
+    /** Respuesta de una línea para una petición que no cierra la conexión */
+    private String respond(String command) {
+        try {
+            if (command.startsWith("STATS ")) {
+                StatsCache.Lookup lookup = cache.get(Path.of(command.substring(6).strip()));
+                StatsCache.Result result = lookup.result();
+                return String.format(Locale.ROOT, "OK n=%d media=%s s=%s omitidos=%d cache=%s",
+                        result.count(), result.mean(), result.stdDev(), result.skipped(), lookup.hit() ? "hit" : "miss");
+            }
+            switch (command) {
+                case "CACHE":
+                    return String.format(Locale.ROOT, "OK entradas=%d aciertos=%d fallos=%d",
+                            cache.size(), cache.hits(), cache.misses());
+                case "CLEAR":
+                    cache.clear();
+                    return "OK";
+                case "PING":
+                    return "OK pong";
+                default:
+                    return "ERR Comando desconocido (STATS <ruta>|CACHE|CLEAR|PING|QUIT|SHUTDOWN): " + command;
+            }
+        } catch (IOException | IllegalArgumentException | IllegalStateException ex) {
+            // incluye InvalidPathException y NumberFormatException (token inválido o tasa de errores superada)
+            return "ERR " + oneLine(ex.getMessage());
+        }
+    }
+
+    private static String oneLine(String message) {
+        return message == null ? "" : message.replace('\r', ' ').replace('\n', ' ');
+    }
+}
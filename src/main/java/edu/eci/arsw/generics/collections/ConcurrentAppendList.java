@@ -0,0 +1,229 @@
+package edu.eci.arsw.generics.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Lista concurrente solo-de-añadir para varios productores
+ * Características:
+ *   -Cada hilo escribe en su propio segmento, así los productores no compiten por ningún
+ *    monitor ni por la misma línea de caché: add(E) no usa locks ni CAS salvo la primera
+ *    vez que un hilo añade (registro de su segmento)
+ *   -La lista guarda qué segmento tiene cada hilo (no un ThreadLocal): los hilos de larga
+ *    vida no retienen la lista, que se recolecta al dejar de usarse
+ *   -El segmento de un hilo que llamó a {@link #release()} o que terminó pasa al siguiente
+ *    productor nuevo, así la cantidad de segmentos es la de productores simultáneos y no la
+ *    de hilos que alguna vez añadieron (por ejemplo un hilo virtual por tarea)
+ *   -Los segmentos se enlazan al leer: el orden es el de inserción dentro de cada hilo,
+ *    sin orden definido entre hilos distintos
+ *   -size() suma los contadores publicados de cada segmento (una foto del momento)
+ *   -Iteración débilmente consistente: nunca lanza ConcurrentModificationException y
+ *    ve al menos los elementos publicados antes de que el iterador llegue a cada segmento
+ *   -Acceso por índice en O(cantidad de segmentos)
+ * No admite set, remove ni clear (operaciones opcionales de List).
+ *
+ * @param <E> tipo de elemento.
+ */
+public class ConcurrentAppendList<E> extends AbstractList<E> {
+
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * Segmento de un único hilo escritor. El escritor guarda el elemento y luego
+     * publica el nuevo {@code count} con una escritura volatile; un lector que lee
+     * {@code count} primero ve todos los elementos y bloques anteriores.
+     */
+    static final class Segment<E> {
+        /** Directorio de bloques de CHUNK_SIZE elementos; se reemplaza (copia) al crecer */
+        volatile Object[][] chunks = new Object[4][];
+        volatile int count;
+        final Segment<E> next;
+
+        Segment(Segment<E> next) {
+            this.next = next;
+        }
+
+        /** Solo lo invoca el hilo dueño del segmento. */
+        void append(E e) {
+            int n = count;
+            int chunk = n >>> CHUNK_SHIFT;
+            Object[][] dir = chunks;
+            if (chunk == dir.length) {
+                dir = Arrays.copyOf(dir, dir.length << 1);
+                chunks = dir;
+            }
+            if (dir[chunk] == null) dir[chunk] = new Object[CHUNK_SIZE];
+            dir[chunk][n & CHUNK_MASK] = e;
+            count = n + 1;
+        }
+
+        @SuppressWarnings("unchecked")
+        E get(Object[][] dir, int i) {
+            return (E) dir[i >>> CHUNK_SHIFT][i & CHUNK_MASK];
+        }
+    }
+
+    /** Cantidad de dueños a partir de la cual se buscan hilos terminados al registrar uno nuevo */
+    private static final int MIN_PURGE = 16;
+
+    /** Pila de segmentos (el más reciente primero), ampliada con CAS al registrar un hilo */
+    private final AtomicReference<Segment<E>> segments = new AtomicReference<>();
+    /** Segmento asignado a cada hilo productor */
+    private final ConcurrentHashMap<Thread, Segment<E>> owners = new ConcurrentHashMap<>();
+    /** Segmentos sin dueño, para reutilizar antes de crear uno nuevo */
+    private final ConcurrentLinkedQueue<Segment<E>> released = new ConcurrentLinkedQueue<>();
+    private volatile int purgeAt = MIN_PURGE;
+
+    private Segment<E> register(Thread thread) {
+        if (owners.size() >= purgeAt) purge();
+        Segment<E> s = released.poll();
+        if (s == null) s = push();
+        owners.put(thread, s);
+        return s;
+    }
+
+    private Segment<E> push() {
+        while (true) {
+            Segment<E> top = segments.get();
+            Segment<E> s = new Segment<>(top);
+            if (segments.compareAndSet(top, s)) return s;
+        }
+    }
+
+    /**
+     * Libera los segmentos de hilos terminados. Que isAlive() sea false garantiza que sus
+     * escrituras son visibles para el próximo dueño. El umbral se duplica para que el costo
+     * por registro sea O(1) amortizado aunque todos los hilos sigan vivos.
+     */
+    private void purge() {
+        for (Map.Entry<Thread, Segment<E>> entry : owners.entrySet()) {
+            if (!entry.getKey().isAlive() && owners.remove(entry.getKey(), entry.getValue())) {
+                released.offer(entry.getValue());
+            }
+        }
+        purgeAt = Math.max(MIN_PURGE, owners.size() << 1);
+    }
+
+    /**
+     * Añade un elemento al segmento del hilo actual. Seguro para llamadas concurrentes.
+     *
+     * @param e elemento a añadir
+     * @return siempre true
+     */
+    @Override
+    public boolean add(E e) {
+        Thread thread = Thread.currentThread();
+        Segment<E> s = owners.get(thread);
+        if (s == null) s = register(thread);
+        s.append(e);
+        return true;
+    }
+
+    /**
+     * Indica que el hilo actual terminó de producir: su segmento, con los elementos ya
+     * añadidos, pasa al próximo hilo que añada. Conviene llamarlo al final de cada tarea
+     * cuando los productores son de corta vida o de un pool; si el hilo vuelve a añadir
+     * recibe otro segmento. No tiene efecto si el hilo no añadió nada.
+     */
+    public void release() {
+        Segment<E> s = owners.remove(Thread.currentThread());
+        if (s != null) released.offer(s);
+    }
+
+    /**
+     * Suma los elementos publicados en todos los segmentos en este momento.
+     */
+    @Override
+    public int size() {
+        long total = 0;
+        for (Segment<E> s = segments.get(); s != null; s = s.next) total += s.count;
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Segment<E> s = segments.get(); s != null; s = s.next) {
+            if (s.count > 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Retorna el elemento en la posición dada según el orden de iteración actual.
+     * Con productores activos el resultado corresponde a una foto del momento de la llamada.
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0) throw new IndexOutOfBoundsException("Índice fuera de rango: " + index);
+        int i = index;
+        for (Segment<E> s = segments.get(); s != null; s = s.next) {
+            int n = s.count;
+            if (i < n) return s.get(s.chunks, i);
+            i -= n;
+        }
+        throw new IndexOutOfBoundsException("Índice fuera de rango: " + index);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Segment<E> s = segments.get(); s != null; s = s.next) {
+            int n = s.count;
+            Object[][] dir = s.chunks;
+            for (int i = 0; i < n; i++) action.accept(s.get(dir, i));
+        }
+    }
+
+    /** Iterador débilmente consistente: recorre cada segmento hasta el contador leído al entrar en él. */
+    private class Itr implements Iterator<E> {
+        Segment<E> segment = segments.get();
+        Object[][] dir;
+        int limit;
+        int cursor;
+
+        Itr() {
+            enter();
+        }
+
+        private void enter() {
+            while (segment != null) {
+                limit = segment.count;
+                dir = segment.chunks;
+                cursor = 0;
+                if (limit > 0) return;
+                segment = segment.next;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return segment != null;
+        }
+
+        @Override
+        public E next() {
+            if (segment == null) throw new NoSuchElementException();
+            E e = segment.get(dir, cursor++);
+            if (cursor == limit) {
+                segment = segment.next;
+                enter();
+            }
+            return e;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package edu.eci.arsw.generics.collections;
+
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Lista de doubles respaldada por un arreglo primitivo que crece según se necesite
+ * Características:
+ *   -Sin boxing interno: cada elemento ocupa 8 bytes contiguos en un code double[]
+ *   -Implementa List&lt;Double&gt; para compatibilidad con la API de Collections
+ *   -Accesos primitivos (getDouble, addDouble, setDouble) sin crear objetos Double
+ *   -Iterador fail-fast heredado de AbstractList mediante code modCount
+ * No admite elementos nulos.
+ */
+public class DoubleList extends AbstractList<Double> implements RandomAccess, DoubleConsumer {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    /** Tamaño máximo de arreglo que admiten la mayoría de JVM */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private double[] elements;
+    private int size;
+
+    /**
+     * Crea una lista vacía con la capacidad por defecto.
+     */
+    public DoubleList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Crea una lista vacía con la capacidad inicial indicada.
+     *
+     * @param initialCapacity capacidad inicial (&gt;= 0)
+     * @throws IllegalArgumentException si la capacidad es negativa
+     */
+    public DoubleList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacidad inicial negativa: " + initialCapacity);
+        }
+        this.elements = new double[initialCapacity];
+    }
+
+    /**
+     * Crea una lista con una copia de los valores dados.
+     *
+     * @param values valores iniciales
+     */
+    public DoubleList(double[] values) {
+        Objects.requireNonNull(values, "El arreglo no puede ser nulo");
+        this.elements = Arrays.copyOf(values, Math.max(values.length, DEFAULT_CAPACITY));
+        this.size = values.length;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Capacidad requerida demasiado grande: " + minCapacity);
+        }
+        int oldCapacity = elements.length;
+        int newCapacity = oldCapacity + (oldCapacity >> 1);
+        if (newCapacity - minCapacity < 0) newCapacity = Math.max(minCapacity, DEFAULT_CAPACITY);
+        if (newCapacity - MAX_ARRAY_SIZE > 0) newCapacity = MAX_ARRAY_SIZE;
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + index);
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + index);
+    }
+
+    private static double unbox(Double element) {
+        return Objects.requireNonNull(element, "DoubleList no admite valores nulos");
+    }
+
+    // ---------- Accesos primitivos ----------
+
+    /**
+     * Retorna el valor en la posición dada sin boxing.
+     *
+     * @param index posición del elemento
+     * @return valor almacenado
+     * @throws IndexOutOfBoundsException si el índice es inválido
+     */
+    public double getDouble(int index) {
+        checkElementIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Añade un valor al final de la lista sin boxing (O(1) amortizado).
+     *
+     * @param value valor a añadir
+     */
+    public void addDouble(double value) {
+        modCount++;
+        if (size == elements.length) grow(size + 1);
+        elements[size++] = value;
+    }
+
+    /**
+     * Reemplaza el valor en la posición dada sin boxing.
+     *
+     * @param index posición del elemento
+     * @param value nuevo valor
+     * @return valor anterior
+     * @throws IndexOutOfBoundsException si el índice es inválido
+     */
+    public double setDouble(int index, double value) {
+        checkElementIndex(index);
+        double old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    /**
+     * Añade todos los valores del arreglo al final de la lista.
+     *
+     * @param values valores a añadir
+     */
+    public void addAllDoubles(double[] values) {
+        Objects.requireNonNull(values, "El arreglo no puede ser nulo");
+        modCount++;
+        int newSize = size + values.length;
+        if (newSize > elements.length) grow(newSize);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size = newSize;
+    }
+
+    /**
+     * Equivale a {@link #addDouble(double)}; permite usar la lista como destino de un flujo de doubles.
+     *
+     * @param value valor a añadir
+     */
+    @Override
+    public void accept(double value) {
+        addDouble(value);
+    }
+
+    /**
+     * Recorre los valores en orden sin boxing.
+     *
+     * @param action acción a aplicar a cada valor
+     */
+    public void forEachDouble(DoubleConsumer action) {
+        Objects.requireNonNull(action, "La acción no puede ser nula");
+        final int expectedModCount = modCount;
+        final double[] es = elements;
+        final int n = size;
+        for (int i = 0; i < n; i++) {
+            action.accept(es[i]);
+        }
+        if (modCount != expectedModCount) throw new java.util.ConcurrentModificationException();
+    }
+
+    /**
+     * Retorna una copia de los valores en un arreglo del tamaño exacto.
+     *
+     * @return arreglo nuevo con los valores
+     */
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Retorna una vista de solo lectura (sin copia) de los valores actuales.
+     * La vista deja de reflejar la lista si ésta vuelve a crecer.
+     *
+     * @return buffer de solo lectura con posición 0 y límite {@link #size()}
+     */
+    public DoubleBuffer asDoubleBuffer() {
+        return DoubleBuffer.wrap(elements, 0, size).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Asegura capacidad para al menos {@code minCapacity} elementos.
+     *
+     * @param minCapacity capacidad mínima deseada
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Reduce la capacidad al tamaño actual de la lista.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            modCount++;
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    // ---------- Métodos List ----------
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public Double set(int index, Double element) {
+        return setDouble(index, unbox(element));
+    }
+
+    @Override
+    public boolean add(Double element) {
+        addDouble(unbox(element));
+        return true;
+    }
+
+    @Override
+    public void add(int index, Double element) {
+        checkPositionIndex(index);
+        double value = unbox(element);
+        modCount++;
+        if (size == elements.length) grow(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    @Override
+    public Double remove(int index) {
+        checkElementIndex(index);
+        modCount++;
+        double old = elements[index];
+        int moved = size - index - 1;
+        if (moved > 0) System.arraycopy(elements, index + 1, elements, index, moved);
+        size--;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Double d)) return -1;
+        double v = d;
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(elements[i], v) == 0) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (!(o instanceof Double d)) return -1;
+        double v = d;
+        for (int i = size - 1; i >= 0; i--) {
+            if (Double.compare(elements[i], v) == 0) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] arr = new Object[size];
+        for (int i = 0; i < size; i++) arr[i] = elements[i];
+        return arr;
+    }
+}
@@ -0,0 +1,295 @@
+package edu.eci.arsw.generics.collections;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Lista de doubles fuera del heap, para datasets que no caben en -Xmx
+ * Características:
+ *   -Los valores viven en segmentos de {@value #SEGMENT_SIZE} doubles de memoria directa
+ *    ({@link #direct()}) o mapeados sobre un archivo ({@link #mapped(Path)}); el heap solo
+ *    guarda el directorio de segmentos, así que el GC no copia ni recorre los datos
+ *   -Crece segmento a segmento, sin copiar lo ya escrito
+ *   -Índices long: {@link #longSize()} y {@link #getDouble(long)} superan el límite de int;
+ *    como List&lt;Double&gt; size() se satura en Integer.MAX_VALUE
+ *   -Accesos primitivos (getDouble, addDouble, setDouble) sin crear objetos Double y
+ *    vistas por segmento ({@link #asDoubleBuffers()}) que recorre {@code Stats}
+ *   -Solo admite añadir al final, reemplazar y clear: add(int, E) y remove(int) no están soportados
+ * La memoria directa está limitada por -XX:MaxDirectMemorySize (por defecto igual a -Xmx);
+ * para datasets mayores que la RAM usar la versión mapeada, que el sistema operativo
+ * pagina al disco. Tras {@link #close()} la lista lanza IllegalStateException; las vistas ya
+ * obtenidas siguen siendo legibles hasta que el GC las recolecta, momento en que se libera la
+ * memoria o se desmapea el archivo (la JVM no permite desmapear antes).
+ * No es segura para hilos.
+ */
+public final class OffHeapDoubleList extends AbstractList<Double> implements RandomAccess, DoubleConsumer, AutoCloseable {
+
+    private static final int SEGMENT_SHIFT = 20;
+    /** Doubles por segmento (8 MiB) */
+    public static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final long SEGMENT_BYTES = (long) SEGMENT_SIZE * Double.BYTES;
+    /** Bytes de la cabecera del archivo mapeado: cantidad de valores (long little-endian) */
+    public static final int HEADER_BYTES = Long.BYTES;
+
+    /** Archivo de respaldo, o null si la memoria es directa */
+    private final FileChannel channel;
+    private DoubleBuffer[] segments = new DoubleBuffer[4];
+    private int segmentCount;
+    private long size;
+    private boolean closed;
+
+    private OffHeapDoubleList(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Crea una lista vacía en memoria directa (fuera del heap).
+     *
+     * @return lista vacía
+     */
+    public static OffHeapDoubleList direct() {
+        return new OffHeapDoubleList(null);
+    }
+
+    /**
+     * Crea una lista vacía respaldada por un archivo mapeado en memoria. El archivo se crea o
+     * se vacía. Empieza con una cabecera de {@value #HEADER_BYTES} bytes con la cantidad de valores
+     * (long little-endian, escrita al cerrar) seguida de los valores como doubles little-endian;
+     * el archivo no se recorta al cerrar, porque no se puede acortar mientras siga mapeado, así
+     * que su tamaño es el de los segmentos reservados y la cantidad válida es la de la cabecera.
+     *
+     * @param file archivo de respaldo
+     * @return lista vacía
+     * @throws IOException si no se puede abrir el archivo
+     */
+    public static OffHeapDoubleList mapped(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            writeHeader(channel, 0);
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+        return new OffHeapDoubleList(channel);
+    }
+
+    private static void writeHeader(FileChannel channel, long count) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, count);
+        while (header.hasRemaining()) channel.write(header, header.position());
+    }
+
+    private DoubleBuffer newSegment() {
+        if (channel == null) {
+            return ByteBuffer.allocateDirect((int) SEGMENT_BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        }
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + segmentCount * SEGMENT_BYTES, SEGMENT_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo ampliar el archivo de respaldo", ex);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) throw new IllegalStateException("La lista está cerrada");
+    }
+
+    /** Tras cerrar size es 0, así que todo índice falla aquí y se reporta la lista cerrada */
+    private void checkElementIndex(long index) {
+        if (index < 0 || index >= size) {
+            checkOpen();
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + index);
+        }
+    }
+
+    private static double unbox(Double element) {
+        return Objects.requireNonNull(element, "OffHeapDoubleList no admite valores nulos");
+    }
+
+    // ---------- Accesos primitivos ----------
+
+    /**
+     * @return cantidad de valores, sin el límite de int de {@link #size()}
+     */
+    public long longSize() {
+        return size;
+    }
+
+    /**
+     * Retorna el valor en la posición dada sin boxing.
+     *
+     * @param index posición del elemento
+     * @return valor almacenado
+     * @throws IndexOutOfBoundsException si el índice es inválido
+     */
+    public double getDouble(long index) {
+        checkElementIndex(index);
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) index & SEGMENT_MASK);
+    }
+
+    /**
+     * Añade un valor al final de la lista sin boxing (O(1); reserva un segmento nuevo cada
+     * {@value #SEGMENT_SIZE} valores).
+     *
+     * @param value valor a añadir
+     * @throws IllegalStateException si la lista está cerrada
+     */
+    public void addDouble(double value) {
+        int segment = (int) (size >>> SEGMENT_SHIFT);
+        if (segment == segmentCount) {
+            checkOpen();
+            if (segmentCount == segments.length) segments = Arrays.copyOf(segments, segmentCount << 1);
+            DoubleBuffer fresh = newSegment();
+            segments[segmentCount++] = fresh;
+        }
+        modCount++;
+        segments[segment].put((int) size & SEGMENT_MASK, value);
+        size++;
+    }
+
+    /**
+     * Reemplaza el valor en la posición dada sin boxing.
+     *
+     * @param index posición del elemento
+     * @param value nuevo valor
+     * @return valor anterior
+     * @throws IndexOutOfBoundsException si el índice es inválido
+     */
+    public double setDouble(long index, double value) {
+        checkElementIndex(index);
+        DoubleBuffer segment = segments[(int) (index >>> SEGMENT_SHIFT)];
+        int offset = (int) index & SEGMENT_MASK;
+        double old = segment.get(offset);
+        segment.put(offset, value);
+        return old;
+    }
+
+    /**
+     * Equivale a {@link #addDouble(double)}; permite usar la lista como destino de un flujo de doubles,
+     * por ejemplo {@code DoubleFileReader.read(path, list)}.
+     *
+     * @param value valor a añadir
+     */
+    @Override
+    public void accept(double value) {
+        addDouble(value);
+    }
+
+    /**
+     * Recorre los valores en orden sin boxing, segmento por segmento.
+     *
+     * @param action acción a aplicar a cada valor
+     */
+    public void forEachDouble(DoubleConsumer action) {
+        Objects.requireNonNull(action, "La acción no puede ser nula");
+        checkOpen();
+        final int expectedModCount = modCount;
+        for (DoubleBuffer segment : asDoubleBuffers()) {
+            for (int i = 0, n = segment.limit(); i < n; i++) {
+                action.accept(segment.get(i));
+            }
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Retorna vistas de solo lectura (sin copia) de los segmentos ocupados, en orden. Cada vista
+     * tiene posición 0 y límite igual a sus valores; no reflejan los valores añadidos después.
+     *
+     * @return un buffer por segmento ocupado
+     */
+    public DoubleBuffer[] asDoubleBuffers() {
+        checkOpen();
+        int used = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        DoubleBuffer[] views = new DoubleBuffer[used];
+        for (int s = 0; s < used; s++) {
+            int length = s == used - 1 ? (int) (size - ((long) s << SEGMENT_SHIFT)) : SEGMENT_SIZE;
+            views[s] = segments[s].slice(0, length).asReadOnlyBuffer();
+        }
+        return views;
+    }
+
+    /**
+     * Suelta los segmentos y, si la lista es mapeada, escribe la cantidad de valores en la
+     * cabecera y cierra el archivo. Cerrar dos veces no tiene efecto.
+     *
+     * @throws UncheckedIOException si falla el archivo de respaldo
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        long count = size;
+        segments = new DoubleBuffer[0];
+        segmentCount = 0;
+        size = 0;
+        if (channel == null) return;
+        try (channel) {
+            writeHeader(channel, count);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo cerrar el archivo de respaldo", ex);
+        }
+    }
+
+    // ---------- Métodos List ----------
+
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public Double set(int index, Double element) {
+        return setDouble(index, unbox(element));
+    }
+
+    @Override
+    public boolean add(Double element) {
+        addDouble(unbox(element));
+        return true;
+    }
+
+    /**
+     * Vacía la lista conservando los segmentos ya reservados para reutilizarlos.
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Double d)) return -1;
+        double v = d;
+        long n = Math.min(size, Integer.MAX_VALUE);
+        for (int i = 0; i < n; i++) {
+            if (Double.compare(getDouble(i), v) == 0) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+}
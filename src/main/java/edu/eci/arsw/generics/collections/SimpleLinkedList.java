@@ -1,5 +1,7 @@
 package edu.eci.arsw.generics.collections;
 
+import edu.eci.arsw.generics.metrics.Metrics;
+
 import java.util.*;
 
 /**
@@ -8,6 +10,10 @@ import java.util.*;
  *   -Doble enlace: nodos con code prev y code next
  *   -Accesos por índice en O(n) con búsqueda desde cabeza/cola según el índice
  *   Iterador fail-fast mediante code modCount
+ *   -ListIterator bidireccional O(1) por paso, subList como vista y Spliterator divisible
+ *   -Modo opcional con "dedo" (finger search): recuerda la última posición accedida y
+ *    busca desde ahí, así los accesos secuenciales por índice son O(1) amortizado
+ *   -Cuenta los nodos creados en {@link Metrics} (contador listNodes) si las métricas están activas
  *
  * @param <E> tipo de elemento.
  */
@@ -34,11 +40,39 @@ public class SimpleLinkedList<E> implements List<E> {
     /** Cuenta modificaciones estructurales para iterador fail-fast */
     protected transient int modCount;
 
+    /** Si es true, node(int) parte del último nodo accedido cuando está más cerca */
+    private final boolean fingerSearch;
+    /** Último nodo localizado por índice (null si no hay o quedó invalidado) */
+    private transient Node<E> finger;
+    private transient int fingerIndex;
+
+    /**
+     * Crea una lista vacía con búsqueda por índice desde cabeza o cola.
+     */
+    public SimpleLinkedList() {
+        this(false);
+    }
+
+    /**
+     * Crea una lista vacía, opcionalmente con búsqueda por "dedo": get, set, add(int, E)
+     * y remove(int) parten de la última posición accedida si es la más cercana, de modo
+     * que recorrer la lista con {@code for (i...) list.get(i)} cuesta O(n) en total y no O(n²).
+     * En este modo incluso get modifica estado interno, por lo que tampoco admite lecturas
+     * concurrentes sin sincronización externa.
+     *
+     * @param fingerSearch true para activar la búsqueda desde la última posición accedida
+     */
+    public SimpleLinkedList(boolean fingerSearch) {
+        this.fingerSearch = fingerSearch;
+    }
+
 
     private void linkFirst(E e) {
         Node<E> h = head;
         Node<E> newNode = new Node<>(e, null, h);
+        Metrics.add(Metrics.Counter.LIST_NODES, 1);
         head = newNode;
+        if (finger != null) fingerIndex++;
         if (h == null) {
             tail = newNode;
         } else {
@@ -51,6 +85,7 @@ public class SimpleLinkedList<E> implements List<E> {
     private void linkLast(E e) {
         Node<E> t = tail;
         Node<E> newNode = new Node<>(e, t, null);
+        Metrics.add(Metrics.Counter.LIST_NODES, 1);
         tail = newNode;
         if (t == null) {
             head = newNode;
@@ -64,7 +99,9 @@ public class SimpleLinkedList<E> implements List<E> {
     private void linkBefore(E e, Node<E> succ) {
         Node<E> pred = succ.prev;
         Node<E> newNode = new Node<>(e, pred, succ);
+        Metrics.add(Metrics.Counter.LIST_NODES, 1);
         succ.prev = newNode;
+        finger = null;
         if (pred == null) {
             head = newNode;
         } else {
@@ -78,6 +115,7 @@ public class SimpleLinkedList<E> implements List<E> {
         final E element = x.item;
         final Node<E> next = x.next;
         final Node<E> prev = x.prev;
+        finger = null;
 
         if (prev == null) {
             head = next;
@@ -102,6 +140,7 @@ public class SimpleLinkedList<E> implements List<E> {
 
     private Node<E> node(int index) {
         // index validado por caller
+        if (fingerSearch) return nodeFromFinger(index);
         if (index < (size >> 1)) {
             Node<E> x = head;
             for (int i = 0; i < index; i++) x = x.next;
@@ -113,6 +152,38 @@ public class SimpleLinkedList<E> implements List<E> {
         }
     }
 
+    /**
+     * Busca desde la cabeza, la cola o el dedo (lo más cercano) y mueve el dedo al resultado.
+     */
+    private Node<E> nodeFromFinger(int index) {
+        Node<E> x;
+        Node<E> f = finger;
+        int fromTail = size - 1 - index;
+        int fromFinger = f == null ? Integer.MAX_VALUE : Math.abs(index - fingerIndex);
+        if (fromFinger <= index && fromFinger <= fromTail) {
+            x = f;
+            for (int i = fingerIndex; i < index; i++) x = x.next;
+            for (int i = fingerIndex; i > index; i--) x = x.prev;
+        } else if (index <= fromTail) {
+            x = head;
+            for (int i = 0; i < index; i++) x = x.next;
+        } else {
+            x = tail;
+            for (int i = size - 1; i > index; i--) x = x.prev;
+        }
+        finger = x;
+        fingerIndex = index;
+        return x;
+    }
+
+    /** Deja el dedo en {@code x}, que está en {@code index}, tras una modificación por índice. */
+    private void moveFinger(Node<E> x, int index) {
+        if (fingerSearch && x != null) {
+            finger = x;
+            fingerIndex = index;
+        }
+    }
+
     private void checkPositionIndex(int index) {
         if (index < 0 || index > size)
             throw new IndexOutOfBoundsException("Índice fuera de rango: " + index);
@@ -142,16 +213,22 @@ public class SimpleLinkedList<E> implements List<E> {
 
     @Override
     public Iterator<E> iterator() {
-        return new Itr();
+        return new ListItr(0);
     }
 
-    /** Iterador fail-fast básico (next/remove). */
-    private class Itr implements Iterator<E> {
-        Node<E> next = head;
+    /** Iterador fail-fast bidireccional: cada paso es O(1) siguiendo los enlaces prev/next. */
+    private class ListItr implements ListIterator<E> {
+        Node<E> next;
         Node<E> lastReturned;
-        int nextIndex = 0;
+        int nextIndex;
         int expectedModCount = modCount;
 
+        ListItr(int index) {
+            // index validado por caller
+            next = (index == size) ? null : node(index);
+            nextIndex = index;
+        }
+
         @Override
         public boolean hasNext() {
             return nextIndex < size;
@@ -167,6 +244,30 @@ public class SimpleLinkedList<E> implements List<E> {
             return lastReturned.item;
         }
 
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious()) throw new NoSuchElementException();
+            lastReturned = next = (next == null) ? tail : next.prev;
+            nextIndex--;
+            return lastReturned.item;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
         @Override
         public void remove() {
             if (lastReturned == null) throw new IllegalStateException();
@@ -183,6 +284,23 @@ public class SimpleLinkedList<E> implements List<E> {
             expectedModCount = modCount;
         }
 
+        @Override
+        public void set(E e) {
+            if (lastReturned == null) throw new IllegalStateException();
+            checkForComodification();
+            lastReturned.item = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+            lastReturned = null;
+            if (next == null) linkLast(e);
+            else linkBefore(e, next);
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
         final void checkForComodification() {
             if (modCount != expectedModCount)
                 throw new ConcurrentModificationException();
@@ -226,8 +344,14 @@ public class SimpleLinkedList<E> implements List<E> {
     @Override
     public void add(int index, E element) {
         checkPositionIndex(index);
-        if (index == size) linkLast(element);
-        else linkBefore(element, node(index));
+        if (index == size) {
+            linkLast(element);
+            moveFinger(tail, index);
+        } else {
+            Node<E> succ = node(index);
+            linkBefore(element, succ);
+            moveFinger(succ.prev, index);
+        }
     }
 
     @Override
@@ -244,7 +368,11 @@ public class SimpleLinkedList<E> implements List<E> {
     @Override
     public E remove(int index) {
         checkElementIndex(index);
-        return unlink(node(index));
+        Node<E> x = node(index);
+        Node<E> next = x.next;
+        E old = unlink(x);
+        moveFinger(next, index);
+        return old;
     }
 
     @Override
@@ -257,6 +385,7 @@ public class SimpleLinkedList<E> implements List<E> {
             x = next;
         }
         head = tail = null;
+        finger = null;
         size = 0;
         modCount++;
     }
@@ -298,78 +427,292 @@ public class SimpleLinkedList<E> implements List<E> {
 
     // ----- Operaciones de colección utilitarias -----
 
+    /**
+     * Tamaño a partir del cual las operaciones por pertenencia copian la colección
+     * argumento a un HashSet, para que cada consulta sea O(1) en vez de O(m).
+     */
+    private static final int HASH_LOOKUP_THRESHOLD = 16;
+
+    private static Collection<?> lookupView(Collection<?> c) {
+        if (c instanceof Set<?> || c.size() <= HASH_LOOKUP_THRESHOLD) return c;
+        return new HashSet<>(c);
+    }
+
     @Override
     public boolean containsAll(Collection<?> c) {
         Objects.requireNonNull(c, "La colección no puede ser nula");
-        for (Object e : c) if (!contains(e)) return false;
+        Collection<?> self = c.size() <= HASH_LOOKUP_THRESHOLD ? this : new HashSet<>(this);
+        for (Object e : c) if (!self.contains(e)) return false;
         return true;
     }
 
     @Override
     public boolean addAll(Collection<? extends E> c) {
-        Objects.requireNonNull(c, "La colección no puede ser nula");
-        boolean modified = false;
-        for (E e : c) {
-            add(e);
-            modified = true;
-        }
-        return modified;
+        return addAll(size, c);
     }
 
+    /**
+     * Inserta los elementos de {@code c} en {@code index} conservando su orden.
+     * Se localiza la posición una sola vez y se enlaza una cadena ya construida: O(n + m).
+     */
     @Override
     public boolean addAll(int index, Collection<? extends E> c) {
         Objects.requireNonNull(c, "La colección no puede ser nula");
         checkPositionIndex(index);
-        if (c.isEmpty()) return false;
+        Object[] a = c.toArray();
+        int numNew = a.length;
+        if (numNew == 0) return false;
+
+        Node<E> succ = (index == size) ? null : node(index);
+        Node<E> pred = (succ == null) ? tail : succ.prev;
+        finger = null;
+        Metrics.add(Metrics.Counter.LIST_NODES, numNew);
+
+        for (Object o : a) {
+            @SuppressWarnings("unchecked") E e = (E) o;
+            Node<E> newNode = new Node<>(e, pred, null);
+            if (pred == null) {
+                head = newNode;
+            } else {
+                pred.next = newNode;
+            }
+            pred = newNode;
+        }
 
-        // Insertar manteniendo el orden de c
-        int i = index;
-        for (E e : c) {
-            add(i++, e);
+        if (succ == null) {
+            tail = pred;
+        } else {
+            pred.next = succ;
+            succ.prev = pred;
         }
+
+        size += numNew;
+        modCount++;
         return true;
     }
 
     @Override
     public boolean removeAll(Collection<?> c) {
         Objects.requireNonNull(c, "La colección no puede ser nula");
-        boolean modified = false;
-        Iterator<E> it = iterator();
-        while (it.hasNext()) {
-            if (c.contains(it.next())) {
-                it.remove();
-                modified = true;
-            }
-        }
-        return modified;
+        return batchRemove(lookupView(c), false);
     }
 
     @Override
     public boolean retainAll(Collection<?> c) {
         Objects.requireNonNull(c, "La colección no puede ser nula");
+        return batchRemove(lookupView(c), true);
+    }
+
+    /** Recorre la lista una vez desenlazando los nodos cuya pertenencia a {@code c} difiere de {@code retain}. */
+    private boolean batchRemove(Collection<?> c, boolean retain) {
         boolean modified = false;
-        Iterator<E> it = iterator();
-        while (it.hasNext()) {
-            if (!c.contains(it.next())) {
-                it.remove();
+        for (Node<E> x = head; x != null; ) {
+            Node<E> next = x.next;
+            if (c.contains(x.item) != retain) {
+                unlink(x);
                 modified = true;
             }
+            x = next;
         }
         return modified;
     }
 
     @Override
     public ListIterator<E> listIterator() {
-        throw new UnsupportedOperationException("listIterator() no soportado en esta implementación.");
+        return new ListItr(0);
     }
 
     @Override
     public ListIterator<E> listIterator(int index) {
-        throw new UnsupportedOperationException("listIterator(int) no soportado en esta implementación.");
+        checkPositionIndex(index);
+        return new ListItr(index);
     }
 
+    /**
+     * Retorna una vista de los elementos entre {@code fromIndex} (incluido) y
+     * {@code toIndex} (excluido). Los cambios en la vista se reflejan en la lista;
+     * un cambio estructural hecho directamente en la lista invalida la vista (fail-fast).
+     */
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
-        throw new UnsupportedOperationException("subList no soportado en esta implementación.");
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("Rango fuera de límites: [" + fromIndex + ", " + toIndex + ")");
+        return new SubList(fromIndex, toIndex);
+    }
+
+    /** Vista sobre un rango de la lista, recorrida con el ListIterator de la lista padre. */
+    private class SubList extends AbstractSequentialList<E> {
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        SubList(int fromIndex, int toIndex) {
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+            this.expectedModCount = SimpleLinkedList.this.modCount;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            checkForComodification();
+            if (index < 0 || index > size)
+                throw new IndexOutOfBoundsException("Índice fuera de rango: " + index);
+            ListIterator<E> it = SimpleLinkedList.this.listIterator(offset + index);
+            return new ListIterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return nextIndex() < size;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    return it.next();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return previousIndex() >= 0;
+                }
+
+                @Override
+                public E previous() {
+                    if (!hasPrevious()) throw new NoSuchElementException();
+                    return it.previous();
+                }
+
+                @Override
+                public int nextIndex() {
+                    return it.nextIndex() - offset;
+                }
+
+                @Override
+                public int previousIndex() {
+                    return it.previousIndex() - offset;
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                    structuralChange(-1);
+                }
+
+                @Override
+                public void set(E e) {
+                    it.set(e);
+                }
+
+                @Override
+                public void add(E e) {
+                    it.add(e);
+                    structuralChange(1);
+                }
+            };
+        }
+
+        private void structuralChange(int delta) {
+            expectedModCount = SimpleLinkedList.this.modCount;
+            size += delta;
+            modCount++;
+        }
+
+        private void checkForComodification() {
+            if (SimpleLinkedList.this.modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Spliterator fail-fast y de enlace tardío que reporta SIZED, SUBSIZED y ORDERED.
+     * Se divide copiando lotes crecientes de elementos a arreglos, lo que permite
+     * que {@code parallelStream()} reparta el trabajo entre hilos.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new LLSpliterator();
+    }
+
+    private final class LLSpliterator implements Spliterator<E> {
+        static final int BATCH_UNIT = 1 << 10;
+        static final int MAX_BATCH = 1 << 25;
+        Node<E> current;
+        int est = -1;
+        int expectedModCount;
+        int batch;
+
+        private int getEst() {
+            if (est < 0) {
+                // Enlace tardío: la lista se captura en el primer uso
+                current = head;
+                est = size;
+                expectedModCount = modCount;
+            }
+            return est;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getEst();
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int s = getEst();
+            if (s > 1 && current != null) {
+                int n = Math.min(batch + BATCH_UNIT, Math.min(s, MAX_BATCH));
+                Object[] a = new Object[n];
+                Node<E> p = current;
+                int j = 0;
+                do {
+                    a[j++] = p.item;
+                } while ((p = p.next) != null && j < n);
+                current = p;
+                batch = j;
+                est = s - j;
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                return Spliterators.spliterator(a, 0, j, Spliterator.ORDERED);
+            }
+            return null;
+        }
+
+        @Override
+        public void forEachRemaining(java.util.function.Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int n = getEst();
+            Node<E> p = current;
+            current = null;
+            est = 0;
+            for (; p != null && n > 0; n--) {
+                E e = p.item;
+                p = p.next;
+                action.accept(e);
+            }
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public boolean tryAdvance(java.util.function.Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            if (getEst() > 0 && current != null) {
+                --est;
+                E e = current.item;
+                current = current.next;
+                action.accept(e);
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 }
@@ -0,0 +1,423 @@
+package edu.eci.arsw.generics.collections;
+
+import java.util.AbstractSequentialList;
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Lista enlazada "desenrollada": cada nodo guarda un arreglo pequeño de elementos
+ * Características:
+ *   -Los elementos de un nodo son contiguos, así el recorrido sigue un enlace cada B elementos
+ *    en vez de uno por elemento (menos fallos de caché que {@link SimpleLinkedList})
+ *   -add(E) al final en O(1) amortizado
+ *   -Accesos por índice en O(n/B) saltando nodos completos desde cabeza o cola
+ *   -Un nodo lleno se parte en dos al insertar; nodos poco ocupados se fusionan con el siguiente
+ *   -Iteradores fail-fast mediante code modCount
+ *
+ * @param <E> tipo de elemento.
+ */
+public class UnrolledLinkedList<E> extends AbstractSequentialList<E> {
+
+    /** Capacidad por defecto de cada nodo */
+    public static final int DEFAULT_NODE_CAPACITY = 64;
+
+    /**
+     * Nodo interno: arreglo de elementos con {@code count} posiciones ocupadas al inicio.
+     */
+    static final class Node<E> {
+        final Object[] items;
+        int count;
+        Node<E> prev;
+        Node<E> next;
+
+        Node(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        E item(int offset) {
+            return (E) items[offset];
+        }
+    }
+
+    /** Posición de un elemento: nodo que lo contiene y desplazamiento dentro del nodo. */
+    private record Position<E>(Node<E> node, int offset) { }
+
+    private final int nodeCapacity;
+    private Node<E> head;
+    private Node<E> tail;
+    private int size;
+
+    /**
+     * Crea una lista vacía con nodos de {@link #DEFAULT_NODE_CAPACITY} elementos.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Crea una lista vacía con la capacidad de nodo indicada.
+     *
+     * @param nodeCapacity elementos por nodo (&gt;= 2)
+     * @throws IllegalArgumentException si la capacidad es menor que 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("La capacidad de nodo debe ser >= 2: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + index);
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + index);
+    }
+
+    /**
+     * Localiza el elemento {@code index} saltando nodos completos desde la cabeza o la cola.
+     */
+    private Position<E> position(int index) {
+        // index validado por caller
+        if (index < (size >> 1)) {
+            Node<E> x = head;
+            int i = index;
+            while (i >= x.count) {
+                i -= x.count;
+                x = x.next;
+            }
+            return new Position<>(x, i);
+        } else {
+            Node<E> x = tail;
+            int start = size - x.count;
+            while (index < start) {
+                x = x.prev;
+                start -= x.count;
+            }
+            return new Position<>(x, index - start);
+        }
+    }
+
+    private Node<E> newNodeAfter(Node<E> pred) {
+        Node<E> node = new Node<>(nodeCapacity);
+        node.prev = pred;
+        if (pred == null) {
+            node.next = head;
+            if (head != null) head.prev = node;
+            head = node;
+        } else {
+            node.next = pred.next;
+            if (pred.next != null) pred.next.prev = node;
+            pred.next = node;
+        }
+        if (node.next == null) tail = node;
+        return node;
+    }
+
+    private void unlinkNode(Node<E> node) {
+        if (node.prev == null) head = node.next;
+        else node.prev.next = node.next;
+        if (node.next == null) tail = node.prev;
+        else node.next.prev = node.prev;
+        node.prev = node.next = null;
+    }
+
+    private void linkLast(E e) {
+        Node<E> t = tail;
+        if (t == null || t.count == nodeCapacity) t = newNodeAfter(t);
+        t.items[t.count++] = e;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserta en {@code node.items[offset]}, partiendo el nodo si está lleno.
+     *
+     * @return nodo que recibió el elemento: {@code node} o, si el desplazamiento cayó en la mitad
+     *         superior de la partición, el nodo nuevo (en {@code offset - nodeCapacity / 2})
+     */
+    private Node<E> insertAt(Node<E> node, int offset, E e) {
+        if (node.count == nodeCapacity) {
+            // Partir el nodo lleno: la mitad superior pasa a un nodo nuevo
+            Node<E> split = newNodeAfter(node);
+            int half = nodeCapacity >> 1;
+            int moved = node.count - half;
+            System.arraycopy(node.items, half, split.items, 0, moved);
+            java.util.Arrays.fill(node.items, half, node.count, null);
+            split.count = moved;
+            node.count = half;
+            if (offset > half) {
+                node = split;
+                offset -= half;
+            }
+        }
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = e;
+        node.count++;
+        size++;
+        modCount++;
+        return node;
+    }
+
+    private E removeAt(Node<E> node, int offset) {
+        E old = node.item(offset);
+        int moved = node.count - offset - 1;
+        if (moved > 0) System.arraycopy(node.items, offset + 1, node.items, offset, moved);
+        node.items[--node.count] = null;
+        if (node.count == 0) {
+            unlinkNode(node);
+        } else {
+            Node<E> next = node.next;
+            if (next != null && node.count < (nodeCapacity >> 2) && node.count + next.count <= nodeCapacity) {
+                // Fusionar con el siguiente para mantener la densidad de los nodos
+                System.arraycopy(next.items, 0, node.items, node.count, next.count);
+                node.count += next.count;
+                unlinkNode(next);
+            }
+        }
+        size--;
+        modCount++;
+        return old;
+    }
+
+    // ---------- Métodos List ----------
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(E e) {
+        linkLast(e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+        if (index == size) {
+            linkLast(element);
+        } else {
+            Position<E> p = position(index);
+            insertAt(p.node(), p.offset(), element);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        checkElementIndex(index);
+        Position<E> p = position(index);
+        return p.node().item(p.offset());
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        Position<E> p = position(index);
+        E old = p.node().item(p.offset());
+        p.node().items[p.offset()] = element;
+        return old;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        Position<E> p = position(index);
+        return removeAt(p.node(), p.offset());
+    }
+
+    @Override
+    public void clear() {
+        for (Node<E> x = head; x != null; ) {
+            Node<E> next = x.next;
+            x.prev = x.next = null;
+            x = next;
+        }
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int base = 0;
+        for (Node<E> x = head; x != null; x = x.next) {
+            for (int i = 0; i < x.count; i++) {
+                if (Objects.equals(o, x.items[i])) return base + i;
+            }
+            base += x.count;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        for (Node<E> x = head; x != null; x = x.next) {
+            final Object[] items = x.items;
+            for (int i = 0, n = x.count; i < n; i++) {
+                @SuppressWarnings("unchecked") E e = (E) items[i];
+                action.accept(e);
+            }
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        checkPositionIndex(index);
+        return new ListItr(index);
+    }
+
+    /**
+     * Iterador fail-fast que avanza dentro del arreglo del nodo actual y solo sigue
+     * un enlace al cambiar de nodo. add/remove modifican el nodo del cursor y lo corrigen
+     * tras partir, vaciar o fusionar nodos, sin volver a buscar por índice: removeIf,
+     * removeAll y retainAll heredados cuestan O(n·B).
+     */
+    private class ListItr implements ListIterator<E> {
+        /** Nodo del cursor; el siguiente elemento es node.items[offset] (o el primero del nodo siguiente) */
+        Node<E> node;
+        int offset;
+        int nextIndex;
+        Node<E> lastNode;
+        int lastOffset;
+        int lastIndex = -1;
+        int expectedModCount = modCount;
+
+        ListItr(int index) {
+            seek(index);
+        }
+
+        private void seek(int index) {
+            nextIndex = index;
+            if (index == size) {
+                node = tail;
+                offset = tail == null ? 0 : tail.count;
+            } else {
+                Position<E> p = position(index);
+                node = p.node();
+                offset = p.offset();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (!hasNext()) throw new NoSuchElementException();
+            if (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            lastNode = node;
+            lastOffset = offset;
+            lastIndex = nextIndex++;
+            return node.item(offset++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious()) throw new NoSuchElementException();
+            if (offset == 0) {
+                node = node.prev;
+                offset = node.count;
+            }
+            offset--;
+            lastNode = node;
+            lastOffset = offset;
+            lastIndex = --nextIndex;
+            return node.item(offset);
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) throw new IllegalStateException();
+            checkForComodification();
+            Node<E> removed = lastNode;
+            if (removed.count == 1) {
+                // El nodo queda vacío y se desenlaza: el cursor pasa al inicio del siguiente
+                // o, si era la cola, al final del anterior
+                Node<E> next = removed.next;
+                Node<E> prev = removed.prev;
+                removeAt(removed, lastOffset);
+                node = next != null ? next : prev;
+                offset = next != null || prev == null ? 0 : prev.count;
+            } else {
+                // Una fusión solo trae el nodo siguiente a continuación: la posición sigue siendo válida
+                removeAt(removed, lastOffset);
+                node = removed;
+                offset = lastOffset;
+            }
+            if (lastIndex < nextIndex) nextIndex--;
+            lastIndex = -1;
+            lastNode = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastIndex < 0) throw new IllegalStateException();
+            checkForComodification();
+            lastNode.items[lastOffset] = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+            if (node == null) {
+                linkLast(e);
+                node = tail;
+                offset = 1;
+            } else {
+                Node<E> target = insertAt(node, offset, e);
+                if (target != node) offset -= nodeCapacity >> 1;
+                node = target;
+                offset++;
+            }
+            nextIndex++;
+            lastIndex = -1;
+            lastNode = null;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+}
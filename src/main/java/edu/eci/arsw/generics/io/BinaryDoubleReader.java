@@ -0,0 +1,227 @@
+package edu.eci.arsw.generics.io;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.DoubleConsumer;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Lector del formato binario descrito en {@link BinaryHeader}
+ * Características:
+ *   -Sin parseo: los datos sin comprimir se mapean en memoria y se copian a un double[]
+ *    o se exponen como DoubleBuffer sin copia, así que la carga queda limitada por E/S
+ *   -Verifica el CRC32C de la sección de datos: antes de entregar los valores si no están
+ *    comprimidos, y al terminar de descomprimir si lo están
+ *   -Las estadísticas precalculadas de la cabecera se consultan sin leer los datos
+ */
+public class BinaryDoubleReader {
+
+    /**
+     * Indica si el archivo está en formato binario (empieza con la firma GDBL).
+     *
+     * @param path ruta del archivo
+     * @return true si el archivo es binario
+     * @throws IOException si ocurre un error de E/S
+     */
+    public static boolean isBinary(String path) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            ByteBuffer start = ByteBuffer.allocate(4);
+            channel.read(start, 0);
+            start.flip();
+            return BinaryHeader.hasMagic(start);
+        }
+    }
+
+    /**
+     * Lee solo la cabecera: count, estadísticas precalculadas y checksum.
+     *
+     * @param path ruta del archivo binario
+     * @return cabecera del archivo
+     * @throws IOException si ocurre un error de E/S o el archivo no es binario
+     */
+    public BinaryHeader header(String path) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            return BinaryHeader.read(channel);
+        }
+    }
+
+    /**
+     * Carga todos los valores en un arreglo.
+     *
+     * @param path ruta del archivo binario
+     * @return arreglo con los valores en el orden en que se escribieron
+     * @throws IOException si ocurre un error de E/S, el archivo está dañado o tiene más valores de los que caben en un arreglo
+     */
+    public double[] load(String path) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            BinaryHeader header = BinaryHeader.read(channel);
+            if (header.count() > Integer.MAX_VALUE - 8) {
+                throw new IOException("Demasiados valores para un arreglo: " + header.count());
+            }
+            double[] values = new double[(int) header.count()];
+            if (header.compressed()) {
+                int[] n = {0};
+                readCompressed(channel, header, v -> values[n[0]++] = v);
+            } else {
+                int offset = 0;
+                for (MappedByteBuffer window : mapData(channel, header)) {
+                    int len = window.remaining() / Double.BYTES;
+                    window.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(values, offset, len);
+                    offset += len;
+                }
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Carga todos los valores en una {@link DoubleList}.
+     *
+     * @param path ruta del archivo binario
+     * @return lista con los valores
+     * @throws IOException si ocurre un error de E/S o el archivo está dañado
+     */
+    public DoubleList read(String path) throws IOException {
+        return new DoubleList(load(path));
+    }
+
+    /**
+     * Expone los datos sin copiarlos: el DoubleBuffer lee directamente del archivo mapeado.
+     * Si el archivo está comprimido, se descomprime en un buffer del heap.
+     *
+     * @param path ruta del archivo binario
+     * @return buffer de solo lectura con posición 0 y límite count
+     * @throws IOException si ocurre un error de E/S, el archivo está dañado o sus datos ocupan más de 2 GB
+     */
+    public DoubleBuffer map(String path) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            BinaryHeader header = BinaryHeader.read(channel);
+            if (header.compressed()) {
+                return DoubleBuffer.wrap(load(path)).asReadOnlyBuffer();
+            }
+            MappedByteBuffer[] windows = mapData(channel, header);
+            if (windows.length > 1) {
+                throw new IOException("Datos demasiado grandes para un solo DoubleBuffer; usar read(path, sink)");
+            }
+            ByteBuffer data = windows.length == 0 ? ByteBuffer.allocate(0) : windows[0];
+            return data.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * Entrega cada valor a {@code sink} en orden, sin construir ninguna lista.
+     *
+     * @param path ruta del archivo binario
+     * @param sink destino de los valores
+     * @throws IOException si ocurre un error de E/S o el archivo está dañado
+     */
+    public void read(String path, DoubleConsumer sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            BinaryHeader header = BinaryHeader.read(channel);
+            if (header.compressed()) {
+                readCompressed(channel, header, sink);
+                return;
+            }
+            for (MappedByteBuffer window : mapData(channel, header)) {
+                DoubleBuffer values = window.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+                int n = values.limit();
+                for (int i = 0; i < n; i++) sink.accept(values.get(i));
+            }
+        }
+    }
+
+    /**
+     * Mapea la sección de datos en ventanas de a lo sumo {@link DoubleFileReader#MAP_WINDOW}
+     * bytes y verifica el checksum antes de retornarlas.
+     */
+    private static MappedByteBuffer[] mapData(FileChannel channel, BinaryHeader header) throws IOException {
+        long bytes = header.count() * Double.BYTES;
+        if (channel.size() < BinaryHeader.SIZE + bytes) {
+            throw new IOException("Archivo binario truncado: se esperaban " + header.count() + " valores");
+        }
+        int windows = (int) ((bytes + DoubleFileReader.MAP_WINDOW - 1) / DoubleFileReader.MAP_WINDOW);
+        MappedByteBuffer[] result = new MappedByteBuffer[windows];
+        CRC32C crc = new CRC32C();
+        for (int w = 0; w < windows; w++) {
+            long pos = w * DoubleFileReader.MAP_WINDOW;
+            long len = Math.min(DoubleFileReader.MAP_WINDOW, bytes - pos);
+            result[w] = channel.map(FileChannel.MapMode.READ_ONLY, BinaryHeader.SIZE + pos, len);
+            crc.update(result[w].duplicate());
+        }
+        verify(crc, header);
+        return result;
+    }
+
+    private static void readCompressed(FileChannel channel, BinaryHeader header, DoubleConsumer sink) throws IOException {
+        int blockBytes = header.blockSize() * Double.BYTES;
+        byte[] shuffled = new byte[blockBytes];
+        ByteBuffer raw = ByteBuffer.allocate(blockBytes).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer prefix = ByteBuffer.allocate(2 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer payload = ByteBuffer.allocate(blockBytes + 1024);
+        CRC32C crc = new CRC32C();
+        Inflater inflater = new Inflater();
+        long pos = BinaryHeader.SIZE;
+        long remaining = header.count();
+        try {
+            while (remaining > 0) {
+                prefix.clear();
+                pos += readFully(channel, prefix, pos);
+                int values = prefix.getInt(0);
+                int length = prefix.getInt(4);
+                if (values <= 0 || values > header.blockSize() || values > remaining || length < 0) {
+                    throw new IOException("Bloque comprimido inválido en la posición " + (pos - prefix.capacity()));
+                }
+                if (payload.capacity() < length) payload = ByteBuffer.allocate(length);
+                payload.clear().limit(length);
+                pos += readFully(channel, payload, pos);
+                crc.update(prefix.array(), 0, prefix.capacity());
+                crc.update(payload.array(), 0, length);
+
+                int bytes = values * Double.BYTES;
+                inflater.reset();
+                inflater.setInput(payload.array(), 0, length);
+                if (inflater.inflate(shuffled, 0, bytes) != bytes || !inflater.finished()) {
+                    throw new IOException("Bloque comprimido dañado en la posición " + (pos - length));
+                }
+                byte[] out = raw.array();
+                for (int b = 0; b < Double.BYTES; b++) {
+                    int base = b * values;
+                    for (int i = 0; i < values; i++) out[i * Double.BYTES + b] = shuffled[base + i];
+                }
+                for (int i = 0; i < values; i++) sink.accept(raw.getDouble(i * Double.BYTES));
+                remaining -= values;
+            }
+        } catch (DataFormatException ex) {
+            throw new IOException("Bloque comprimido dañado: " + ex.getMessage(), ex);
+        } finally {
+            inflater.end();
+        }
+        verify(crc, header);
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buf, long pos) throws IOException {
+        int total = 0;
+        while (buf.hasRemaining()) {
+            int n = channel.read(buf, pos + total);
+            if (n < 0) throw new IOException("Archivo binario truncado en la posición " + (pos + total));
+            total += n;
+        }
+        return total;
+    }
+
+    private static void verify(CRC32C crc, BinaryHeader header) throws IOException {
+        if (crc.getValue() != header.checksum()) {
+            throw new IOException("Checksum inválido: el archivo binario está dañado");
+        }
+    }
+}
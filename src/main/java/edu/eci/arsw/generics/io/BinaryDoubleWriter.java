@@ -0,0 +1,217 @@
+package edu.eci.arsw.generics.io;
+
+import edu.eci.arsw.generics.math.RunningStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+
+/**
+ * Escritor en streaming del formato binario descrito en {@link BinaryHeader}
+ * Características:
+ *   -Recibe los valores como DoubleConsumer, así que puede conectarse directamente a
+ *    {@link DoubleFileReader#readMapped(String, DoubleConsumer)} sin materializar la lista
+ *   -Calcula count, min, max, media y M2 (Welford) y el CRC32C mientras escribe;
+ *    la cabecera se completa al cerrar
+ *   -Compresión opcional por bloques: cada bloque se transpone por byte (los bytes de
+ *    signo/exponente quedan juntos y se repiten mucho) y se comprime con Deflate
+ * No es seguro para hilos.
+ */
+public final class BinaryDoubleWriter implements DoubleConsumer, Closeable {
+
+    /** Valores por bloque cuando no se indica otro tamaño */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final boolean compress;
+    private final int blockSize;
+    private final ByteBuffer block;
+    private final CRC32C crc = new CRC32C();
+    private final RunningStats stats = new RunningStats();
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private long position = BinaryHeader.SIZE;
+    private Deflater deflater;
+    private byte[] shuffled;
+    private byte[] compressed;
+    private BinaryHeader header;
+
+    /**
+     * Crea (o reemplaza) un archivo binario sin compresión.
+     *
+     * @param path ruta del archivo a escribir
+     * @throws IOException si ocurre un error de E/S
+     */
+    public BinaryDoubleWriter(String path) throws IOException {
+        this(path, false, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Crea (o reemplaza) un archivo binario.
+     *
+     * @param path ruta del archivo a escribir
+     * @param compress true para guardar los datos en bloques comprimidos
+     * @param blockSize valores por bloque (también el tamaño del buffer de escritura)
+     * @throws IOException si ocurre un error de E/S
+     * @throws IllegalArgumentException si {@code blockSize} &lt; 1
+     */
+    public BinaryDoubleWriter(String path, boolean compress, int blockSize) throws IOException {
+        if (blockSize < 1 || blockSize > Integer.MAX_VALUE / Double.BYTES) {
+            throw new IllegalArgumentException("Tamaño de bloque inválido: " + blockSize);
+        }
+        this.compress = compress;
+        this.blockSize = blockSize;
+        this.block = ByteBuffer.allocate(blockSize * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this.channel = FileChannel.open(Path.of(path), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        if (compress) {
+            this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+            this.shuffled = new byte[block.capacity()];
+            this.compressed = new byte[block.capacity() + 1024];
+        }
+    }
+
+    /**
+     * Convierte un archivo de texto (mismas reglas que {@link DoubleFileReader}) al formato binario.
+     *
+     * @param textPath archivo de texto de entrada
+     * @param binaryPath archivo binario de salida (se reemplaza si existe)
+     * @param compress true para guardar los datos en bloques comprimidos
+     * @return cabecera escrita, con las estadísticas del archivo
+     * @throws IOException si ocurre un error de E/S; el archivo de salida se elimina
+     * @throws NumberFormatException si algún token no puede parsearse como double; el archivo de salida se elimina
+     */
+    public static BinaryHeader convert(String textPath, String binaryPath, boolean compress) throws IOException {
+        BinaryDoubleWriter writer = new BinaryDoubleWriter(binaryPath, compress, DEFAULT_BLOCK_SIZE);
+        try {
+            new DoubleFileReader().readMapped(textPath, writer);
+            writer.close();
+            return writer.header();
+        } catch (IOException | RuntimeException ex) {
+            writer.abort();
+            Files.deleteIfExists(Path.of(binaryPath));
+            if (ex instanceof UncheckedIOException unchecked) throw unchecked.getCause();
+            throw ex;
+        }
+    }
+
+    /**
+     * Escribe un valor. Los errores de E/S se relanzan como {@link UncheckedIOException}.
+     *
+     * @param value valor a escribir
+     */
+    @Override
+    public void accept(double value) {
+        if (header != null) {
+            throw new IllegalStateException("El escritor ya fue cerrado.");
+        }
+        block.putDouble(value);
+        stats.accept(value);
+        if (value < min) min = value;
+        if (value > max) max = value;
+        if (!block.hasRemaining()) {
+            try {
+                flushBlock();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Escribe todos los valores del arreglo.
+     *
+     * @param values valores a escribir
+     */
+    public void write(double[] values) {
+        for (double v : values) accept(v);
+    }
+
+    /**
+     * @return cabecera escrita al cerrar, o null si el escritor sigue abierto
+     */
+    public BinaryHeader header() {
+        return header;
+    }
+
+    /**
+     * Escribe el último bloque y la cabecera, y cierra el archivo. Llamarlo más de una vez no tiene efecto.
+     *
+     * @throws IOException si ocurre un error de E/S
+     */
+    @Override
+    public void close() throws IOException {
+        if (header != null) return;
+        try {
+            flushBlock();
+            long count = stats.count();
+            boolean hasStats = count > 0;
+            header = new BinaryHeader(count, compress, compress ? blockSize : 0, hasStats,
+                    hasStats ? min : 0.0, hasStats ? max : 0.0, hasStats ? stats.mean() : 0.0, stats.m2(),
+                    crc.getValue());
+            header.write(channel);
+        } finally {
+            if (deflater != null) deflater.end();
+            channel.close();
+        }
+    }
+
+    /** Cierra el archivo sin escribir la cabecera, que queda sin firma válida */
+    private void abort() throws IOException {
+        if (deflater != null) deflater.end();
+        channel.close();
+    }
+
+    private void flushBlock() throws IOException {
+        block.flip();
+        if (block.hasRemaining()) {
+            if (compress) {
+                writeCompressed();
+            } else {
+                crc.update(block.duplicate());
+                writeFully(block);
+            }
+        }
+        block.clear();
+    }
+
+    private void writeCompressed() throws IOException {
+        int bytes = block.remaining();
+        int values = bytes / Double.BYTES;
+        byte[] raw = block.array();
+        // transposición: primero el byte 0 de todos los valores, luego el byte 1, ...
+        for (int b = 0; b < Double.BYTES; b++) {
+            int base = b * values;
+            for (int i = 0; i < values; i++) shuffled[base + i] = raw[i * Double.BYTES + b];
+        }
+        deflater.reset();
+        deflater.setInput(shuffled, 0, bytes);
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) compressed = Arrays.copyOf(compressed, length << 1);
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        ByteBuffer prefix = ByteBuffer.allocate(2 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(values).putInt(length).flip();
+        crc.update(prefix.duplicate());
+        writeFully(prefix);
+        ByteBuffer payload = ByteBuffer.wrap(compressed, 0, length);
+        crc.update(payload.duplicate());
+        writeFully(payload);
+    }
+
+    private void writeFully(ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) position += channel.write(buf, position);
+    }
+}
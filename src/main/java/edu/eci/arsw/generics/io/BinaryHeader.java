@@ -0,0 +1,99 @@
+package edu.eci.arsw.generics.io;
+
+import edu.eci.arsw.generics.math.RunningStats;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Cabecera de un archivo binario de doubles (formato GDBL)
+ * Formato (little-endian, {@value #SIZE} bytes, los datos empiezan alineados a 64):
+ *   -0: magic "GDBL", 4: versión (short), 6: flags (short)
+ *   -8: count (long)
+ *   -16: min, 24: max, 32: media, 40: M2 (doubles; válidos si hay estadísticas)
+ *   -48: CRC32C de los bytes de datos tal como están guardados (long)
+ *   -56: valores por bloque comprimido (int), 60: reservado
+ * Datos: count doubles seguidos o, si están comprimidos, bloques
+ * [valores (int)][bytes comprimidos (int)][bytes deflate de los doubles transpuestos por byte].
+ *
+ * @param count cantidad de valores
+ * @param compressed true si los datos están en bloques comprimidos
+ * @param blockSize valores por bloque comprimido (0 si no hay compresión)
+ * @param hasStats true si min, max, mean y m2 fueron precalculados al escribir
+ * @param min valor mínimo
+ * @param max valor máximo
+ * @param mean media aritmética
+ * @param m2 suma de cuadrados de las diferencias respecto a la media
+ * @param checksum CRC32C de la sección de datos
+ */
+public record BinaryHeader(long count, boolean compressed, int blockSize, boolean hasStats,
+                           double min, double max, double mean, double m2, long checksum) {
+
+    /** Tamaño de la cabecera en bytes */
+    public static final int SIZE = 64;
+
+    private static final int MAGIC = 'G' | 'D' << 8 | 'B' << 16 | 'L' << 24;
+    private static final short VERSION = 1;
+    private static final short FLAG_STATS = 1;
+    private static final short FLAG_COMPRESSED = 2;
+
+    /**
+     * Estadísticas precalculadas como acumulador, para combinarlas o consultarlas sin leer los datos.
+     *
+     * @return acumulador con count, media y M2 de la cabecera
+     * @throws IllegalStateException si el archivo no trae estadísticas
+     */
+    public RunningStats stats() {
+        if (!hasStats) {
+            throw new IllegalStateException("El archivo no incluye estadísticas precalculadas.");
+        }
+        return new RunningStats(count, mean, m2);
+    }
+
+    /**
+     * Indica si el bloque empieza con la firma del formato.
+     */
+    static boolean hasMagic(ByteBuffer start) {
+        return start.remaining() >= 4 && start.order(ByteOrder.LITTLE_ENDIAN).getInt(start.position()) == MAGIC;
+    }
+
+    static BinaryHeader read(FileChannel channel) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, buf.position()) < 0) {
+                throw new IOException("Archivo binario truncado: cabecera incompleta");
+            }
+        }
+        buf.flip();
+        if (buf.getInt(0) != MAGIC) {
+            throw new IOException("No es un archivo binario de doubles (firma inválida)");
+        }
+        short version = buf.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Versión de formato no soportada: " + version);
+        }
+        short flags = buf.getShort(6);
+        long count = buf.getLong(8);
+        int blockSize = buf.getInt(56);
+        boolean compressed = (flags & FLAG_COMPRESSED) != 0;
+        // con un count mayor, SIZE + count * 8 desborda long al calcular el tamaño de los datos
+        if (count < 0 || count > (Long.MAX_VALUE - SIZE) / Double.BYTES || (compressed && blockSize <= 0)) {
+            throw new IOException("Cabecera inválida: count=" + count + ", blockSize=" + blockSize);
+        }
+        return new BinaryHeader(count, compressed, blockSize, (flags & FLAG_STATS) != 0,
+                buf.getDouble(16), buf.getDouble(24), buf.getDouble(32), buf.getDouble(40), buf.getLong(48));
+    }
+
+    void write(FileChannel channel) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        short flags = (short) ((hasStats ? FLAG_STATS : 0) | (compressed ? FLAG_COMPRESSED : 0));
+        buf.putInt(MAGIC).putShort(VERSION).putShort(flags).putLong(count)
+                .putDouble(min).putDouble(max).putDouble(mean).putDouble(m2)
+                .putLong(checksum).putInt(blockSize).putInt(0);
+        buf.flip();
+        long pos = 0;
+        while (buf.hasRemaining()) pos += channel.write(buf, pos);
+    }
+}
@@ -0,0 +1,161 @@
+package edu.eci.arsw.generics.io;
+
+import edu.eci.arsw.generics.metrics.ReadProbe;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Tokenizador de bytes con las mismas reglas de formato que {@link DoubleFileReader}
+ * Reglas:
+ *   -Separadores: coma y espacios ASCII (espacio, tab, salto de línea, tab vertical, form feed, retorno de carro)
+ *   -'#' inicia un comentario que termina en el siguiente salto de línea
+ *   -Cada token se copia a un buffer reutilizable y se parsea con {@link DoubleParser}
+ *   -Con un {@link ParseErrors} los tokens inválidos se omiten y se registran con línea y columna;
+ *    ese seguimiento usa un bucle aparte, así que el modo estricto no paga nada por él
+ *   -Con un {@link ReadProbe} se cuentan bytes y líneas y se mide el tiempo de parseo por bloque,
+ *    nunca por token
+ * El estado (token parcial, comentario abierto, posición) se conserva entre llamadas a
+ * {@link #feed(ByteBuffer)}, así que la entrada puede llegar en bloques arbitrarios.
+ */
+final class ByteTokenizer {
+
+    private final DoubleConsumer sink;
+    private final ParseErrors errors;
+    private final ReadProbe probe;
+    private byte[] token = new byte[64];
+    private int tokenLength;
+    private boolean inComment;
+    /** Seguimiento de posición, solo en modo tolerante */
+    private long offset;
+    private long line = 1;
+    private long lineStart;
+    private long tokenStart;
+    private boolean afterCarriageReturn;
+
+    ByteTokenizer(DoubleConsumer sink) {
+        this(sink, null, null);
+    }
+
+    /**
+     * @param sink destino de los valores
+     * @param errors reporte de tokens inválidos, o null para lanzar en el primero
+     * @param probe mediciones de la lectura (bytes, líneas y tiempo de parseo por bloque), o null
+     */
+    ByteTokenizer(DoubleConsumer sink, ParseErrors errors, ReadProbe probe) {
+        this.sink = sink;
+        this.errors = errors;
+        this.probe = probe;
+    }
+
+    /**
+     * Procesa los bytes entre la posición y el límite del buffer, sin moverlo.
+     *
+     * @param buf bloque de entrada
+     * @throws NumberFormatException si algún token no puede parsearse como double (modo estricto)
+     */
+    void feed(ByteBuffer buf) {
+        if (probe == null) {
+            tokenize(buf);
+            return;
+        }
+        probe.scan(buf);
+        long start = System.nanoTime();
+        tokenize(buf);
+        probe.parse(System.nanoTime() - start);
+    }
+
+    private void tokenize(ByteBuffer buf) {
+        if (errors != null) {
+            feedTracking(buf);
+            return;
+        }
+        final int limit = buf.limit();
+        for (int i = buf.position(); i < limit; i++) {
+            byte b = buf.get(i);
+            if (inComment) {
+                if (b == '\n' || b == '\r') inComment = false;
+            } else if (b == '#') {
+                flush();
+                inComment = true;
+            } else if (b == ',' || b == ' ' || (b >= '\t' && b <= '\r')) {
+                if (tokenLength > 0) flush();
+            } else {
+                if (tokenLength == token.length) token = Arrays.copyOf(token, tokenLength << 1);
+                token[tokenLength++] = b;
+            }
+        }
+    }
+
+    /**
+     * Parsea el token pendiente al final de la entrada.
+     *
+     * @throws NumberFormatException si el token no es válido (modo estricto) o si la tasa de
+     *         errores supera la máxima (modo tolerante)
+     */
+    void finish() {
+        if (errors != null) {
+            flushTracking();
+            errors.check();
+        } else {
+            flush();
+        }
+        inComment = false;
+    }
+
+    private void flush() {
+        if (tokenLength == 0) return;
+        int len = tokenLength;
+        tokenLength = 0;
+        sink.accept(DoubleParser.parse(token, 0, len));
+    }
+
+    /** Igual que el bucle de {@link #tokenize(ByteBuffer)}, llevando la línea y la columna de cada token */
+    private void feedTracking(ByteBuffer buf) {
+        final int from = buf.position();
+        final int limit = buf.limit();
+        for (int i = from; i < limit; i++) {
+            byte b = buf.get(i);
+            if (b == '\n' || b == '\r') {
+                flushTracking();
+                inComment = false;
+                // "\r\n" es un solo salto de línea
+                if (b == '\r' || !afterCarriageReturn) line++;
+                afterCarriageReturn = b == '\r';
+                lineStart = offset + (i - from) + 1;
+                continue;
+            }
+            afterCarriageReturn = false;
+            if (inComment) continue;
+            if (b == '#') {
+                flushTracking();
+                inComment = true;
+            } else if (b == ',' || b == ' ' || (b >= '\t' && b <= '\r')) {
+                flushTracking();
+            } else {
+                if (tokenLength == 0) tokenStart = offset + (i - from);
+                if (tokenLength == token.length) token = Arrays.copyOf(token, tokenLength << 1);
+                token[tokenLength++] = b;
+            }
+        }
+        offset += limit - from;
+    }
+
+    private void flushTracking() {
+        if (tokenLength == 0) return;
+        int len = tokenLength;
+        tokenLength = 0;
+        double value;
+        try {
+            value = DoubleParser.parse(token, 0, len);
+        } catch (NumberFormatException ex) {
+            errors.error(line, tokenStart - lineStart + 1,
+                    new String(token, 0, Math.min(len, ParseErrors.MAX_TOKEN_LENGTH + 1), StandardCharsets.UTF_8));
+            return;
+        }
+        errors.value();
+        sink.accept(value);
+    }
+}
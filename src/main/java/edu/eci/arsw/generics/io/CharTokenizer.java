@@ -0,0 +1,160 @@
+package edu.eci.arsw.generics.io;
+
+import edu.eci.arsw.generics.metrics.ReadProbe;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Tokenizador de chars con las mismas reglas de formato que {@link ByteTokenizer}, para fuentes de texto ({@link java.io.Reader})
+ * Reglas:
+ *   -Separadores: coma y espacios ASCII (espacio, tab, salto de línea, tab vertical, form feed, retorno de carro)
+ *   -'#' inicia un comentario que termina en el siguiente salto de línea
+ *   -Cada token se copia a un buffer reutilizable y se parsea con {@link DoubleParser}, sin crear Strings
+ *   -Con un {@link ParseErrors} los tokens inválidos se omiten y se registran con línea y columna,
+ *    en un bucle aparte del modo estricto
+ *   -Con un {@link ReadProbe} se cuentan bytes y líneas y se mide el tiempo de parseo por bloque,
+ *    nunca por token
+ * El estado (token parcial, comentario abierto, posición) se conserva entre llamadas a
+ * {@link #feed(char[], int, int)}, así que la entrada puede llegar en bloques arbitrarios.
+ */
+final class CharTokenizer {
+
+    private final DoubleConsumer sink;
+    private final ParseErrors errors;
+    private final ReadProbe probe;
+    private char[] token = new char[64];
+    private int tokenLength;
+    private boolean inComment;
+    /** Seguimiento de posición, solo en modo tolerante */
+    private long offset;
+    private long line = 1;
+    private long lineStart;
+    private long tokenStart;
+    private boolean afterCarriageReturn;
+
+    CharTokenizer(DoubleConsumer sink) {
+        this(sink, null, null);
+    }
+
+    /**
+     * @param sink destino de los valores
+     * @param errors reporte de tokens inválidos, o null para lanzar en el primero
+     * @param probe mediciones de la lectura (bytes, líneas y tiempo de parseo por bloque), o null
+     */
+    CharTokenizer(DoubleConsumer sink, ParseErrors errors, ReadProbe probe) {
+        this.sink = sink;
+        this.errors = errors;
+        this.probe = probe;
+    }
+
+    /**
+     * Procesa los chars {@code buf[off, off+len)}.
+     *
+     * @param buf bloque de entrada
+     * @param off posición inicial
+     * @param len cantidad de chars
+     * @throws NumberFormatException si algún token no puede parsearse como double (modo estricto)
+     */
+    void feed(char[] buf, int off, int len) {
+        if (probe == null) {
+            tokenize(buf, off, len);
+            return;
+        }
+        probe.scan(buf, off, len);
+        long start = System.nanoTime();
+        tokenize(buf, off, len);
+        probe.parse(System.nanoTime() - start);
+    }
+
+    private void tokenize(char[] buf, int off, int len) {
+        if (errors != null) {
+            feedTracking(buf, off, len);
+            return;
+        }
+        final int end = off + len;
+        for (int i = off; i < end; i++) {
+            char c = buf[i];
+            if (inComment) {
+                if (c == '\n' || c == '\r') inComment = false;
+            } else if (c == '#') {
+                flush();
+                inComment = true;
+            } else if (c == ',' || c == ' ' || (c >= '\t' && c <= '\r')) {
+                if (tokenLength > 0) flush();
+            } else {
+                if (tokenLength == token.length) token = Arrays.copyOf(token, tokenLength << 1);
+                token[tokenLength++] = c;
+            }
+        }
+    }
+
+    /**
+     * Parsea el token pendiente al final de la entrada.
+     *
+     * @throws NumberFormatException si el token no es válido (modo estricto) o si la tasa de
+     *         errores supera la máxima (modo tolerante)
+     */
+    void finish() {
+        if (errors != null) {
+            flushTracking();
+            errors.check();
+        } else {
+            flush();
+        }
+        inComment = false;
+    }
+
+    private void flush() {
+        if (tokenLength == 0) return;
+        int len = tokenLength;
+        tokenLength = 0;
+        sink.accept(DoubleParser.parse(token, 0, len));
+    }
+
+    /** Igual que el bucle de {@link #tokenize(char[], int, int)}, llevando la línea y la columna de cada token */
+    private void feedTracking(char[] buf, int off, int len) {
+        final int end = off + len;
+        for (int i = off; i < end; i++) {
+            char c = buf[i];
+            if (c == '\n' || c == '\r') {
+                flushTracking();
+                inComment = false;
+                // "\r\n" es un solo salto de línea
+                if (c == '\r' || !afterCarriageReturn) line++;
+                afterCarriageReturn = c == '\r';
+                lineStart = offset + (i - off) + 1;
+                continue;
+            }
+            afterCarriageReturn = false;
+            if (inComment) continue;
+            if (c == '#') {
+                flushTracking();
+                inComment = true;
+            } else if (c == ',' || c == ' ' || (c >= '\t' && c <= '\r')) {
+                flushTracking();
+            } else {
+                if (tokenLength == 0) tokenStart = offset + (i - off);
+                if (tokenLength == token.length) token = Arrays.copyOf(token, tokenLength << 1);
+                token[tokenLength++] = c;
+            }
+        }
+        offset += len;
+    }
+
+    private void flushTracking() {
+        if (tokenLength == 0) return;
+        int len = tokenLength;
+        tokenLength = 0;
+        double value;
+        try {
+            value = DoubleParser.parse(token, 0, len);
+        } catch (NumberFormatException ex) {
+            errors.error(line, tokenStart - lineStart + 1,
+                    new String(token, 0, Math.min(len, ParseErrors.MAX_TOKEN_LENGTH + 1)));
+            return;
+        }
+        errors.value();
+        sink.accept(value);
+    }
+}
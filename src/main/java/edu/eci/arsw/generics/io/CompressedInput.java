@@ -0,0 +1,147 @@
+package edu.eci.arsw.generics.io;
+
+import edu.eci.arsw.generics.metrics.ReadProbe;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.DoubleConsumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Lectura de archivos comprimidos con descompresión y parseo en hilos separados
+ * Características:
+ *   -Detecta el formato por los bytes mágicos: gzip (1f 8b) y zstd (28 b5 2f fd)
+ *   -Un hilo descomprime bloques de {@value #CHUNK} bytes y los entrega por una cola acotada
+ *    de {@value #DEPTH} bloques al hilo llamador, que los parsea con {@link ByteTokenizer};
+ *    los buffers se reciclan por una segunda cola, así que la memoria es constante
+ *   -Los errores de cualquiera de los dos lados detienen al otro y se relanzan en el llamador;
+ *    las fallas no comprobadas del descompresor llegan envueltas en una IOException
+ * zstd no tiene implementación en el JDK: se reporta con un mensaje que sugiere usar un pipe.
+ */
+final class CompressedInput {
+
+    /** Formatos de compresión reconocidos */
+    enum Format { NONE, GZIP, ZSTD }
+
+    /** Tamaño de cada bloque descomprimido entregado al parser */
+    static final int CHUNK = 256 * 1024;
+    /** Bloques en vuelo entre el descompresor y el parser */
+    static final int DEPTH = 4;
+
+    private static final int GZIP_BUFFER = 64 * 1024;
+
+    private CompressedInput() { }
+
+    /**
+     * Bloque descomprimido; {@code last} marca el fin del stream y {@code error} una falla del
+     * descompresor, de cualquier tipo, para que el parser nunca quede esperando un bloque que no llega
+     */
+    private record Chunk(byte[] data, int length, boolean last, Throwable error) { }
+
+    static Format detect(FileChannel channel) throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(4);
+        channel.read(magic, 0);
+        magic.flip();
+        if (magic.remaining() >= 2 && (magic.get(0) & 0xff) == 0x1f && (magic.get(1) & 0xff) == 0x8b) {
+            return Format.GZIP;
+        }
+        if (magic.remaining() == 4 && (magic.get(0) & 0xff) == 0x28 && (magic.get(1) & 0xff) == 0xb5
+                && (magic.get(2) & 0xff) == 0x2f && (magic.get(3) & 0xff) == 0xfd) {
+            return Format.ZSTD;
+        }
+        return Format.NONE;
+    }
+
+    static Format detect(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return detect(channel);
+        }
+    }
+
+    /**
+     * Descomprime y parsea un archivo comprimido en formato {@code format}; con {@code errors}
+     * null la lectura es estricta y con {@code probe} null no se mide.
+     */
+    static void read(Path path, Format format, DoubleConsumer sink, ParseErrors errors, ReadProbe probe)
+            throws IOException {
+        if (format == Format.ZSTD) {
+            throw new IOException("Formato zstd no soportado: " + path
+                    + " (descomprimir con 'zstd -dc' y leer desde la entrada estándar)");
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(path), GZIP_BUFFER)) {
+            pipeline(in, sink, errors, probe);
+        }
+    }
+
+    /**
+     * Lee {@code in} en un hilo aparte y parsea los bloques en el hilo llamador.
+     */
+    static void pipeline(InputStream in, DoubleConsumer sink, ParseErrors errors, ReadProbe probe) throws IOException {
+        BlockingQueue<Chunk> full = new ArrayBlockingQueue<>(DEPTH);
+        BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(DEPTH + 2);
+        for (int i = 0; i < DEPTH + 2; i++) free.add(new byte[CHUNK]);
+
+        Thread producer = new Thread(() -> produce(in, free, full), "decompressor");
+        producer.setDaemon(true);
+        producer.start();
+        ByteTokenizer tokenizer = new ByteTokenizer(sink, errors, probe);
+        try {
+            while (true) {
+                long start = probe == null ? 0 : System.nanoTime();
+                Chunk chunk = full.take();
+                if (probe != null) probe.decompressWait(System.nanoTime() - start);
+                if (chunk.error() != null) throw failure(chunk.error());
+                tokenizer.feed(ByteBuffer.wrap(chunk.data(), 0, chunk.length()));
+                if (chunk.last()) break;
+                free.put(chunk.data());
+            }
+            tokenizer.finish();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Lectura interrumpida", ex);
+        } finally {
+            producer.interrupt();
+            try {
+                producer.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void produce(InputStream in, BlockingQueue<byte[]> free, BlockingQueue<Chunk> full) {
+        try {
+            while (true) {
+                byte[] buf = free.take();
+                int n;
+                try {
+                    n = in.readNBytes(buf, 0, buf.length);
+                } catch (Throwable ex) {
+                    full.put(new Chunk(buf, 0, true, ex));
+                    return;
+                }
+                boolean last = n < buf.length;
+                full.put(new Chunk(buf, n, last, null));
+                if (last) return;
+            }
+        } catch (InterruptedException ex) {
+            // el parser terminó (o falló) antes del fin del stream
+        }
+    }
+
+    /**
+     * Excepción a lanzar en el llamador: las IOException tal cual y cualquier otra falla del
+     * descompresor envuelta en una IOException, con la original como causa.
+     */
+    private static IOException failure(Throwable error) {
+        if (error instanceof IOException io) return io;
+        return new IOException("Falló el hilo descompresor: " + error, error);
+    }
+}
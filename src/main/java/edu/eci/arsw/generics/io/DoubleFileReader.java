@@ -1,13 +1,29 @@
 package edu.eci.arsw.generics.io;
 
-import edu.eci.arsw.generics.collections.SimpleLinkedList;
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.metrics.Metrics;
+import edu.eci.arsw.generics.metrics.ReadProbe;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
 
 /**
  * Lector de archivos de números reales
@@ -15,40 +31,433 @@ import java.util.List;
  *   -Admite separadores por coma y/o espacios
  *   -Ignora líneas en blanco
  *   -Ignora comentarios que inician con '#'
+ *   -Los archivos gzip se detectan por sus bytes mágicos y se descomprimen mientras se
+ *    parsean, en un hilo aparte (ver {@link CompressedInput})
+ *   -Por defecto el primer token inválido lanza NumberFormatException; un lector creado con
+ *    {@link #DoubleFileReader(ParseErrors)} omite los inválidos, los registra con línea y columna
+ *    y solo falla si la tasa de errores supera la máxima
+ *   -Cada lectura publica bytes, líneas, valores y tiempos de E/S y parseo en {@link Metrics}
+ *    y en un evento JFR cuando están activos ({@link ReadProbe}); si no, no mide nada
  */
 public class DoubleFileReader {
 
+    /** Tamaño de cada ventana mapeada en memoria (los archivos grandes se mapean por partes) */
+    static final long MAP_WINDOW = 1L << 28;
+    /** Tamaño mínimo de cada rango en lectura paralela; por debajo no compensa repartir */
+    static final long MIN_PARALLEL_CHUNK = 1L << 20;
+    /** Tamaño del buffer al leer streams y canales */
+    private static final int STREAM_BUFFER = 64 * 1024;
+    /** Rangos por hilo en lectura paralela, para balancear la carga entre workers */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /** Reporte de la lectura tolerante, o null en modo estricto */
+    private final ParseErrors errors;
+
+    /**
+     * Lector estricto: el primer token inválido lanza NumberFormatException.
+     */
+    public DoubleFileReader() {
+        this(null);
+    }
+
+    /**
+     * Lector tolerante: los tokens inválidos se omiten y se registran en {@code errors}, que
+     * acumula sobre todas las lecturas de este lector y se verifica al terminar cada una.
+     *
+     * @param errors reporte de errores, o null para un lector estricto
+     */
+    public DoubleFileReader(ParseErrors errors) {
+        this.errors = errors;
+    }
+
     /**
      * Lee un archivo de texto y retorna una lista con los doubles encontrados.
+     * Los valores se guardan en una {@link DoubleList} (arreglo primitivo), que
+     * sigue siendo una List&lt;Double&gt; para el código existente.
      *
      * @param path ruta del archivo a leer
      * @return lista de valores @link Double
      * @throws IOException si ocurre un error de E/S
      * @throws NumberFormatException si algún token no puede parsearse como double
      */
-    public List<Double> read(String path) throws IOException {
-        SimpleLinkedList<Double> result = new SimpleLinkedList<>();
-        try (BufferedReader br = Files.newBufferedReader(Path.of(path), StandardCharsets.UTF_8)) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                // Remover comentario a partir de '#'
-                int hash = line.indexOf('#');
-                if (hash >= 0) {
-                    line = line.substring(0, hash);
+    public DoubleList read(String path) throws IOException {
+        DoubleList result = new DoubleList();
+        read(path, result);
+        return result;
+    }
+
+    /**
+     * Lee un archivo de texto en modo streaming: cada double encontrado se entrega
+     * a {@code sink} apenas se parsea, sin construir ninguna lista. La memoria usada
+     * no depende del tamaño del archivo.
+     *
+     * @param path ruta del archivo a leer
+     * @param sink destino de los valores, en el orden en que aparecen en el archivo
+     * @throws IOException si ocurre un error de E/S
+     * @throws NumberFormatException si algún token no puede parsearse como double
+     */
+    public void read(String path, DoubleConsumer sink) throws IOException {
+        ReadProbe probe = ReadProbe.start(path);
+        long skipped = skipped();
+        try {
+            DoubleConsumer target = probe == null ? sink : probe.counting(sink);
+            CompressedInput.Format format = CompressedInput.detect(Path.of(path));
+            if (format != CompressedInput.Format.NONE) {
+                CompressedInput.read(Path.of(path), format, target, errors, probe);
+                return;
+            }
+            try (BufferedReader br = Files.newBufferedReader(Path.of(path), StandardCharsets.UTF_8)) {
+                readChars(br, target, probe);
+            }
+        } finally {
+            finish(probe, skipped);
+        }
+    }
+
+    /**
+     * Lee texto de un {@link Reader} en modo streaming, con las mismas reglas que
+     * {@link #read(String, DoubleConsumer)}. Los tokens se parsean sobre un buffer de chars
+     * con {@link DoubleParser}, sin crear un String por línea ni por token. El reader no se cierra.
+     *
+     * @param in fuente de texto
+     * @param sink destino de los valores, en el orden en que aparecen
+     * @throws IOException si ocurre un error de E/S
+     * @throws NumberFormatException si algún token no puede parsearse como double
+     */
+    public void read(Reader in, DoubleConsumer sink) throws IOException {
+        ReadProbe probe = ReadProbe.start("reader");
+        long skipped = skipped();
+        try {
+            readChars(in, probe == null ? sink : probe.counting(sink), probe);
+        } finally {
+            finish(probe, skipped);
+        }
+    }
+
+    private void readChars(Reader in, DoubleConsumer sink, ReadProbe probe) throws IOException {
+        CharTokenizer tokenizer = new CharTokenizer(sink, errors, probe);
+        char[] buf = new char[STREAM_BUFFER / 2];
+        int n;
+        long start = probe == null ? 0 : System.nanoTime();
+        while ((n = in.read(buf)) != -1) {
+            if (probe != null) probe.io(System.nanoTime() - start);
+            tokenizer.feed(buf, 0, n);
+            if (probe != null) start = System.nanoTime();
+        }
+        tokenizer.finish();
+    }
+
+    /**
+     * Lee bytes de un {@link InputStream} (por ejemplo System.in en un pipe) en modo streaming
+     * con el tokenizador de bytes: la memoria usada es constante y los valores se entregan a
+     * medida que llegan. El stream no se cierra.
+     *
+     * @param in fuente de bytes en ASCII/UTF-8
+     * @param sink destino de los valores, en el orden en que aparecen
+     * @throws IOException si ocurre un error de E/S
+     * @throws NumberFormatException si algún token no puede parsearse como double
+     */
+    public void read(InputStream in, DoubleConsumer sink) throws IOException {
+        ReadProbe probe = ReadProbe.start("stream");
+        long skipped = skipped();
+        try {
+            ByteTokenizer tokenizer = new ByteTokenizer(probe == null ? sink : probe.counting(sink), errors, probe);
+            byte[] chunk = new byte[STREAM_BUFFER];
+            ByteBuffer view = ByteBuffer.wrap(chunk);
+            int n;
+            long start = probe == null ? 0 : System.nanoTime();
+            while ((n = in.read(chunk)) >= 0) {
+                if (probe != null) probe.io(System.nanoTime() - start);
+                if (n > 0) {
+                    view.clear().limit(n);
+                    tokenizer.feed(view);
                 }
-                line = line.trim();
-                if (line.isEmpty()) continue;
-
-                // Separadores: comas y/o espacios
-                String[] tokens = line.split("[,\\s]+");
-                for (String token : tokens) {
-                    if (token.isEmpty()) continue;
-                    // Double.parseDouble usa '.' independientemente del Locale actual
-                    double val = Double.parseDouble(token);
-                    result.add(val);
+                if (probe != null) start = System.nanoTime();
+            }
+            tokenizer.finish();
+        } finally {
+            finish(probe, skipped);
+        }
+    }
+
+    /**
+     * Lee bytes de un canal en modo streaming, igual que {@link #read(InputStream, DoubleConsumer)}.
+     * El canal no se cierra.
+     *
+     * @param in canal de bytes en ASCII/UTF-8
+     * @param sink destino de los valores, en el orden en que aparecen
+     * @throws IOException si ocurre un error de E/S
+     * @throws NumberFormatException si algún token no puede parsearse como double
+     */
+    public void read(ReadableByteChannel in, DoubleConsumer sink) throws IOException {
+        ReadProbe probe = ReadProbe.start("channel");
+        long skipped = skipped();
+        try {
+            ByteTokenizer tokenizer = new ByteTokenizer(probe == null ? sink : probe.counting(sink), errors, probe);
+            ByteBuffer chunk = ByteBuffer.allocate(STREAM_BUFFER);
+            long start = probe == null ? 0 : System.nanoTime();
+            while (in.read(chunk) >= 0) {
+                if (probe != null) probe.io(System.nanoTime() - start);
+                chunk.flip();
+                tokenizer.feed(chunk);
+                chunk.clear();
+                if (probe != null) start = System.nanoTime();
+            }
+            tokenizer.finish();
+        } finally {
+            finish(probe, skipped);
+        }
+    }
+
+    /**
+     * Lee un archivo mapeándolo en memoria y recorriendo los bytes directamente:
+     * no crea Strings por línea ni por token en los casos habituales. Aplica las
+     * mismas reglas de formato que {@link #read(String, DoubleConsumer)}.
+     *
+     * @param path ruta del archivo a leer
+     * @param sink destino de los valores, en el orden en que aparecen en el archivo
+     * @throws IOException si ocurre un error de E/S
+     * @throws NumberFormatException si algún token no puede parsearse como double
+     */
+    public void readMapped(String path, DoubleConsumer sink) throws IOException {
+        ReadProbe probe = ReadProbe.start(path);
+        long skipped = skipped();
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            DoubleConsumer target = probe == null ? sink : probe.counting(sink);
+            CompressedInput.Format format = CompressedInput.detect(channel);
+            if (format != CompressedInput.Format.NONE) {
+                CompressedInput.read(Path.of(path), format, target, errors, probe);
+                return;
+            }
+            readMappedRange(channel, 0, channel.size(), target, errors, probe);
+        } finally {
+            finish(probe, skipped);
+        }
+    }
+
+    /**
+     * Lee un archivo en paralelo: lo divide en rangos de bytes alineados a saltos de
+     * línea, parsea cada rango (mapeado en memoria) en un worker de un
+     * {@link ForkJoinPool} con su propio acumulador y combina los parciales en orden.
+     * Los archivos comprimidos no se dividen: se leen con un único acumulador. Un lector
+     * tolerante tampoco divide el archivo, para informar líneas absolutas.
+     *
+     * @param path ruta del archivo a leer
+     * @param parallelism cantidad de hilos (&gt;= 1); con 1 la lectura es secuencial
+     * @param supplier crea un acumulador vacío por rango
+     * @param combiner fusiona el acumulador de la derecha en el de la izquierda y retorna el resultado
+     * @param <T> tipo del acumulador
+     * @return acumulador con todos los valores del archivo
+     * @throws IOException si ocurre un error de E/S
+     * @throws NumberFormatException si algún token no puede parsearse como double
+     * @throws IllegalArgumentException si {@code parallelism} &lt; 1
+     */
+    public <T extends DoubleConsumer> T readParallel(String path, int parallelism,
+                                                     Supplier<T> supplier,
+                                                     BinaryOperator<T> combiner) throws IOException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("La cantidad de hilos debe ser >= 1: " + parallelism);
+        }
+        return readSplit(path, parallelism, null, supplier, combiner);
+    }
+
+    /**
+     * Como {@link #readParallel(String, int, Supplier, BinaryOperator)}, pero los rangos se parsean
+     * en un pool del llamador, que no se cierra al terminar. Sirve para procesos que leen muchos
+     * archivos (lotes, servidor) sin crear y destruir un pool por archivo; varias lecturas
+     * concurrentes comparten así sus hilos. Si el pool tiene más hilos que {@code parallelism},
+     * el archivo se divide en a lo sumo {@code parallelism} rangos, de modo que esta lectura no
+     * ocupa más de {@code parallelism} hilos del pool.
+     *
+     * @param path ruta del archivo a leer
+     * @param parallelism hilos del pool que puede usar esta lectura (&gt;= 1); con 1 es secuencial
+     * @param pool pool donde se parsean los rangos
+     * @param supplier crea un acumulador vacío por rango
+     * @param combiner fusiona el acumulador de la derecha en el de la izquierda y retorna el resultado
+     * @param <T> tipo del acumulador
+     * @return acumulador con todos los valores del archivo
+     * @throws IOException si ocurre un error de E/S
+     * @throws NumberFormatException si algún token no puede parsearse como double
+     * @throws IllegalArgumentException si {@code parallelism} &lt; 1
+     */
+    public <T extends DoubleConsumer> T readParallel(String path, int parallelism, ForkJoinPool pool,
+                                                     Supplier<T> supplier,
+                                                     BinaryOperator<T> combiner) throws IOException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("La cantidad de hilos debe ser >= 1: " + parallelism);
+        }
+        return readSplit(path, parallelism, pool, supplier, combiner);
+    }
+
+    /** Divide según {@code parallelism} y parsea en {@code shared}, o en un pool propio si es null */
+    private <T extends DoubleConsumer> T readSplit(String path, int parallelism, ForkJoinPool shared,
+                                                   Supplier<T> supplier,
+                                                   BinaryOperator<T> combiner) throws IOException {
+        // cada rango es una tarea que un worker libre puede robar: en un pool más grande que
+        // parallelism solo un rango por hilo acota los hilos que ocupa esta lectura
+        int chunksPerThread = shared == null || shared.getParallelism() <= parallelism ? CHUNKS_PER_THREAD : 1;
+        ReadProbe probe = ReadProbe.start(path);
+        long skipped = skipped();
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            CompressedInput.Format format = CompressedInput.detect(channel);
+            if (format != CompressedInput.Format.NONE) {
+                // un stream comprimido no se puede dividir: un hilo descomprime y el llamador parsea
+                T acc = supplier.get();
+                CompressedInput.read(Path.of(path), format, probe == null ? acc : probe.counting(acc), errors, probe);
+                return acc;
+            }
+            // en modo tolerante las líneas de los errores se cuentan desde el inicio: lectura secuencial
+            long[] bounds = splitAtLines(channel, errors == null ? parallelism : 1, chunksPerThread);
+            if (bounds.length == 2) {
+                T acc = supplier.get();
+                readMappedRange(channel, 0, bounds[1], probe == null ? acc : probe.counting(acc), errors, probe);
+                return acc;
+            }
+            ForkJoinPool pool = shared == null ? new ForkJoinPool(parallelism) : shared;
+            try {
+                return pool.invoke(new RangeTask<>(channel, bounds, 0, bounds.length - 1, supplier, combiner, probe));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            } catch (RuntimeException ex) {
+                throw unwrapForkJoin(ex);
+            } finally {
+                if (shared == null) pool.shutdown();
+            }
+        } finally {
+            finish(probe, skipped);
+        }
+    }
+
+    /**
+     * Lee el rango [from, to) de un archivo de texto sin comprimir ya abierto. {@code from} debe ser
+     * 0 o el inicio de una línea; lo usa la lectura incremental de {@link IncrementalReader}.
+     */
+    void readRange(FileChannel channel, String source, long from, long to, DoubleConsumer sink) throws IOException {
+        ReadProbe probe = ReadProbe.start(source);
+        long skipped = skipped();
+        try {
+            readMappedRange(channel, from, to, probe == null ? sink : probe.counting(sink), errors, probe);
+        } finally {
+            finish(probe, skipped);
+        }
+    }
+
+    /** Tokens omitidos hasta ahora por el lector tolerante (0 si es estricto) */
+    private long skipped() {
+        return errors == null ? 0 : errors.errorCount();
+    }
+
+    private void finish(ReadProbe probe, long skippedBefore) {
+        if (probe != null) probe.finish(skipped() - skippedBefore);
+    }
+
+    /**
+     * ForkJoinPool puede relanzar en el hilo llamador una copia de la excepción del worker
+     * (sin mensaje) cuya causa es la original, una vez por cada join anidado; se retorna
+     * la original para conservar el token en el mensaje.
+     */
+    private static RuntimeException unwrapForkJoin(RuntimeException ex) {
+        RuntimeException current = ex;
+        while (current.getCause() != null && current.getCause().getClass() == current.getClass()) {
+            current = (RuntimeException) current.getCause();
+        }
+        return current;
+    }
+
+    /**
+     * Calcula los límites de los rangos: cada límite intermedio queda justo después de un
+     * salto de línea, donde no puede haber ni un token ni un comentario abierto.
+     */
+    private static long[] splitAtLines(FileChannel channel, int parallelism, int chunksPerThread) throws IOException {
+        long size = channel.size();
+        int chunks = parallelism == 1 ? 1
+                : (int) Math.max(1, Math.min((long) parallelism * chunksPerThread, size / MIN_PARALLEL_CHUNK));
+        List<Long> bounds = new ArrayList<>(chunks + 1);
+        bounds.add(0L);
+        long chunkSize = size / chunks;
+        ByteBuffer probe = ByteBuffer.allocate(64 * 1024);
+        for (int c = 1; c < chunks; c++) {
+            long start = Math.max(c * chunkSize, bounds.get(bounds.size() - 1));
+            long boundary = nextLineStart(channel, start, size, probe);
+            if (boundary < size && boundary > bounds.get(bounds.size() - 1)) bounds.add(boundary);
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer probe) throws IOException {
+        long pos = from;
+        while (pos < size) {
+            probe.clear();
+            int n = channel.read(probe, pos);
+            if (n <= 0) break;
+            for (int i = 0; i < n; i++) {
+                byte b = probe.get(i);
+                if (b == '\n' || b == '\r') return pos + i + 1;
+            }
+            pos += n;
+        }
+        return size;
+    }
+
+    private static void readMappedRange(FileChannel channel, long from, long to, DoubleConsumer sink,
+                                        ParseErrors errors, ReadProbe probe) throws IOException {
+        ByteTokenizer tokenizer = new ByteTokenizer(sink, errors, probe);
+        for (long pos = from; pos < to; pos += MAP_WINDOW) {
+            long len = Math.min(MAP_WINDOW, to - pos);
+            long start = probe == null ? 0 : System.nanoTime();
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, pos, len);
+            if (probe != null) probe.io(System.nanoTime() - start);
+            tokenizer.feed(window);
+        }
+        tokenizer.finish();
+    }
+
+    /**
+     * Tarea fork-join que divide la lista de rangos por la mitad hasta llegar a un rango,
+     * y combina los resultados de izquierda a derecha para conservar el orden del archivo.
+     */
+    private static final class RangeTask<T extends DoubleConsumer> extends RecursiveTask<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long[] bounds;
+        private final int lo;
+        private final int hi;
+        private final Supplier<T> supplier;
+        private final BinaryOperator<T> combiner;
+        private final ReadProbe probe;
+
+        RangeTask(FileChannel channel, long[] bounds, int lo, int hi,
+                  Supplier<T> supplier, BinaryOperator<T> combiner, ReadProbe probe) {
+            this.channel = channel;
+            this.bounds = bounds;
+            this.lo = lo;
+            this.hi = hi;
+            this.supplier = supplier;
+            this.combiner = combiner;
+            this.probe = probe;
+        }
+
+        @Override
+        protected T compute() {
+            if (hi - lo == 1) {
+                T acc = supplier.get();
+                long allocated = probe == null ? 0 : Metrics.allocatedBytes();
+                try {
+                    readMappedRange(channel, bounds[lo], bounds[hi], probe == null ? acc : probe.counting(acc), null, probe);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
                 }
+                if (probe != null && allocated >= 0) probe.workerAllocated(Metrics.allocatedBytes() - allocated);
+                return acc;
             }
+            int mid = (lo + hi) >>> 1;
+            RangeTask<T> left = new RangeTask<>(channel, bounds, lo, mid, supplier, combiner, probe);
+            RangeTask<T> right = new RangeTask<>(channel, bounds, mid, hi, supplier, combiner, probe);
+            right.fork();
+            T l = left.compute();
+            return combiner.apply(l, right.join());
         }
-        return result;
     }
 }
@@ -0,0 +1,320 @@
+package edu.eci.arsw.generics.io;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parser de doubles que trabaja directamente sobre rangos de bytes ASCII o de chars, sin crear Strings
+ * Reglas:
+ *   -Formato de la ruta rápida: signo opcional, dígitos, punto decimal '.' y exponente opcional
+ *   -Si la mantisa cabe en 2^53 y |exponente| &lt;= 22 el resultado es exacto con una
+ *    multiplicación o división de doubles (Clinger)
+ *   -Si no, se usa el algoritmo de Eisel-Lemire: un producto de 128 bits contra una tabla de
+ *    potencias de cinco que decide el redondeo correcto salvo en casos raros, detectados
+ *   -Con más de 19 dígitos significativos se trunca la mantisa y se acepta el resultado solo si
+ *    w y w+1 redondean al mismo double
+ *   -Cualquier otro caso (casos ambiguos, subnormales, NaN, Infinity, hexadecimal, sufijos d/f,
+ *    tokens inválidos) delega en @code Double.parseDouble, de modo que el resultado es idéntico
+ *    bit a bit y los errores muestran el token igual que la ruta basada en String
+ */
+final class DoubleParser {
+
+    /** Potencias de 10 exactamente representables como double */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_SIGNIFICANT_DIGITS = 19;
+
+    /** Rango de exponentes decimales de la tabla; fuera de él el resultado es 0 o infinito */
+    private static final int MIN_POWER = -342;
+    private static final int MAX_POWER = 308;
+    /** Exponentes en los que w·5^q es exacto y puede caer justo entre dos doubles */
+    private static final int MIN_ROUND_TO_EVEN = -4;
+    private static final int MAX_ROUND_TO_EVEN = 23;
+    /** Pares (alto, bajo) con los 128 bits más significativos de 5^q, para q en [MIN_POWER, MAX_POWER] */
+    private static final long[] POWERS_OF_FIVE = powersOfFive();
+
+    private DoubleParser() { }
+
+    /**
+     * Parsea el token {@code buf[off, off+len)} como double.
+     *
+     * @param buf bytes del token
+     * @param off posición inicial
+     * @param len longitud del token
+     * @return valor parseado, idéntico al de {@code Double.parseDouble}
+     * @throws NumberFormatException si el token no es un double válido
+     */
+    static double parse(byte[] buf, int off, int len) {
+        int end = off + len;
+        int i = off;
+        boolean negative = false;
+        if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+            negative = buf[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+
+        int start = i;
+        while (i < end && isDigit(buf[i])) {
+            int d = buf[i++] - '0';
+            if (mantissa != 0 || d != 0) {
+                if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                    mantissa = mantissa * 10 + d;
+                    significantDigits++;
+                } else {
+                    exponent++;
+                    truncated |= d != 0;
+                }
+            }
+        }
+        digits += i - start;
+
+        if (i < end && buf[i] == '.') {
+            i++;
+            start = i;
+            while (i < end && isDigit(buf[i])) {
+                int d = buf[i++] - '0';
+                if (mantissa == 0 && d == 0) {
+                    exponent--;
+                } else if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                    mantissa = mantissa * 10 + d;
+                    significantDigits++;
+                    exponent--;
+                } else {
+                    truncated |= d != 0;
+                }
+            }
+            digits += i - start;
+        }
+        if (digits == 0) return fallback(buf, off, len);
+
+        if (i < end && (buf[i] == 'e' || buf[i] == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+                negativeExp = buf[i] == '-';
+                i++;
+            }
+            start = i;
+            int exp = 0;
+            while (i < end && isDigit(buf[i])) {
+                if (exp < 100_000) exp = exp * 10 + (buf[i] - '0');
+                i++;
+            }
+            if (i == start) return fallback(buf, off, len);
+            exponent += negativeExp ? -exp : exp;
+        }
+        if (i != end) return fallback(buf, off, len);
+
+        double value = toDouble(negative, mantissa, exponent, truncated);
+        return Double.isNaN(value) ? fallback(buf, off, len) : value;
+    }
+
+    /**
+     * Parsea el token {@code buf[off, off+len)} como double, con las mismas reglas que
+     * {@link #parse(byte[], int, int)}.
+     *
+     * @param buf chars del token
+     * @param off posición inicial
+     * @param len longitud del token
+     * @return valor parseado, idéntico al de {@code Double.parseDouble}
+     * @throws NumberFormatException si el token no es un double válido
+     */
+    static double parse(char[] buf, int off, int len) {
+        int end = off + len;
+        int i = off;
+        boolean negative = false;
+        if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+            negative = buf[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+
+        int start = i;
+        while (i < end && isDigit(buf[i])) {
+            int d = buf[i++] - '0';
+            if (mantissa != 0 || d != 0) {
+                if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                    mantissa = mantissa * 10 + d;
+                    significantDigits++;
+                } else {
+                    exponent++;
+                    truncated |= d != 0;
+                }
+            }
+        }
+        digits += i - start;
+
+        if (i < end && buf[i] == '.') {
+            i++;
+            start = i;
+            while (i < end && isDigit(buf[i])) {
+                int d = buf[i++] - '0';
+                if (mantissa == 0 && d == 0) {
+                    exponent--;
+                } else if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                    mantissa = mantissa * 10 + d;
+                    significantDigits++;
+                    exponent--;
+                } else {
+                    truncated |= d != 0;
+                }
+            }
+            digits += i - start;
+        }
+        if (digits == 0) return fallback(buf, off, len);
+
+        if (i < end && (buf[i] == 'e' || buf[i] == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+                negativeExp = buf[i] == '-';
+                i++;
+            }
+            start = i;
+            int exp = 0;
+            while (i < end && isDigit(buf[i])) {
+                if (exp < 100_000) exp = exp * 10 + (buf[i] - '0');
+                i++;
+            }
+            if (i == start) return fallback(buf, off, len);
+            exponent += negativeExp ? -exp : exp;
+        }
+        if (i != end) return fallback(buf, off, len);
+
+        double value = toDouble(negative, mantissa, exponent, truncated);
+        return Double.isNaN(value) ? fallback(buf, off, len) : value;
+    }
+
+    /**
+     * Convierte mantisa·10^exponent al double más cercano.
+     *
+     * @param mantissa hasta 19 dígitos decimales, sin signo
+     * @param truncated si se descartaron dígitos no nulos después de los primeros 19
+     * @return el double, o NaN si la ruta rápida no puede decidir y hay que delegar
+     */
+    private static double toDouble(boolean negative, long mantissa, int exponent, boolean truncated) {
+        if (mantissa == 0) return negative ? -0.0 : 0.0;
+        long bits;
+        if (!truncated) {
+            if (mantissa >= 0 && mantissa <= MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+                double value = mantissa;
+                value = exponent < 0 ? value / POWERS_OF_TEN[-exponent] : value * POWERS_OF_TEN[exponent];
+                return negative ? -value : value;
+            }
+            bits = eiselLemire(mantissa, exponent);
+        } else {
+            // el valor real está entre w y w+1: si ambos redondean igual, ese es el resultado
+            bits = eiselLemire(mantissa, exponent);
+            if (bits != eiselLemire(mantissa + 1, exponent)) bits = -1;
+        }
+        if (bits < 0) return Double.NaN;
+        return Double.longBitsToDouble(negative ? bits | Long.MIN_VALUE : bits);
+    }
+
+    /**
+     * Eisel-Lemire: bits (sin signo) del double más cercano a w·10^q, con w no nulo.
+     *
+     * @return los bits, o -1 si el resultado es subnormal, infinito, está fuera de la tabla
+     *         o el producto truncado no alcanza para decidir el redondeo
+     */
+    private static long eiselLemire(long w, int q) {
+        if (q < MIN_POWER || q > MAX_POWER) return -1;
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+
+        int index = 2 * (q - MIN_POWER);
+        long high = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+        long low = w * POWERS_OF_FIVE[index];
+        if ((high & 0x1FF) == 0x1FF) {
+            // los 55 bits superiores pueden cambiar con el resto del producto: se suma la parte baja de 5^q
+            long carry = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            low += carry;
+            if (Long.compareUnsigned(carry, low) > 0) high++;
+        }
+        if (low == -1L && (q < -27 || q > 55)) return -1;
+
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 9;
+        long mantissa = high >>> shift;
+        int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperBit - lz + 1023;
+        if (power2 <= 0) return -1;
+
+        // justo entre dos doubles (solo posible si w·5^q es exacto): redondeo al par
+        if (Long.compareUnsigned(low, 1) <= 0 && q >= MIN_ROUND_TO_EVEN && q <= MAX_ROUND_TO_EVEN
+                && (mantissa & 3) == 1 && (mantissa << shift) == high) {
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << 52)) {
+            mantissa = 1L << 52;
+            power2++;
+        }
+        mantissa &= ~(1L << 52);
+        if (power2 >= 0x7FF) return -1;
+        return ((long) power2 << 52) | mantissa;
+    }
+
+    /** Parte alta del producto sin signo de 64x64 bits */
+    private static long unsignedMultiplyHigh(long a, long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    /**
+     * Tabla de 5^q normalizada a 128 bits: truncada para q &gt;= 0 y, para q &lt; 0, la aproximación
+     * del recíproco por exceso (q &gt;= -27) o truncada con precisión extra (q &lt; -27).
+     */
+    private static long[] powersOfFive() {
+        long[] table = new long[2 * (MAX_POWER - MIN_POWER + 1)];
+        BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int q = MIN_POWER; q <= MAX_POWER; q++) {
+            BigInteger c;
+            if (q >= 0) {
+                c = BigInteger.valueOf(5).pow(q);
+                int bits = c.bitLength();
+                c = bits > 128 ? c.shiftRight(bits - 128) : c.shiftLeft(128 - bits);
+            } else {
+                BigInteger power5 = BigInteger.valueOf(5).pow(-q);
+                int z = power5.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                c = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+                int bits = c.bitLength();
+                if (bits > 128) c = c.shiftRight(bits - 128);
+            }
+            int index = 2 * (q - MIN_POWER);
+            table[index] = c.shiftRight(64).longValue();
+            table[index + 1] = c.and(mask).longValue();
+        }
+        return table;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static double fallback(byte[] buf, int off, int len) {
+        return Double.parseDouble(new String(buf, off, len, StandardCharsets.UTF_8));
+    }
+
+    private static double fallback(char[] buf, int off, int len) {
+        return Double.parseDouble(new String(buf, off, len));
+    }
+}
@@ -0,0 +1,253 @@
+package edu.eci.arsw.generics.io;
+
+import edu.eci.arsw.generics.math.RunningStats;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.DoubleConsumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Lectura incremental de archivos de texto que solo crecen (logs de solo-añadir)
+ * Características:
+ *   -Guarda un checkpoint de {@value #CHECKPOINT_SIZE} bytes junto al archivo ({@code <archivo>.gstats})
+ *    o en un directorio de caché: offset del último salto de línea leído, count, media, M2, min y max
+ *   -La siguiente lectura parsea solo los bytes añadidos desde ese offset y combina sus
+ *    estadísticas con las guardadas, así que cuesta en proporción a los datos nuevos
+ *   -La última línea sin salto de línea se incluye en el resultado pero no en el checkpoint,
+ *    porque el escritor puede estar completándola
+ *   -El checkpoint guarda el CRC32C de los primeros y de los últimos {@value #FINGERPRINT} bytes
+ *    ya leídos: si el archivo es más corto que el offset o alguno cambió, se considera truncado
+ *    o reescrito y se recalcula desde el principio
+ *   -Los archivos comprimidos no se pueden retomar: se leen completos y sin checkpoint
+ * Un cambio en el medio de lo ya leído que conserve el tamaño, el inicio y el final no se detecta.
+ */
+public final class IncrementalReader {
+
+    /** Extensión de los archivos de checkpoint */
+    public static final String SUFFIX = ".gstats";
+    /** Tamaño del checkpoint en bytes */
+    static final int CHECKPOINT_SIZE = 80;
+    /** Bytes del inicio y del final de lo ya leído que se comparan para detectar reescrituras */
+    static final int FINGERPRINT = 4096;
+
+    private static final int MAGIC = 'G' | 'C' << 8 | 'K' << 16 | 'P' << 24;
+    private static final int VERSION = 1;
+    /** Bloque al buscar hacia atrás el último salto de línea */
+    private static final int SCAN_BLOCK = 64 * 1024;
+
+    /** Directorio de checkpoints, o null para guardarlos junto a cada archivo */
+    private final Path directory;
+    private final DoubleFileReader reader = new DoubleFileReader();
+
+    /**
+     * Lector que guarda cada checkpoint junto a su archivo.
+     */
+    public IncrementalReader() {
+        this(null);
+    }
+
+    /**
+     * @param directory directorio de checkpoints (se crea si no existe), o null para guardarlos
+     *                  junto a cada archivo
+     */
+    public IncrementalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Resultado de una lectura incremental.
+     *
+     * @param stats count, media y M2 de todo el archivo
+     * @param min valor mínimo (NaN si no hay datos)
+     * @param max valor máximo (NaN si no hay datos)
+     * @param resumedAt byte desde el que se parseó en esta lectura (0 si fue completa)
+     * @param newValues valores parseados en esta lectura
+     * @param reset true si había un checkpoint pero el archivo fue truncado o reescrito
+     */
+    public record Result(RunningStats stats, double min, double max, long resumedAt, long newValues, boolean reset) { }
+
+    /**
+     * Calcula las estadísticas del archivo retomando desde su checkpoint y lo actualiza.
+     *
+     * @param path ruta del archivo de texto
+     * @return estadísticas de todo el archivo y cuánto se leyó
+     * @throws IOException si ocurre un error de E/S
+     * @throws NumberFormatException si algún token nuevo no puede parsearse como double
+     */
+    public Result read(String path) throws IOException {
+        Path file = Path.of(path);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (CompressedInput.detect(channel) != CompressedInput.Format.NONE) {
+                Extremes all = new Extremes();
+                reader.readMapped(path, all);
+                return all.result(0, all.stats.count(), false);
+            }
+            long size = channel.size();
+            Path checkpointFile = checkpointFor(file);
+            Checkpoint saved = Checkpoint.load(checkpointFile);
+            boolean reset = saved != null && !saved.matches(channel, size);
+            if (reset) saved = null;
+
+            long from = saved == null ? 0 : saved.offset;
+            long end = lastLineEnd(channel, from, size);
+            Extremes committed = saved == null ? new Extremes() : saved.extremes();
+            long before = committed.stats.count();
+            if (end > from) reader.readRange(channel, path, from, end, committed);
+            if (saved == null || end > from) {
+                Checkpoint.of(channel, end, committed).save(checkpointFile);
+            }
+            Extremes total = committed.copy();
+            if (size > end) reader.readRange(channel, path, end, size, total);
+            return total.result(from, total.stats.count() - before, reset);
+        }
+    }
+
+    /**
+     * @param file archivo de datos
+     * @return ruta de su checkpoint: {@code <archivo>.gstats} o, con directorio, {@code <nombre>-<crc de la ruta>.gstats}
+     * @throws IOException si no se puede crear el directorio de checkpoints
+     */
+    public Path checkpointFor(Path file) throws IOException {
+        if (directory == null) {
+            return file.resolveSibling(file.getFileName() + SUFFIX);
+        }
+        Files.createDirectories(directory);
+        CRC32C crc = new CRC32C();
+        crc.update(file.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(String.format("%s-%08x%s", file.getFileName(), crc.getValue(), SUFFIX));
+    }
+
+    /** Posición justo después del último salto de línea en [from, size), o {@code from} si no hay ninguno */
+    private static long lastLineEnd(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(SCAN_BLOCK);
+        long end = size;
+        while (end > from) {
+            int len = (int) Math.min(SCAN_BLOCK, end - from);
+            long start = end - len;
+            block.clear().limit(len);
+            while (block.hasRemaining()) {
+                if (channel.read(block, start + block.position()) < 0) break;
+            }
+            for (int i = block.position() - 1; i >= 0; i--) {
+                byte b = block.get(i);
+                if (b == '\n' || b == '\r') return start + i + 1;
+            }
+            end = start;
+        }
+        return from;
+    }
+
+    private static long crc(FileChannel channel, long from, long to) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate((int) (to - from));
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, from + bytes.position()) < 0) break;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(bytes.flip());
+        return crc.getValue();
+    }
+
+    /** RunningStats más mínimo y máximo, que RunningStats no lleva */
+    private static final class Extremes implements DoubleConsumer {
+        final RunningStats stats;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+
+        Extremes() {
+            this(new RunningStats());
+        }
+
+        Extremes(RunningStats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public void accept(double value) {
+            stats.accept(value);
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+
+        Extremes copy() {
+            Extremes copy = new Extremes(new RunningStats().combine(stats));
+            copy.min = min;
+            copy.max = max;
+            return copy;
+        }
+
+        Result result(long resumedAt, long newValues, boolean reset) {
+            boolean empty = stats.count() == 0;
+            return new Result(stats, empty ? Double.NaN : min, empty ? Double.NaN : max, resumedAt, newValues, reset);
+        }
+    }
+
+    /**
+     * Contenido del checkpoint (little-endian): magic "GCKP", versión (int), offset, CRC32C del
+     * inicio, CRC32C del final, count (longs), media, M2, min, max (doubles) y CRC32C de los
+     * bytes anteriores (long), para descartar checkpoints dañados.
+     */
+    private record Checkpoint(long offset, long head, long tail, long count,
+                              double mean, double m2, double min, double max) {
+
+        static Checkpoint of(FileChannel channel, long offset, Extremes acc) throws IOException {
+            RunningStats stats = acc.stats;
+            return new Checkpoint(offset,
+                    crc(channel, 0, Math.min(FINGERPRINT, offset)),
+                    crc(channel, offset - Math.min(FINGERPRINT, offset), offset),
+                    stats.count(), stats.count() == 0 ? 0.0 : stats.mean(), stats.m2(), acc.min, acc.max);
+        }
+
+        /** @return el checkpoint guardado, o null si no existe o está dañado */
+        static Checkpoint load(Path path) throws IOException {
+            if (!Files.isRegularFile(path) || Files.size(path) != CHECKPOINT_SIZE) return null;
+            ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+            if (buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) return null;
+            CRC32C crc = new CRC32C();
+            crc.update(buf.array(), 0, CHECKPOINT_SIZE - 8);
+            if (crc.getValue() != buf.getLong(CHECKPOINT_SIZE - 8)) return null;
+            buf.position(8);
+            Checkpoint cp = new Checkpoint(buf.getLong(), buf.getLong(), buf.getLong(), buf.getLong(),
+                    buf.getDouble(), buf.getDouble(), buf.getDouble(), buf.getDouble());
+            return cp.offset >= 0 && cp.count >= 0 && cp.m2 >= 0 ? cp : null;
+        }
+
+        boolean matches(FileChannel channel, long size) throws IOException {
+            if (offset > size) return false;
+            long len = Math.min(FINGERPRINT, offset);
+            return crc(channel, 0, len) == head && crc(channel, offset - len, offset) == tail;
+        }
+
+        Extremes extremes() {
+            Extremes acc = new Extremes(new RunningStats(count, mean, m2));
+            acc.min = min;
+            acc.max = max;
+            return acc;
+        }
+
+        /** Escribe en un temporal y lo renombra, para que una interrupción no deje un checkpoint a medias */
+        void save(Path path) throws IOException {
+            ByteBuffer buf = ByteBuffer.allocate(CHECKPOINT_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buf.putInt(MAGIC).putInt(VERSION).putLong(offset).putLong(head).putLong(tail).putLong(count)
+                    .putDouble(mean).putDouble(m2).putDouble(min).putDouble(max);
+            CRC32C crc = new CRC32C();
+            crc.update(buf.array(), 0, buf.position());
+            buf.putLong(crc.getValue());
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(tmp, buf.array());
+            try {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
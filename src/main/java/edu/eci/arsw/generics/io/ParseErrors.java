@@ -0,0 +1,137 @@
+package edu.eci.arsw.generics.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reporte de tokens inválidos para la lectura tolerante de {@link DoubleFileReader}
+ * Características:
+ *   -Cuenta los valores válidos y los tokens inválidos omitidos
+ *   -Guarda la línea, la columna y el texto de los primeros {@code maxRecorded} errores
+ *    (memoria acotada; los tokens muy largos se recortan a {@value #MAX_TOKEN_LENGTH} caracteres)
+ *   -Al terminar cada lectura verifica la tasa de errores acumulada y lanza
+ *    NumberFormatException si supera {@code maxErrorRate}
+ * Las líneas y columnas empiezan en 1; la columna se cuenta en bytes al leer bytes y en chars
+ * al leer de un Reader. No es seguro para hilos: cada lectura usa un reporte propio o secuencial.
+ */
+public final class ParseErrors {
+
+    /** Errores guardados con posición por defecto */
+    public static final int DEFAULT_MAX_RECORDED = 100;
+    static final int MAX_TOKEN_LENGTH = 64;
+
+    /**
+     * Token inválido y su posición.
+     *
+     * @param line línea (desde 1)
+     * @param column columna del primer carácter del token (desde 1)
+     * @param token texto del token, recortado si es muy largo
+     */
+    public record Entry(long line, long column, String token) {
+        @Override
+        public String toString() {
+            return "línea " + line + ", columna " + column + ": '" + token + "'";
+        }
+    }
+
+    private final double maxErrorRate;
+    private final int maxRecorded;
+    private final List<Entry> recorded = new ArrayList<>();
+    private long values;
+    private long errors;
+
+    /**
+     * Reporte que guarda hasta {@value #DEFAULT_MAX_RECORDED} errores con posición.
+     *
+     * @param maxErrorRate fracción máxima de tokens inválidos, en [0, 1]
+     * @throws IllegalArgumentException si la tasa está fuera de [0, 1]
+     */
+    public ParseErrors(double maxErrorRate) {
+        this(maxErrorRate, DEFAULT_MAX_RECORDED);
+    }
+
+    /**
+     * @param maxErrorRate fracción máxima de tokens inválidos, en [0, 1]
+     * @param maxRecorded cantidad máxima de errores que se guardan con posición (&gt;= 0)
+     * @throws IllegalArgumentException si algún parámetro está fuera de rango
+     */
+    public ParseErrors(double maxErrorRate, int maxRecorded) {
+        if (!(maxErrorRate >= 0.0 && maxErrorRate <= 1.0)) {
+            throw new IllegalArgumentException("La tasa máxima de errores debe estar en [0, 1]: " + maxErrorRate);
+        }
+        if (maxRecorded < 0) {
+            throw new IllegalArgumentException("La cantidad de errores a guardar debe ser >= 0: " + maxRecorded);
+        }
+        this.maxErrorRate = maxErrorRate;
+        this.maxRecorded = maxRecorded;
+    }
+
+    /**
+     * @return cantidad de tokens inválidos omitidos
+     */
+    public long errorCount() {
+        return errors;
+    }
+
+    /**
+     * @return cantidad de valores parseados correctamente
+     */
+    public long valueCount() {
+        return values;
+    }
+
+    /**
+     * @return fracción de tokens inválidos sobre el total de tokens (0 si no hubo tokens)
+     */
+    public double errorRate() {
+        long tokens = values + errors;
+        return tokens == 0 ? 0.0 : (double) errors / tokens;
+    }
+
+    /**
+     * @return tasa máxima de errores permitida
+     */
+    public double maxErrorRate() {
+        return maxErrorRate;
+    }
+
+    /**
+     * @return los primeros errores con su posición, en orden de aparición (vista no modificable)
+     */
+    public List<Entry> recorded() {
+        return Collections.unmodifiableList(recorded);
+    }
+
+    void value() {
+        values++;
+    }
+
+    void error(long line, long column, String token) {
+        errors++;
+        if (recorded.size() < maxRecorded) {
+            String shown = token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) + "..." : token;
+            recorded.add(new Entry(line, column, shown));
+        }
+    }
+
+    /**
+     * Verifica la tasa de errores acumulada.
+     *
+     * @throws NumberFormatException si supera la máxima, con el primer error en el mensaje
+     */
+    void check() {
+        if (errorRate() <= maxErrorRate) return;
+        String first = recorded.isEmpty() ? "" : "; primero en " + recorded.get(0);
+        throw new NumberFormatException(String.format(Locale.ROOT,
+                "Demasiados tokens inválidos: %d de %d (%.2f%%) supera el máximo de %.2f%%%s",
+                errors, values + errors, errorRate() * 100.0, maxErrorRate * 100.0, first));
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d tokens inválidos de %d (%.2f%%)",
+                errors, values + errors, errorRate() * 100.0);
+    }
+}
@@ -0,0 +1,169 @@
+package edu.eci.arsw.generics.math;
+
+import java.time.Duration;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Media y varianza con decaimiento exponencial (EWMA), actualizadas en O(1) por dato
+ * Características:
+ *   -Por dato: cada dato nuevo pesa {@code alpha} y el historial decae por (1 - alpha)
+ *   -Por tiempo: el peso del historial se reduce a la mitad cada {@code halfLife}, sin importar
+ *    cuántos datos lleguen; alpha = 1 - 2^(-Δt / halfLife)
+ *   -Memoria constante: solo la media, la varianza y la última marca de tiempo
+ *   -Es un DoubleConsumer, así que se conecta directamente a {@code DoubleFileReader.read(path, sink)}
+ * Actualización incremental (Finch, 2009): diff = x - media; media += alpha·diff;
+ * var = (1 - alpha)·(var + alpha·diff²).
+ * No es seguro para hilos.
+ */
+public final class DecayingStats implements DoubleConsumer {
+
+    private final double alpha;
+    private final double halfLifeNanos;
+    private final LongSupplier clock;
+    private long count;
+    private double mean;
+    private double variance;
+    private long lastTime;
+
+    private DecayingStats(double alpha, double halfLifeNanos, LongSupplier clock) {
+        this.alpha = alpha;
+        this.halfLifeNanos = halfLifeNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * Decaimiento por dato con factor fijo.
+     *
+     * @param alpha peso de cada dato nuevo, en (0, 1]
+     * @return acumulador vacío
+     * @throws IllegalArgumentException si {@code alpha} está fuera de (0, 1]
+     */
+    public static DecayingStats withAlpha(double alpha) {
+        if (!(alpha > 0.0 && alpha <= 1.0)) {
+            throw new IllegalArgumentException("alpha debe estar en (0, 1]: " + alpha);
+        }
+        return new DecayingStats(alpha, Double.NaN, () -> 0L);
+    }
+
+    /**
+     * Decaimiento por dato equivalente a una media móvil de {@code span} datos (alpha = 2 / (span + 1)).
+     *
+     * @param span cantidad de datos equivalente
+     * @return acumulador vacío
+     * @throws IllegalArgumentException si {@code span} &lt; 1
+     */
+    public static DecayingStats withSpan(int span) {
+        if (span < 1) {
+            throw new IllegalArgumentException("span debe ser >= 1: " + span);
+        }
+        return withAlpha(2.0 / (span + 1.0));
+    }
+
+    /**
+     * Decaimiento por tiempo según System.nanoTime.
+     *
+     * @param halfLife tiempo en que el peso del historial se reduce a la mitad
+     * @return acumulador vacío
+     * @throws IllegalArgumentException si la duración no es positiva
+     */
+    public static DecayingStats withHalfLife(Duration halfLife) {
+        return withHalfLife(halfLife, System::nanoTime);
+    }
+
+    /**
+     * Decaimiento por tiempo con un reloj propio en nanosegundos.
+     *
+     * @param halfLife tiempo en que el peso del historial se reduce a la mitad
+     * @param clock reloj monótono en nanosegundos que usa {@link #accept(double)}
+     * @return acumulador vacío
+     * @throws IllegalArgumentException si la duración no es positiva
+     */
+    public static DecayingStats withHalfLife(Duration halfLife, LongSupplier clock) {
+        if (halfLife.isNegative() || halfLife.isZero()) {
+            throw new IllegalArgumentException("La vida media debe ser positiva: " + halfLife);
+        }
+        return new DecayingStats(Double.NaN, halfLife.toNanos(), clock);
+    }
+
+    /**
+     * Incorpora un dato; con decaimiento por tiempo lo marca con el reloj.
+     *
+     * @param value dato a incorporar
+     */
+    @Override
+    public void accept(double value) {
+        accept(Double.isNaN(halfLifeNanos) ? 0L : clock.getAsLong(), value);
+    }
+
+    /**
+     * Incorpora un dato con su marca de tiempo (ignorada con decaimiento por dato).
+     *
+     * @param timeNanos marca de tiempo en nanosegundos, no decreciente
+     * @param value dato a incorporar
+     */
+    public void accept(long timeNanos, double value) {
+        if (count++ == 0) {
+            mean = value;
+            variance = 0.0;
+            lastTime = timeNanos;
+            return;
+        }
+        double a = alpha;
+        if (Double.isNaN(a)) {
+            double elapsed = Math.max(0L, timeNanos - lastTime);
+            a = -Math.expm1(-elapsed / halfLifeNanos * Math.log(2.0));
+            lastTime = Math.max(lastTime, timeNanos);
+        }
+        double diff = value - mean;
+        double incr = a * diff;
+        mean += incr;
+        variance = (1.0 - a) * (variance + diff * incr);
+    }
+
+    /**
+     * @return cantidad de datos incorporados
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Media con decaimiento exponencial.
+     *
+     * @return media ponderada
+     * @throws IllegalStateException si no hay datos
+     */
+    public double mean() {
+        if (count == 0) {
+            throw new IllegalStateException("El acumulador no tiene datos.");
+        }
+        return mean;
+    }
+
+    /**
+     * Varianza con decaimiento exponencial.
+     *
+     * @return varianza ponderada
+     * @throws IllegalStateException si no hay datos
+     */
+    public double variance() {
+        mean();
+        return variance;
+    }
+
+    /**
+     * Desviación estándar con decaimiento exponencial.
+     *
+     * @return desviación estándar ponderada
+     * @throws IllegalStateException si no hay datos
+     */
+    public double stdDev() {
+        return Math.sqrt(variance());
+    }
+
+    @Override
+    public String toString() {
+        return "DecayingStats[count=" + count + ", mean=" + mean + ", variance=" + variance + "]";
+    }
+}
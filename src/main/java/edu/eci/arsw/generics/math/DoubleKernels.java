@@ -0,0 +1,147 @@
+package edu.eci.arsw.generics.math;
+
+import java.util.Objects;
+
+/**
+ * Reducciones sobre double[] para las rutas primitivas de {@link Stats}
+ * Características:
+ *   -Suma compensada (Kahan) con varios acumuladores independientes, que además rompen
+ *    la cadena de dependencias de la suma y permiten que la CPU solape operaciones
+ *   -Con el módulo jdk.incubator.vector disponible ({@code --add-modules jdk.incubator.vector})
+ *    usa carriles SIMD del ancho preferido por la CPU (AVX2/AVX-512); si no, usa un bucle escalar
+ *   -La implementación se elige una sola vez al cargar la clase
+ */
+public final class DoubleKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Operaciones de reducción sobre un rango [from, to) de un arreglo.
+     */
+    interface Kernel {
+        double sum(double[] a, int from, int to);
+
+        double sumSquaredDeviations(double[] a, int from, int to, double mean);
+    }
+
+    private static final Kernel KERNEL = select();
+
+    private DoubleKernels() { }
+
+    private static Kernel select() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return new VectorKernel();
+            } catch (LinkageError e) {
+                // módulo presente pero no utilizable: se usa la ruta escalar
+            }
+        }
+        return new ScalarKernel();
+    }
+
+    /**
+     * @return true si las reducciones usan el Vector API
+     */
+    public static boolean isVectorized() {
+        return !(KERNEL instanceof ScalarKernel);
+    }
+
+    /**
+     * Suma compensada de todos los valores.
+     *
+     * @param a valores
+     * @return suma
+     */
+    public static double sum(double[] a) {
+        return sum(a, 0, a.length);
+    }
+
+    /**
+     * Suma compensada de los valores en [from, to).
+     *
+     * @param a valores
+     * @param from inicio (incluido)
+     * @param to fin (excluido)
+     * @return suma
+     * @throws IndexOutOfBoundsException si el rango no es válido
+     */
+    public static double sum(double[] a, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        double sum = KERNEL.sum(a, from, to);
+        return Double.isNaN(sum) ? plainSum(a, from, to) : sum;
+    }
+
+    /**
+     * Suma compensada de (a[i] - mean)^2 para todos los valores.
+     *
+     * @param a valores
+     * @param mean media respecto a la que se miden las diferencias
+     * @return suma de cuadrados de las diferencias
+     */
+    public static double sumSquaredDeviations(double[] a, double mean) {
+        return sumSquaredDeviations(a, 0, a.length, mean);
+    }
+
+    /**
+     * Suma compensada de (a[i] - mean)^2 para i en [from, to).
+     *
+     * @param a valores
+     * @param from inicio (incluido)
+     * @param to fin (excluido)
+     * @param mean media respecto a la que se miden las diferencias
+     * @return suma de cuadrados de las diferencias
+     * @throws IndexOutOfBoundsException si el rango no es válido
+     */
+    public static double sumSquaredDeviations(double[] a, int from, int to, double mean) {
+        Objects.checkFromToIndex(from, to, a.length);
+        double sum = KERNEL.sumSquaredDeviations(a, from, to, mean);
+        return Double.isNaN(sum) ? plainSumSquaredDeviations(a, from, to, mean) : sum;
+    }
+
+    /**
+     * Suma sin compensar, para cuando la compensada da NaN: con infinitos la compensación calcula
+     * Inf - Inf aunque la suma real sea ±Infinity. Como {@link java.util.DoubleSummaryStatistics#getSum()},
+     * se usa la suma simple, que es ±Infinity si solo hay infinitos de un signo (o desborde) y
+     * NaN si hay NaN o infinitos de signos opuestos. Solo se recorre cuando hace falta, así la
+     * ruta normal no paga una suma extra por elemento.
+     */
+    private static double plainSum(double[] a, int from, int to) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) sum += a[i];
+        return sum;
+    }
+
+    private static double plainSumSquaredDeviations(double[] a, int from, int to, double mean) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) {
+            double d = a[i] - mean;
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    /**
+     * Combina sumas parciales y sus compensaciones con Neumaier, que a diferencia de Kahan
+     * no pierde precisión cuando un término es mayor que la suma acumulada.
+     */
+    static double neumaier(double[] sums, double[] compensations) {
+        double[] acc = new double[2];
+        for (int i = 0; i < sums.length; i++) {
+            add(acc, sums[i]);
+            add(acc, -compensations[i]);
+        }
+        return acc[0] + acc[1];
+    }
+
+    /** acc[0] es la suma y acc[1] la compensación acumulada */
+    private static void add(double[] acc, double x) {
+        double sum = acc[0];
+        double t = sum + x;
+        if (Math.abs(sum) >= Math.abs(x)) {
+            acc[1] += (sum - t) + x;
+        } else {
+            acc[1] += (x - t) + sum;
+        }
+        acc[0] = t;
+    }
+}
@@ -0,0 +1,176 @@
+package edu.eci.arsw.generics.math;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Histograma de bins fijos en una sola pasada
+ * Características:
+ *   -Bins lineales ({@link #linear}) o logarítmicos ({@link #logarithmic}) sobre [lower, upper)
+ *   -Los datos fuera del rango se cuentan aparte en underflow y overflow (NaN cuenta como overflow)
+ *   -Memoria O(bins) y O(1) por dato
+ *   -Combinable con otro histograma de la misma forma
+ * No es seguro para hilos; cada hilo debe usar su propio histograma y luego combinarlos.
+ */
+public final class Histogram implements DoubleConsumer {
+
+    private final boolean logarithmic;
+    private final double lower;
+    private final double upper;
+    /** Bins por unidad de la escala (lineal o logarítmica) */
+    private final double scale;
+    private final long[] counts;
+    private long underflow;
+    private long overflow;
+
+    private Histogram(boolean logarithmic, double lower, double upper, int bins) {
+        if (bins < 1) {
+            throw new IllegalArgumentException("Se requiere al menos 1 bin: " + bins);
+        }
+        if (!(lower < upper) || Double.isInfinite(lower) || Double.isInfinite(upper)) {
+            throw new IllegalArgumentException("Rango inválido: [" + lower + ", " + upper + ")");
+        }
+        this.logarithmic = logarithmic;
+        this.lower = lower;
+        this.upper = upper;
+        this.scale = bins / (logarithmic ? Math.log(upper / lower) : upper - lower);
+        this.counts = new long[bins];
+    }
+
+    /**
+     * Histograma con bins del mismo ancho.
+     *
+     * @param lower límite inferior (incluido)
+     * @param upper límite superior (excluido)
+     * @param bins cantidad de bins
+     * @return histograma vacío
+     * @throws IllegalArgumentException si el rango es vacío o infinito, o {@code bins} &lt; 1
+     */
+    public static Histogram linear(double lower, double upper, int bins) {
+        return new Histogram(false, lower, upper, bins);
+    }
+
+    /**
+     * Histograma con bins de ancho geométrico creciente (misma razón upper/lower en cada bin).
+     *
+     * @param lower límite inferior (incluido), &gt; 0
+     * @param upper límite superior (excluido)
+     * @param bins cantidad de bins
+     * @return histograma vacío
+     * @throws IllegalArgumentException si {@code lower} &lt;= 0, el rango es vacío o infinito, o {@code bins} &lt; 1
+     */
+    public static Histogram logarithmic(double lower, double upper, int bins) {
+        if (!(lower > 0.0)) {
+            throw new IllegalArgumentException("El límite inferior de un histograma logarítmico debe ser > 0: " + lower);
+        }
+        return new Histogram(true, lower, upper, bins);
+    }
+
+    /**
+     * Cuenta un dato en su bin en O(1).
+     *
+     * @param value dato a contar
+     */
+    @Override
+    public void accept(double value) {
+        if (value < lower) {
+            underflow++;
+        } else if (!(value < upper)) {
+            overflow++;
+        } else {
+            double position = logarithmic ? Math.log(value / lower) * scale : (value - lower) * scale;
+            // el redondeo puede dejar un valor justo bajo upper en el bin "bins"
+            counts[Math.min((int) position, counts.length - 1)]++;
+        }
+    }
+
+    /**
+     * Suma los conteos de otro histograma con los mismos bins.
+     *
+     * @param other histograma parcial a fusionar (no se modifica)
+     * @return este histograma
+     * @throws IllegalArgumentException si los histogramas tienen bins distintos
+     */
+    public Histogram combine(Histogram other) {
+        if (other.logarithmic != logarithmic || other.lower != lower || other.upper != upper
+                || other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Los histogramas no tienen los mismos bins.");
+        }
+        for (int i = 0; i < counts.length; i++) counts[i] += other.counts[i];
+        underflow += other.underflow;
+        overflow += other.overflow;
+        return this;
+    }
+
+    /**
+     * @return cantidad de bins
+     */
+    public int bins() {
+        return counts.length;
+    }
+
+    /**
+     * @param bin índice del bin
+     * @return cantidad de datos en el bin
+     * @throws IndexOutOfBoundsException si el índice no es válido
+     */
+    public long count(int bin) {
+        return counts[bin];
+    }
+
+    /**
+     * @param bin índice del bin, 0..bins()
+     * @return límite inferior del bin (para {@code bins()} es el límite superior del histograma)
+     */
+    public double lowerBound(int bin) {
+        if (bin < 0 || bin > counts.length) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + bin);
+        }
+        if (bin == counts.length) return upper;
+        return logarithmic ? lower * Math.exp(bin / scale) : lower + bin / scale;
+    }
+
+    /**
+     * @param bin índice del bin
+     * @return límite superior (excluido) del bin
+     */
+    public double upperBound(int bin) {
+        return lowerBound(bin + 1);
+    }
+
+    /**
+     * @return datos menores que el límite inferior
+     */
+    public long underflow() {
+        return underflow;
+    }
+
+    /**
+     * @return datos mayores o iguales que el límite superior, o NaN
+     */
+    public long overflow() {
+        return overflow;
+    }
+
+    /**
+     * @return total de datos contados, incluidos underflow y overflow
+     */
+    public long total() {
+        long total = underflow + overflow;
+        for (long c : counts) total += c;
+        return total;
+    }
+
+    /**
+     * @return copia de los conteos por bin
+     */
+    public long[] counts() {
+        return counts.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "Histogram[" + (logarithmic ? "log" : "linear") + " [" + lower + ", " + upper + "), counts="
+                + Arrays.toString(counts) + ", underflow=" + underflow + ", overflow=" + overflow + "]";
+    }
+}
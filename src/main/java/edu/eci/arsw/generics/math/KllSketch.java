@@ -0,0 +1,276 @@
+package edu.eci.arsw.generics.math;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Sketch KLL (Karnin, Lang y Liberty) para cuantiles aproximados en streaming
+ * Características:
+ *   -Memoria acotada: O(k) valores por nivel y O(log(n/k)) niveles, sin importar n
+ *   -Error de rango aproximado de 1.65/k con alta probabilidad (k=200 ronda el 1%)
+ *   -Combinable: los sketches parciales de varios hilos se fusionan con {@link #combine(KllSketch)}
+ *   -min y max son exactos; quantile(0) y quantile(1) los retornan
+ * Cada nivel h guarda valores de peso 2^h; cuando un nivel se llena se ordena y la mitad
+ * de sus valores (los de posición par o impar, al azar) sube al nivel siguiente.
+ * No es seguro para hilos; cada hilo debe usar su propio sketch y luego combinarlos.
+ */
+public final class KllSketch implements DoubleConsumer {
+
+    /** Valor de k por defecto */
+    public static final int DEFAULT_K = 200;
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 2;
+
+    private final int k;
+    private final SplittableRandom random;
+    /** levels[h] guarda levelSizes[h] valores de peso 2^h */
+    private double[][] levels;
+    private int[] levelSizes;
+    private int height;
+    /** Cantidad de valores retenidos en todos los niveles */
+    private int retained;
+    private int maxRetained;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Crea un sketch con {@link #DEFAULT_K}.
+     */
+    public KllSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Crea un sketch con el parámetro de precisión dado.
+     *
+     * @param k capacidad del nivel más alto; a mayor k, menor error y más memoria
+     * @throws IllegalArgumentException si {@code k} &lt; 8
+     */
+    public KllSketch(int k) {
+        if (k < 8) {
+            throw new IllegalArgumentException("k debe ser >= 8: " + k);
+        }
+        this.k = k;
+        this.random = new SplittableRandom(k);
+        this.levels = new double[0][];
+        this.levelSizes = new int[0];
+        grow();
+    }
+
+    /**
+     * Incorpora un dato al sketch en O(1) amortizado.
+     *
+     * @param value dato a incorporar
+     */
+    @Override
+    public void accept(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("El sketch no admite NaN.");
+        }
+        append(0, value);
+        retained++;
+        count++;
+        if (value < min) min = value;
+        if (value > max) max = value;
+        if (retained >= maxRetained) compress();
+    }
+
+    /**
+     * Fusiona otro sketch en éste, como si sus datos se hubieran leído aquí.
+     *
+     * @param other sketch parcial a fusionar (no se modifica)
+     * @return este sketch
+     */
+    public KllSketch combine(KllSketch other) {
+        if (other.count == 0) return this;
+        while (height < other.height) grow();
+        for (int h = 0; h < other.height; h++) {
+            double[] src = other.levels[h];
+            for (int i = 0; i < other.levelSizes[h]; i++) append(h, src[i]);
+        }
+        retained += other.retained;
+        count += other.count;
+        if (other.min < min) min = other.min;
+        if (other.max > max) max = other.max;
+        while (retained >= maxRetained) compress();
+        return this;
+    }
+
+    /**
+     * @return cantidad de datos incorporados
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return cantidad de valores que el sketch guarda en memoria
+     */
+    public int retained() {
+        return retained;
+    }
+
+    /**
+     * Cuantil aproximado.
+     *
+     * @param q fracción en [0, 1]
+     * @return valor cuyo rango aproximado es {@code q * count()}
+     * @throws IllegalArgumentException si {@code q} está fuera de [0, 1]
+     * @throws IllegalStateException si no hay datos
+     */
+    public double quantile(double q) {
+        return quantiles(q)[0];
+    }
+
+    /**
+     * Varios cuantiles aproximados ordenando los valores retenidos una sola vez.
+     *
+     * @param qs fracciones en [0, 1], en cualquier orden
+     * @return cuantiles en el mismo orden que {@code qs}
+     * @throws IllegalArgumentException si alguna fracción está fuera de [0, 1]
+     * @throws IllegalStateException si no hay datos
+     */
+    public double[] quantiles(double... qs) {
+        if (count == 0) {
+            throw new IllegalStateException("El sketch no tiene datos.");
+        }
+        for (double q : qs) {
+            if (!(q >= 0.0 && q <= 1.0)) {
+                throw new IllegalArgumentException("Fracción fuera de [0, 1]: " + q);
+            }
+        }
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        sortedView(values, weights);
+        long[] cumulative = new long[retained];
+        long total = 0;
+        for (int i = 0; i < retained; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+
+        double[] result = new double[qs.length];
+        for (int j = 0; j < qs.length; j++) {
+            double q = qs[j];
+            if (q == 0.0) {
+                result[j] = min;
+            } else if (q == 1.0) {
+                result[j] = max;
+            } else {
+                long rank = (long) Math.ceil(q * total);
+                int i = Arrays.binarySearch(cumulative, rank);
+                if (i < 0) i = -i - 1;
+                result[j] = values[Math.min(i, retained - 1)];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fracción aproximada de datos menores o iguales a {@code value}.
+     *
+     * @param value valor de referencia
+     * @return rango normalizado en [0, 1]
+     * @throws IllegalStateException si no hay datos
+     */
+    public double rank(double value) {
+        if (count == 0) {
+            throw new IllegalStateException("El sketch no tiene datos.");
+        }
+        long below = 0;
+        long total = 0;
+        for (int h = 0; h < height; h++) {
+            long weight = 1L << h;
+            double[] level = levels[h];
+            for (int i = 0; i < levelSizes[h]; i++) {
+                if (level[i] <= value) below += weight;
+                total += weight;
+            }
+        }
+        return (double) below / total;
+    }
+
+    // ----- Compactación -----
+
+    private int capacity(int h) {
+        int depth = height - h - 1;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(Math.pow(CAPACITY_DECAY, depth) * k));
+    }
+
+    private void grow() {
+        height++;
+        levels = Arrays.copyOf(levels, height);
+        levelSizes = Arrays.copyOf(levelSizes, height);
+        levels[height - 1] = new double[MIN_CAPACITY];
+        int total = 0;
+        for (int h = 0; h < height; h++) total += capacity(h);
+        maxRetained = total;
+    }
+
+    private void append(int h, double value) {
+        double[] level = levels[h];
+        int size = levelSizes[h];
+        if (size == level.length) {
+            level = Arrays.copyOf(level, Math.max(MIN_CAPACITY, size << 1));
+            levels[h] = level;
+        }
+        level[size] = value;
+        levelSizes[h] = size + 1;
+    }
+
+    /**
+     * Compacta el nivel más bajo que excede su capacidad: lo ordena y sube la mitad de sus
+     * valores (con el doble de peso) al nivel siguiente. Si el tamaño es impar, uno se queda.
+     */
+    private void compress() {
+        for (int h = 0; h < height; h++) {
+            int size = levelSizes[h];
+            if (size < capacity(h)) continue;
+            if (h + 1 == height) grow();
+            double[] level = levels[h];
+            Arrays.sort(level, 0, size);
+            int pairs = size >>> 1;
+            int start = size - (pairs << 1);
+            int offset = random.nextBoolean() ? 1 : 0;
+            for (int i = start + offset; i < size; i += 2) append(h + 1, level[i]);
+            levelSizes[h] = start;
+            retained -= pairs;
+            return;
+        }
+    }
+
+    private void sortedView(double[] values, long[] weights) {
+        int n = 0;
+        for (int h = 0; h < height; h++) {
+            long weight = 1L << h;
+            double[] level = levels[h];
+            for (int i = 0; i < levelSizes[h]; i++) {
+                values[n] = level[i];
+                weights[n] = weight;
+                n++;
+            }
+        }
+        sortByValue(values, weights, n);
+    }
+
+    /** Ordena los pares (valor, peso) por valor con un índice auxiliar */
+    private static void sortByValue(double[] values, long[] weights, int n) {
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        double[] v = values.clone();
+        long[] w = weights.clone();
+        for (int i = 0; i < n; i++) {
+            values[i] = v[order[i]];
+            weights[i] = w[order[i]];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "KllSketch[k=" + k + ", count=" + count + ", retained=" + retained + ", levels=" + height + "]";
+    }
+}
@@ -0,0 +1,131 @@
+package edu.eci.arsw.generics.math;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Acumulador de estadísticas en una sola pasada (algoritmo de Welford)
+ * Características:
+ *   -Memoria constante: no guarda los datos, solo code count, code mean y code m2
+ *   -Numéricamente estable frente a la fórmula de suma de cuadrados
+ *   -Combinable: dos acumuladores parciales se fusionan con la fórmula de Chan et al.
+ * No es seguro para hilos; cada hilo debe usar su propio acumulador y luego combinarlos.
+ */
+public final class RunningStats implements DoubleConsumer {
+
+    private long count;
+    private double mean;
+    /** Suma de cuadrados de las diferencias respecto a la media actual */
+    private double m2;
+
+    /**
+     * Crea un acumulador vacío.
+     */
+    public RunningStats() { }
+
+    /**
+     * Crea un acumulador a partir de un estado previamente calculado.
+     *
+     * @param count cantidad de datos
+     * @param mean media de los datos
+     * @param m2 suma de cuadrados de las diferencias respecto a la media
+     * @throws IllegalArgumentException si {@code count} o {@code m2} son negativos
+     */
+    public RunningStats(long count, double mean, double m2) {
+        if (count < 0 || m2 < 0) {
+            throw new IllegalArgumentException("Estado inválido: count=" + count + ", m2=" + m2);
+        }
+        this.count = count;
+        this.mean = count == 0 ? 0.0 : mean;
+        this.m2 = count == 0 ? 0.0 : m2;
+    }
+
+    /**
+     * Incorpora un dato al acumulador en O(1).
+     *
+     * @param value dato a incorporar
+     */
+    @Override
+    public void accept(double value) {
+        long n = ++count;
+        double delta = value - mean;
+        mean += delta / n;
+        m2 += delta * (value - mean);
+    }
+
+    /**
+     * Fusiona otro acumulador en éste, como si sus datos se hubieran leído aquí.
+     *
+     * @param other acumulador parcial a fusionar (no se modifica)
+     * @return este acumulador
+     */
+    public RunningStats combine(RunningStats other) {
+        if (other.count == 0) return this;
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            return this;
+        }
+        long n = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * ((double) other.count / n);
+        m2 += other.m2 + delta * delta * ((double) count * other.count / n);
+        count = n;
+        return this;
+    }
+
+    /**
+     * @return cantidad de datos incorporados
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return suma de cuadrados de las diferencias respecto a la media
+     */
+    public double m2() {
+        return m2;
+    }
+
+    /**
+     * Media aritmética de los datos incorporados.
+     *
+     * @return media aritmética
+     * @throws IllegalStateException si no hay datos
+     */
+    public double mean() {
+        if (count == 0) {
+            throw new IllegalStateException("La lista de datos no puede ser nula ni vacía.");
+        }
+        return mean;
+    }
+
+    /**
+     * Varianza muestral (denominador n-1).
+     *
+     * @return varianza muestral
+     * @throws IllegalStateException si hay menos de 2 datos
+     */
+    public double sampleVariance() {
+        if (count < 2) {
+            throw new IllegalStateException("Se requieren al menos 2 datos para desviación estándar muestral.");
+        }
+        return m2 / (count - 1);
+    }
+
+    /**
+     * Desviación estándar muestral (denominador n-1).
+     *
+     * @return desviación estándar muestral
+     * @throws IllegalStateException si hay menos de 2 datos
+     */
+    public double sampleStdDev() {
+        return Math.sqrt(sampleVariance());
+    }
+
+    @Override
+    public String toString() {
+        return "RunningStats[count=" + count + ", mean=" + mean + ", m2=" + m2 + "]";
+    }
+}
@@ -0,0 +1,66 @@
+package edu.eci.arsw.generics.math;
+
+/**
+ * Reducciones escalares con 4 acumuladores Kahan independientes.
+ */
+final class ScalarKernel implements DoubleKernels.Kernel {
+
+    @Override
+    public double sum(double[] a, int from, int to) {
+        double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+        double c0 = 0.0, c1 = 0.0, c2 = 0.0, c3 = 0.0;
+        int i = from;
+        for (int bound = to - 3; i < bound; i += 4) {
+            double y0 = a[i] - c0;
+            double t0 = s0 + y0;
+            c0 = (t0 - s0) - y0;
+            s0 = t0;
+            double y1 = a[i + 1] - c1;
+            double t1 = s1 + y1;
+            c1 = (t1 - s1) - y1;
+            s1 = t1;
+            double y2 = a[i + 2] - c2;
+            double t2 = s2 + y2;
+            c2 = (t2 - s2) - y2;
+            s2 = t2;
+            double y3 = a[i + 3] - c3;
+            double t3 = s3 + y3;
+            c3 = (t3 - s3) - y3;
+            s3 = t3;
+        }
+        for (; i < to; i++) {
+            double y0 = a[i] - c0;
+            double t0 = s0 + y0;
+            c0 = (t0 - s0) - y0;
+            s0 = t0;
+        }
+        return DoubleKernels.neumaier(new double[] {s0, s1, s2, s3}, new double[] {c0, c1, c2, c3});
+    }
+
+    @Override
+    public double sumSquaredDeviations(double[] a, int from, int to, double mean) {
+        double s0 = 0.0, s1 = 0.0;
+        double c0 = 0.0, c1 = 0.0;
+        int i = from;
+        for (int bound = to - 1; i < bound; i += 2) {
+            double d0 = a[i] - mean;
+            double y0 = d0 * d0 - c0;
+            double t0 = s0 + y0;
+            c0 = (t0 - s0) - y0;
+            s0 = t0;
+            double d1 = a[i + 1] - mean;
+            double y1 = d1 * d1 - c1;
+            double t1 = s1 + y1;
+            c1 = (t1 - s1) - y1;
+            s1 = t1;
+        }
+        if (i < to) {
+            double d0 = a[i] - mean;
+            double y0 = d0 * d0 - c0;
+            double t0 = s0 + y0;
+            c0 = (t0 - s0) - y0;
+            s0 = t0;
+        }
+        return DoubleKernels.neumaier(new double[] {s0, s1}, new double[] {c0, c1});
+    }
+}
@@ -1,12 +1,40 @@
 package edu.eci.arsw.generics.math;
 
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.collections.OffHeapDoubleList;
+import edu.eci.arsw.generics.metrics.Metrics;
+
+import java.nio.DoubleBuffer;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 /**
- * Utilidades estadísticas: media y desviación estándar muestral (n-1)
+ * Utilidades estadísticas: media y desviación estándar muestral (n-1), resumen de momentos
+ * en una pasada y cuantiles aproximados. Para histogramas ver {@link Histogram}.
+ * {@link DoubleList} y {@link OffHeapDoubleList} se recorren por accesos primitivos, sin boxing.
+ * Las variantes parallel* eligen solas entre la ruta secuencial y una reducción en el ForkJoinPool
+ * común según el tamaño ({@link #PARALLEL_THRESHOLD}).
+ * Cada llamada pública suma su duración a la fase stats de {@link Metrics} si las métricas están activas.
  */
 public final class Stats {
 
+    /**
+     * Cantidad de datos desde la que las variantes parallel* reparten el trabajo. Cada parte cuesta
+     * por dato lo mismo que la ruta secuencial (medido: ~0.35 ns en double[], ~0.8 ns en DoubleList,
+     * ~1 ns en ArrayList) y repartir cuesta ~1 µs por parte más la activación de los workers, unos
+     * 10-25 µs en total hasta 2^20 datos. Con 2 núcleos, el peor caso que aún reparte, la ruta paralela
+     * empieza a ganar cerca de 2 · costo fijo / costo por dato: ~2^17 datos para double[], el más
+     * barato por dato. ParallelStatsBenchmark compara ambas rutas para recalibrarlo en cada máquina.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 17;
+
     private Stats() { }
 
     /**
@@ -17,18 +45,56 @@ public final class Stats {
      * @throws IllegalArgumentException si @code data es nula o está vacía
      */
     public static double mean(List<Double> data) {
-        if (data == null || data.isEmpty()) {
-            throw new IllegalArgumentException("La lista de datos no puede ser nula ni vacía.");
+        long start = Metrics.start();
+        try {
+            return meanOf(data);
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
         }
-        double sum = 0.0;
-        for (Double d : data) {
-            if (d == null) {
-                throw new IllegalArgumentException("Los datos no pueden contener valores nulos.");
+    }
+
+    /**
+     * Calcula la media aritmética sumando con la estrategia indicada.
+     *
+     * @param data lista de datos no nula y no vacía
+     * @param summation estrategia de suma (precisión frente a velocidad)
+     * @return media aritmética
+     * @throws IllegalArgumentException si @code data es nula, está vacía o tiene elementos nulos
+     */
+    public static double mean(List<Double> data, Summation summation) {
+        long start = Metrics.start();
+        try {
+            return meanOf(data, summation);
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    /**
+     * Calcula la desviación estándar muestral (denominador n-1) sumando la media y los cuadrados
+     * de las diferencias con la estrategia indicada.
+     *
+     * @param data lista de datos n &gt;= 2
+     * @param summation estrategia de suma (precisión frente a velocidad)
+     * @return desviación estándar muestral
+     * @throws IllegalArgumentException si @code data es nula, tiene elementos nulos o su tamaño es &lt; 2
+     */
+    public static double sampleStdDev(List<Double> data, Summation summation) {
+        long start = Metrics.start();
+        try {
+            if (data != null && data.size() == 1) {
+                throw new IllegalArgumentException("Se requieren al menos 2 datos para desviación estándar muestral.");
             }
-            sum += d;
+            double mean = meanOf(data, summation);
+            Summation.Accumulator sumSq = summation.newAccumulator();
+            feed(data, v -> {
+                double diff = v - mean;
+                sumSq.accept(diff * diff);
+            });
+            return Math.sqrt(sumSq.sum() / (sumSq.count() - 1));
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
         }
-        return sum / data.size();
-        // double es suficiente para los datasets del enunciado
     }
 
     /**
@@ -40,6 +106,239 @@ public final class Stats {
      *                                  o su tamaño es &lt; 2
      */
     public static double sampleStdDev(List<Double> data) {
+        long start = Metrics.start();
+        try {
+            return sampleStdDevOf(data);
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    /**
+     * Calcula la media aritmética de un arreglo con suma compensada y, si está disponible, SIMD
+     * (ver {@link DoubleKernels}).
+     *
+     * @param data arreglo no nulo y no vacío
+     * @return media aritmética
+     * @throws IllegalArgumentException si @code data es nulo o está vacío
+     */
+    public static double mean(double[] data) {
+        long start = Metrics.start();
+        try {
+            return meanOf(data);
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    /**
+     * Calcula la desviación estándar muestral (denominador n-1) de un arreglo con suma compensada
+     * y, si está disponible, SIMD (ver {@link DoubleKernels}).
+     *
+     * @param data arreglo con n &gt;= 2
+     * @return desviación estándar muestral
+     * @throws IllegalArgumentException si @code data es nulo o su tamaño es &lt; 2
+     */
+    public static double sampleStdDev(double[] data) {
+        long start = Metrics.start();
+        try {
+            return sampleStdDevOf(data);
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    /**
+     * Calcula la media aritmética de un arreglo sumando con la estrategia indicada.
+     *
+     * @param data arreglo no nulo y no vacío
+     * @param summation estrategia de suma (precisión frente a velocidad)
+     * @return media aritmética
+     * @throws IllegalArgumentException si @code data es nulo o está vacío
+     */
+    public static double mean(double[] data, Summation summation) {
+        long start = Metrics.start();
+        try {
+            return meanOf(data, summation);
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    /**
+     * Calcula la desviación estándar muestral (denominador n-1) de un arreglo sumando con la estrategia indicada.
+     *
+     * @param data arreglo con n &gt;= 2
+     * @param summation estrategia de suma (precisión frente a velocidad)
+     * @return desviación estándar muestral
+     * @throws IllegalArgumentException si @code data es nulo o su tamaño es &lt; 2
+     */
+    public static double sampleStdDev(double[] data, Summation summation) {
+        long start = Metrics.start();
+        try {
+            double mean = meanOf(data, summation);
+            if (data.length < 2) {
+                throw new IllegalArgumentException("Se requieren al menos 2 datos para desviación estándar muestral.");
+            }
+            Summation.Accumulator sumSq = summation.newAccumulator();
+            for (double v : data) {
+                double diff = v - mean;
+                sumSq.accept(diff * diff);
+            }
+            return Math.sqrt(sumSq.sum() / (data.length - 1));
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    /**
+     * Media aritmética que reparte el trabajo en el ForkJoinPool común si la lista tiene al menos
+     * {@link #PARALLEL_THRESHOLD} datos y hay más de un hilo disponible; si no, es {@link #mean(List)}.
+     * Las listas RandomAccess se dividen en partes de índices consecutivos, cada una sumada con un
+     * bucle simple como el secuencial, y las sumas parciales se suman compensadas; las demás (como
+     * SimpleLinkedList) se reparten con su Spliterator.
+     *
+     * @param data lista de datos no nula y no vacía
+     * @return media aritmética (igual a la secuencial salvo redondeo)
+     * @throws IllegalArgumentException si @code data es nula, está vacía o tiene elementos nulos
+     */
+    public static double parallelMean(List<Double> data) {
+        long start = Metrics.start();
+        try {
+            return useParallel(data == null ? 0 : data.size()) ? parallelMeanOf(data) : meanOf(data);
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    /**
+     * Desviación estándar muestral (n-1) en paralelo desde {@link #PARALLEL_THRESHOLD} datos,
+     * con el mismo reparto que {@link #parallelMean(List)}: cada parte calcula su media y, con una
+     * segunda pasada, su M2, y las partes se fusionan con {@link RunningStats#combine(RunningStats)};
+     * por debajo es {@link #sampleStdDev(List)}.
+     *
+     * @param data lista de datos n &gt;= 2
+     * @return desviación estándar muestral (igual a la secuencial salvo redondeo)
+     * @throws IllegalArgumentException si @code data es nula, tiene elementos nulos o su tamaño es &lt; 2
+     */
+    public static double parallelSampleStdDev(List<Double> data) {
+        long start = Metrics.start();
+        try {
+            return useParallel(data == null ? 0 : data.size()) ? parallelSampleStdDevOf(data) : sampleStdDevOf(data);
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    /**
+     * Media aritmética de un arreglo en paralelo desde {@link #PARALLEL_THRESHOLD} datos;
+     * por debajo es {@link #mean(double[])}.
+     *
+     * @param data arreglo no nulo y no vacío
+     * @return media aritmética (igual a la secuencial salvo redondeo)
+     * @throws IllegalArgumentException si @code data es nulo o está vacío
+     */
+    public static double parallelMean(double[] data) {
+        long start = Metrics.start();
+        try {
+            return useParallel(data == null ? 0 : data.length) ? parallelSum(ranges(data)) / data.length : meanOf(data);
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    /**
+     * Desviación estándar muestral (n-1) de un arreglo en paralelo desde {@link #PARALLEL_THRESHOLD}
+     * datos; por debajo es {@link #sampleStdDev(double[])}.
+     *
+     * @param data arreglo con n &gt;= 2
+     * @return desviación estándar muestral (igual a la secuencial salvo redondeo)
+     * @throws IllegalArgumentException si @code data es nulo o su tamaño es &lt; 2
+     */
+    public static double parallelSampleStdDev(double[] data) {
+        long start = Metrics.start();
+        try {
+            return useParallel(data == null ? 0 : data.length) ? parallelStats(ranges(data)).sampleStdDev() : sampleStdDevOf(data);
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    /**
+     * Calcula count, min, max, media, varianza muestral, asimetría y curtosis en una sola pasada.
+     *
+     * @param data lista de datos no nula y no vacía
+     * @return resumen de los datos; ver {@link Summary} para los casos con menos de 2 datos
+     * @throws IllegalArgumentException si @code data es nula, está vacía o tiene elementos nulos
+     */
+    public static Summary summarize(List<Double> data) {
+        long start = Metrics.start();
+        try {
+            return feed(data, new SummaryStats()).summary();
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    /**
+     * Calcula cuantiles aproximados con un {@link KllSketch} de memoria acotada, sin ordenar una copia de los datos.
+     *
+     * @param data lista de datos no nula y no vacía
+     * @param qs fracciones en [0, 1]
+     * @return cuantiles aproximados (error de rango cercano a 1%) en el mismo orden que {@code qs}
+     * @throws IllegalArgumentException si @code data es nula, está vacía, tiene elementos nulos
+     *                                  o alguna fracción está fuera de [0, 1]
+     */
+    public static double[] approximateQuantiles(List<Double> data, double... qs) {
+        long start = Metrics.start();
+        try {
+            return feed(data, new KllSketch()).quantiles(qs);
+        } finally {
+            Metrics.stop(Metrics.Phase.STATS, start);
+        }
+    }
+
+    private static double meanOf(List<Double> data) {
+        if (data == null || data.isEmpty()) {
+            throw new IllegalArgumentException("La lista de datos no puede ser nula ni vacía.");
+        }
+        if (data instanceof DoubleList values) {
+            return primitiveMean(values);
+        }
+        if (data instanceof OffHeapDoubleList values) {
+            return offHeapMean(values);
+        }
+        double sum = 0.0;
+        for (Double d : data) {
+            if (d == null) {
+                throw new IllegalArgumentException("Los datos no pueden contener valores nulos.");
+            }
+            sum += d;
+        }
+        return sum / data.size();
+        // double es suficiente para los datasets del enunciado; para flujos largos ver mean(data, Summation)
+    }
+
+    private static double meanOf(List<Double> data, Summation summation) {
+        Summation.Accumulator sum = feed(data, summation.newAccumulator());
+        return sum.sum() / sum.count();
+    }
+
+    private static double meanOf(double[] data) {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("La lista de datos no puede ser nula ni vacía.");
+        }
+        return DoubleKernels.sum(data) / data.length;
+    }
+
+    private static double meanOf(double[] data, Summation summation) {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("La lista de datos no puede ser nula ni vacía.");
+        }
+        return summation.sum(data) / data.length;
+    }
+
+    private static double sampleStdDevOf(List<Double> data) {
         if (data == null || data.isEmpty()) {
             throw new IllegalArgumentException("La lista de datos no puede ser nula ni vacía.");
         }
@@ -47,7 +346,13 @@ public final class Stats {
         if (n < 2) {
             throw new IllegalArgumentException("Se requieren al menos 2 datos para desviación estándar muestral.");
         }
-        double mean = mean(data);
+        if (data instanceof DoubleList values) {
+            return primitiveSampleStdDev(values, primitiveMean(values));
+        }
+        if (data instanceof OffHeapDoubleList values) {
+            return offHeapSampleStdDev(values, offHeapMean(values));
+        }
+        double mean = meanOf(data);
 
         double sumSq = 0.0;
         for (Double d : data) {
@@ -59,4 +364,281 @@ public final class Stats {
         }
         return Math.sqrt(sumSq / (n - 1));
     }
+
+    private static double sampleStdDevOf(double[] data) {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("La lista de datos no puede ser nula ni vacía.");
+        }
+        if (data.length < 2) {
+            throw new IllegalArgumentException("Se requieren al menos 2 datos para desviación estándar muestral.");
+        }
+        double mean = meanOf(data);
+        return Math.sqrt(DoubleKernels.sumSquaredDeviations(data, mean) / (data.length - 1));
+    }
+
+    private static <T extends DoubleConsumer> T feed(List<Double> data, T sink) {
+        if (data == null || data.isEmpty()) {
+            throw new IllegalArgumentException("La lista de datos no puede ser nula ni vacía.");
+        }
+        if (data instanceof DoubleList values) {
+            int n = values.size();
+            for (int i = 0; i < n; i++) {
+                sink.accept(values.getDouble(i));
+            }
+            return sink;
+        }
+        if (data instanceof OffHeapDoubleList values) {
+            values.forEachDouble(sink);
+            return sink;
+        }
+        for (Double d : data) {
+            if (d == null) {
+                throw new IllegalArgumentException("Los datos no pueden contener valores nulos.");
+            }
+            sink.accept(d);
+        }
+        return sink;
+    }
+
+    // ----- Reducciones paralelas (suma simple por parte y segunda pasada para M2, fusionadas con RunningStats.combine) -----
+
+    /**
+     * Datos por tarea de las reducciones paralelas. Es potencia de dos y divide a
+     * {@link OffHeapDoubleList#SEGMENT_SIZE}, así ninguna parte cruza un segmento.
+     */
+    private static final int PARALLEL_CHUNK = 1 << 14;
+
+    /**
+     * Decide entre la ruta secuencial y la paralela. Usa el pool del hilo actual si ya corre dentro
+     * de uno (así lo hacen los streams paralelos), o el común.
+     */
+    private static boolean useParallel(long size) {
+        int parallelism = ForkJoinTask.inForkJoinPool()
+                ? ForkJoinTask.getPool().getParallelism()
+                : ForkJoinPool.getCommonPoolParallelism();
+        return size >= PARALLEL_THRESHOLD && parallelism > 1;
+    }
+
+    /**
+     * Acceso por rangos [from, to) a los datos de una reducción paralela: cada parte es un bucle
+     * de sumas simple, igual al de la ruta secuencial, sin una división por dato como
+     * {@link RunningStats#accept(double)}.
+     */
+    private interface Ranges {
+        long size();
+
+        double sum(long from, long to);
+
+        double sumSquaredDeviations(long from, long to, double mean);
+    }
+
+    private static Ranges ranges(double[] data) {
+        return new Ranges() {
+            public long size() {
+                return data.length;
+            }
+
+            public double sum(long from, long to) {
+                return DoubleKernels.sum(data, (int) from, (int) to);
+            }
+
+            public double sumSquaredDeviations(long from, long to, double mean) {
+                return DoubleKernels.sumSquaredDeviations(data, (int) from, (int) to, mean);
+            }
+        };
+    }
+
+    private static Ranges ranges(DoubleList data) {
+        return new Ranges() {
+            public long size() {
+                return data.size();
+            }
+
+            public double sum(long from, long to) {
+                double sum = 0.0;
+                for (int i = (int) from, end = (int) to; i < end; i++) sum += data.getDouble(i);
+                return sum;
+            }
+
+            public double sumSquaredDeviations(long from, long to, double mean) {
+                double sumSq = 0.0;
+                for (int i = (int) from, end = (int) to; i < end; i++) {
+                    double diff = data.getDouble(i) - mean;
+                    sumSq += diff * diff;
+                }
+                return sumSq;
+            }
+        };
+    }
+
+    private static Ranges ranges(OffHeapDoubleList data) {
+        DoubleBuffer[] segments = data.asDoubleBuffers();
+        return new Ranges() {
+            public long size() {
+                return data.longSize();
+            }
+
+            public double sum(long from, long to) {
+                DoubleBuffer segment = segments[(int) (from / OffHeapDoubleList.SEGMENT_SIZE)];
+                int offset = (int) (from % OffHeapDoubleList.SEGMENT_SIZE);
+                double sum = 0.0;
+                for (int i = offset, end = offset + (int) (to - from); i < end; i++) sum += segment.get(i);
+                return sum;
+            }
+
+            public double sumSquaredDeviations(long from, long to, double mean) {
+                DoubleBuffer segment = segments[(int) (from / OffHeapDoubleList.SEGMENT_SIZE)];
+                int offset = (int) (from % OffHeapDoubleList.SEGMENT_SIZE);
+                double sumSq = 0.0;
+                for (int i = offset, end = offset + (int) (to - from); i < end; i++) {
+                    double diff = segment.get(i) - mean;
+                    sumSq += diff * diff;
+                }
+                return sumSq;
+            }
+        };
+    }
+
+    /** Listas RandomAccess de Double: por índice, con chequeo de nulos */
+    private static Ranges boxedRanges(List<Double> data) {
+        return new Ranges() {
+            public long size() {
+                return data.size();
+            }
+
+            public double sum(long from, long to) {
+                double sum = 0.0;
+                for (int i = (int) from, end = (int) to; i < end; i++) sum += nonNull(data.get(i));
+                return sum;
+            }
+
+            public double sumSquaredDeviations(long from, long to, double mean) {
+                double sumSq = 0.0;
+                for (int i = (int) from, end = (int) to; i < end; i++) {
+                    double diff = nonNull(data.get(i)) - mean;
+                    sumSq += diff * diff;
+                }
+                return sumSq;
+            }
+        };
+    }
+
+    /**
+     * Suma en paralelo: una suma simple por parte de {@link #PARALLEL_CHUNK} datos, y las sumas
+     * parciales se suman con DoubleStream.sum (compensada, y ±Infinity si desborda).
+     */
+    private static double parallelSum(Ranges data) {
+        long n = data.size();
+        return LongStream.range(0, (n + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK).parallel()
+                .mapToDouble(c -> data.sum(c * PARALLEL_CHUNK, Math.min(n, (c + 1) * PARALLEL_CHUNK)))
+                .sum();
+    }
+
+    /**
+     * count, media y M2 en paralelo: cada parte calcula su media con una suma simple y su M2 con
+     * una segunda pasada sobre los mismos datos (aún en caché); las partes se fusionan con
+     * {@link RunningStats#combine(RunningStats)}.
+     */
+    private static RunningStats parallelStats(Ranges data) {
+        long n = data.size();
+        return LongStream.range(0, (n + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK).parallel()
+                .collect(RunningStats::new, (acc, c) -> {
+                    long from = c * PARALLEL_CHUNK;
+                    long to = Math.min(n, from + PARALLEL_CHUNK);
+                    double mean = data.sum(from, to) / (to - from);
+                    acc.combine(new RunningStats(to - from, mean, data.sumSquaredDeviations(from, to, mean)));
+                }, RunningStats::combine);
+    }
+
+    private static double parallelMeanOf(List<Double> data) {
+        return parallel(() -> {
+            Ranges ranges = rangesOf(data);
+            if (ranges != null) return parallelSum(ranges) / ranges.size();
+            return boxedStream(data).sum() / data.size();
+        });
+    }
+
+    private static double parallelSampleStdDevOf(List<Double> data) {
+        return parallel(() -> {
+            Ranges ranges = rangesOf(data);
+            if (ranges != null) return parallelStats(ranges).sampleStdDev();
+            // sin acceso por índice: dos recorridos en paralelo con el Spliterator de la lista
+            double mean = boxedStream(data).sum() / data.size();
+            double sumSq = boxedStream(data).map(d -> (d - mean) * (d - mean)).sum();
+            return Math.sqrt(sumSq / (data.size() - 1));
+        });
+    }
+
+    /** Rangos por índice para la lista, o null si no tiene acceso aleatorio */
+    private static Ranges rangesOf(List<Double> data) {
+        if (data instanceof DoubleList values) return ranges(values);
+        if (data instanceof OffHeapDoubleList values) return ranges(values);
+        if (data instanceof RandomAccess) return boxedRanges(data);
+        return null;
+    }
+
+    private static DoubleStream boxedStream(List<Double> data) {
+        return StreamSupport.stream(data.spliterator(), true).mapToDouble(Stats::nonNull);
+    }
+
+    /** Ejecuta una reducción paralela relanzando la IllegalArgumentException original de los workers */
+    private static double parallel(DoubleSupplier reduction) {
+        try {
+            return reduction.getAsDouble();
+        } catch (IllegalArgumentException ex) {
+            // el pool puede relanzar una copia sin el mensaje original, con la original como causa
+            IllegalArgumentException current = ex;
+            while (current.getCause() instanceof IllegalArgumentException cause) current = cause;
+            throw current;
+        }
+    }
+
+    private static double nonNull(Double d) {
+        if (d == null) {
+            throw new IllegalArgumentException("Los datos no pueden contener valores nulos.");
+        }
+        return d;
+    }
+
+    // ----- Rutas primitivas para DoubleList y OffHeapDoubleList (sin boxing ni chequeo de nulos) -----
+
+    private static double primitiveMean(DoubleList data) {
+        int n = data.size();
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            sum += data.getDouble(i);
+        }
+        return sum / n;
+    }
+
+    private static double primitiveSampleStdDev(DoubleList data, double mean) {
+        int n = data.size();
+        double sumSq = 0.0;
+        for (int i = 0; i < n; i++) {
+            double diff = data.getDouble(i) - mean;
+            sumSq += diff * diff;
+        }
+        return Math.sqrt(sumSq / (n - 1));
+    }
+
+    private static double offHeapMean(OffHeapDoubleList data) {
+        double sum = 0.0;
+        for (DoubleBuffer segment : data.asDoubleBuffers()) {
+            for (int i = 0, n = segment.limit(); i < n; i++) {
+                sum += segment.get(i);
+            }
+        }
+        return sum / data.longSize();
+    }
+
+    private static double offHeapSampleStdDev(OffHeapDoubleList data, double mean) {
+        double sumSq = 0.0;
+        for (DoubleBuffer segment : data.asDoubleBuffers()) {
+            for (int i = 0, n = segment.limit(); i < n; i++) {
+                double diff = segment.get(i) - mean;
+                sumSq += diff * diff;
+            }
+        }
+        return Math.sqrt(sumSq / (data.longSize() - 1));
+    }
 }
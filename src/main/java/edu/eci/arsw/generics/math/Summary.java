@@ -0,0 +1,23 @@
+package edu.eci.arsw.generics.math;
+
+/**
+ * Resumen descriptivo de un conjunto de datos, calculado en una sola pasada por {@link SummaryStats}.
+ *
+ * @param count cantidad de datos
+ * @param min valor mínimo
+ * @param max valor máximo
+ * @param mean media aritmética
+ * @param variance varianza muestral (denominador n-1); NaN si hay menos de 2 datos
+ * @param skewness coeficiente de asimetría g1 = m3 / m2^(3/2); NaN si la varianza es 0 o hay menos de 2 datos
+ * @param kurtosis exceso de curtosis g2 = m4 / m2^2 - 3; NaN si la varianza es 0 o hay menos de 2 datos
+ */
+public record Summary(long count, double min, double max, double mean,
+                      double variance, double skewness, double kurtosis) {
+
+    /**
+     * @return desviación estándar muestral (denominador n-1); NaN si hay menos de 2 datos
+     */
+    public double stdDev() {
+        return Math.sqrt(variance);
+    }
+}
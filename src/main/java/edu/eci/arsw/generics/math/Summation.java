@@ -0,0 +1,333 @@
+package edu.eci.arsw.generics.math;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Estrategias de suma de doubles, de la más rápida a la más precisa según el caso
+ * Estrategias:
+ *   -NAIVE: {@code sum += x}; el error crece O(n·ε) y domina en flujos de miles de millones de datos
+ *   -NEUMAIER: suma compensada de Kahan-Babuška-Neumaier; error O(ε) independiente de n,
+ *    a costa de ~4 operaciones extra por dato
+ *   -PAIRWISE: suma por parejas (árbol binario con hojas de {@value #PAIRWISE_LEAF} datos); error O(log n·ε)
+ *    casi al costo de la suma ingenua
+ *   -BLOCKED: bloques de {@value #BLOCK_SIZE} datos sumados de forma ingenua y totales de bloque
+ *    sumados con Neumaier; error O(B·ε) con el bucle interno igual al ingenuo
+ * Cada estrategia suma arreglos ({@link #sum(double[], int, int)}) o flujos mediante un
+ * {@link Accumulator} combinable, útil con {@code DoubleFileReader.readParallel}.
+ */
+public enum Summation {
+
+    NAIVE {
+        @Override
+        public double sum(double[] a, int from, int to) {
+            Objects.checkFromToIndex(from, to, a.length);
+            return naive(a, from, to);
+        }
+
+        @Override
+        public Accumulator newAccumulator() {
+            return new NaiveAccumulator();
+        }
+    },
+
+    NEUMAIER {
+        @Override
+        public double sum(double[] a, int from, int to) {
+            Objects.checkFromToIndex(from, to, a.length);
+            NeumaierAccumulator acc = new NeumaierAccumulator();
+            for (int i = from; i < to; i++) acc.accept(a[i]);
+            return acc.sum();
+        }
+
+        @Override
+        public Accumulator newAccumulator() {
+            return new NeumaierAccumulator();
+        }
+    },
+
+    PAIRWISE {
+        @Override
+        public double sum(double[] a, int from, int to) {
+            Objects.checkFromToIndex(from, to, a.length);
+            return pairwise(a, from, to);
+        }
+
+        @Override
+        public Accumulator newAccumulator() {
+            return new PairwiseAccumulator();
+        }
+    },
+
+    BLOCKED {
+        @Override
+        public double sum(double[] a, int from, int to) {
+            Objects.checkFromToIndex(from, to, a.length);
+            NeumaierAccumulator totals = new NeumaierAccumulator();
+            for (int start = from; start < to; start += BLOCK_SIZE) {
+                totals.accept(naive(a, start, Math.min(to, start + BLOCK_SIZE)));
+            }
+            return totals.sum();
+        }
+
+        @Override
+        public Accumulator newAccumulator() {
+            return new BlockedAccumulator();
+        }
+    };
+
+    /** Cantidad de datos que PAIRWISE suma de forma ingenua en cada hoja */
+    static final int PAIRWISE_LEAF = 128;
+    /** Tamaño de bloque de BLOCKED */
+    static final int BLOCK_SIZE = 1024;
+
+    /**
+     * Suma los valores en [from, to).
+     *
+     * @param a valores
+     * @param from inicio (incluido)
+     * @param to fin (excluido)
+     * @return suma
+     * @throws IndexOutOfBoundsException si el rango no es válido
+     */
+    public abstract double sum(double[] a, int from, int to);
+
+    /**
+     * Suma todos los valores del arreglo.
+     *
+     * @param a valores
+     * @return suma
+     */
+    public double sum(double[] a) {
+        return sum(a, 0, a.length);
+    }
+
+    /**
+     * @return acumulador vacío para sumar un flujo de datos con esta estrategia
+     */
+    public abstract Accumulator newAccumulator();
+
+    /**
+     * Busca una estrategia por nombre sin distinguir mayúsculas (naive, neumaier, pairwise, blocked).
+     *
+     * @param name nombre de la estrategia
+     * @return estrategia
+     * @throws IllegalArgumentException si el nombre no corresponde a ninguna estrategia
+     */
+    public static Summation parse(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Estrategia de suma desconocida: " + name);
+        }
+    }
+
+    private static double naive(double[] a, int from, int to) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) sum += a[i];
+        return sum;
+    }
+
+    private static double pairwise(double[] a, int from, int to) {
+        int n = to - from;
+        if (n <= PAIRWISE_LEAF) return naive(a, from, to);
+        int mid = from + (n >>> 1);
+        return pairwise(a, from, mid) + pairwise(a, mid, to);
+    }
+
+    /**
+     * Suma de un flujo de datos con una estrategia fija.
+     * No es seguro para hilos; cada hilo debe usar su propio acumulador y luego combinarlos.
+     */
+    public abstract static class Accumulator implements DoubleConsumer {
+
+        long count;
+
+        Accumulator() { }
+
+        /**
+         * @return cantidad de datos sumados
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * @return suma de los datos incorporados hasta ahora
+         */
+        public abstract double sum();
+
+        /**
+         * Fusiona otro acumulador en éste, como si sus datos se hubieran sumado aquí.
+         *
+         * @param other acumulador parcial de la misma estrategia (no se modifica)
+         * @return este acumulador
+         * @throws IllegalArgumentException si {@code other} usa otra estrategia
+         */
+        public Accumulator combine(Accumulator other) {
+            if (other.getClass() != getClass()) {
+                throw new IllegalArgumentException("No se pueden combinar acumuladores de estrategias distintas.");
+            }
+            merge(other);
+            count += other.count;
+            return this;
+        }
+
+        abstract void merge(Accumulator other);
+    }
+
+    private static final class NaiveAccumulator extends Accumulator {
+        private double sum;
+
+        @Override
+        public void accept(double value) {
+            sum += value;
+            count++;
+        }
+
+        @Override
+        public double sum() {
+            return sum;
+        }
+
+        @Override
+        void merge(Accumulator other) {
+            sum += ((NaiveAccumulator) other).sum;
+        }
+    }
+
+    /**
+     * Con infinitos o desborde la compensación calcula Inf - Inf y da NaN aunque la suma real sea
+     * ±Infinity, así que también se lleva la suma simple y, como
+     * {@link java.util.DoubleSummaryStatistics#getSum()}, se usa ésta cuando la compensada es NaN
+     * y la simple es infinita.
+     */
+    private static final class NeumaierAccumulator extends Accumulator {
+        private double sum;
+        /** Bits de menor orden perdidos al redondear {@code sum} */
+        private double compensation;
+        /** Suma sin compensar, para los datos no finitos */
+        private double simple;
+
+        @Override
+        public void accept(double value) {
+            add(value);
+            count++;
+        }
+
+        private void add(double value) {
+            simple += value;
+            compensate(value);
+        }
+
+        private void compensate(double value) {
+            double t = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - t) + value;
+            } else {
+                compensation += (value - t) + sum;
+            }
+            sum = t;
+        }
+
+        @Override
+        public double sum() {
+            double total = sum + compensation;
+            return Double.isNaN(total) && Double.isInfinite(simple) ? simple : total;
+        }
+
+        @Override
+        void merge(Accumulator other) {
+            NeumaierAccumulator o = (NeumaierAccumulator) other;
+            compensate(o.sum);
+            compensate(o.compensation);
+            simple += o.simple;
+        }
+    }
+
+    /**
+     * Suma por parejas en streaming: cada hoja de PAIRWISE_LEAF datos se suma de forma ingenua y
+     * las hojas se combinan como un contador binario, levels[k] guarda la suma de 2^k hojas.
+     */
+    private static final class PairwiseAccumulator extends Accumulator {
+        private final double[] levels = new double[64];
+        private long leaves;
+        private double leaf;
+        private int inLeaf;
+
+        @Override
+        public void accept(double value) {
+            leaf += value;
+            count++;
+            if (++inLeaf == PAIRWISE_LEAF) {
+                carry(leaf);
+                leaf = 0.0;
+                inLeaf = 0;
+            }
+        }
+
+        private void carry(double value) {
+            double carry = value;
+            int level = 0;
+            for (long bits = leaves; (bits & 1) != 0; bits >>>= 1) {
+                carry += levels[level];
+                levels[level++] = 0.0;
+            }
+            levels[level] = carry;
+            leaves++;
+        }
+
+        @Override
+        public double sum() {
+            double sum = leaf;
+            for (int level = 0; level < levels.length; level++) {
+                if ((leaves >>> level & 1) != 0) sum += levels[level];
+            }
+            return sum;
+        }
+
+        @Override
+        void merge(Accumulator other) {
+            PairwiseAccumulator o = (PairwiseAccumulator) other;
+            for (int level = 0; level < levels.length; level++) {
+                // las sumas parciales del otro entran como hojas; el error sigue siendo O(log n·ε)
+                if ((o.leaves >>> level & 1) != 0) carry(o.levels[level]);
+            }
+            // la hoja incompleta del otro entra como un dato más de la hoja actual
+            leaf += o.leaf;
+        }
+    }
+
+    private static final class BlockedAccumulator extends Accumulator {
+        private final NeumaierAccumulator totals = new NeumaierAccumulator();
+        private double block;
+        private int inBlock;
+
+        @Override
+        public void accept(double value) {
+            block += value;
+            count++;
+            if (++inBlock == BLOCK_SIZE) {
+                totals.add(block);
+                block = 0.0;
+                inBlock = 0;
+            }
+        }
+
+        @Override
+        public double sum() {
+            NeumaierAccumulator copy = new NeumaierAccumulator();
+            copy.merge(totals);
+            copy.add(block);
+            return copy.sum();
+        }
+
+        @Override
+        void merge(Accumulator other) {
+            BlockedAccumulator o = (BlockedAccumulator) other;
+            totals.merge(o.totals);
+            totals.add(o.block);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package edu.eci.arsw.generics.math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Reducciones con el Vector API (incubadora): 2 acumuladores vectoriales con compensación
+ * Kahan por carril. Solo se carga si el módulo jdk.incubator.vector está en la capa de arranque.
+ */
+final class VectorKernel implements DoubleKernels.Kernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    /** Resuelve la cola que no llena dos vectores */
+    private static final ScalarKernel TAIL = new ScalarKernel();
+
+    @Override
+    public double sum(double[] a, int from, int to) {
+        int lanes = SPECIES.length();
+        DoubleVector s0 = DoubleVector.zero(SPECIES);
+        DoubleVector s1 = DoubleVector.zero(SPECIES);
+        DoubleVector c0 = DoubleVector.zero(SPECIES);
+        DoubleVector c1 = DoubleVector.zero(SPECIES);
+        int i = from;
+        for (int bound = to - 2 * lanes; i <= bound; i += 2 * lanes) {
+            DoubleVector y0 = DoubleVector.fromArray(SPECIES, a, i).sub(c0);
+            DoubleVector t0 = s0.add(y0);
+            c0 = t0.sub(s0).sub(y0);
+            s0 = t0;
+            DoubleVector y1 = DoubleVector.fromArray(SPECIES, a, i + lanes).sub(c1);
+            DoubleVector t1 = s1.add(y1);
+            c1 = t1.sub(s1).sub(y1);
+            s1 = t1;
+        }
+        double[] sums = new double[2 * lanes + 1];
+        double[] compensations = new double[2 * lanes + 1];
+        s0.intoArray(sums, 0);
+        s1.intoArray(sums, lanes);
+        c0.intoArray(compensations, 0);
+        c1.intoArray(compensations, lanes);
+        sums[2 * lanes] = TAIL.sum(a, i, to);
+        return DoubleKernels.neumaier(sums, compensations);
+    }
+
+    @Override
+    public double sumSquaredDeviations(double[] a, int from, int to, double mean) {
+        int lanes = SPECIES.length();
+        DoubleVector m = DoubleVector.broadcast(SPECIES, mean);
+        DoubleVector s0 = DoubleVector.zero(SPECIES);
+        DoubleVector s1 = DoubleVector.zero(SPECIES);
+        DoubleVector c0 = DoubleVector.zero(SPECIES);
+        DoubleVector c1 = DoubleVector.zero(SPECIES);
+        int i = from;
+        for (int bound = to - 2 * lanes; i <= bound; i += 2 * lanes) {
+            DoubleVector d0 = DoubleVector.fromArray(SPECIES, a, i).sub(m);
+            DoubleVector y0 = d0.mul(d0).sub(c0);
+            DoubleVector t0 = s0.add(y0);
+            c0 = t0.sub(s0).sub(y0);
+            s0 = t0;
+            DoubleVector d1 = DoubleVector.fromArray(SPECIES, a, i + lanes).sub(m);
+            DoubleVector y1 = d1.mul(d1).sub(c1);
+            DoubleVector t1 = s1.add(y1);
+            c1 = t1.sub(s1).sub(y1);
+            s1 = t1;
+        }
+        double[] sums = new double[2 * lanes + 1];
+        double[] compensations = new double[2 * lanes + 1];
+        s0.intoArray(sums, 0);
+        s1.intoArray(sums, lanes);
+        c0.intoArray(compensations, 0);
+        c1.intoArray(compensations, lanes);
+        sums[2 * lanes] = TAIL.sumSquaredDeviations(a, i, to, mean);
+        return DoubleKernels.neumaier(sums, compensations);
+    }
+}
@@ -0,0 +1,230 @@
+package edu.eci.arsw.generics.math;
+
+import java.time.Duration;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Media y desviación estándar de una ventana deslizante, actualizadas en O(1) por dato
+ * Características:
+ *   -Ventana por cantidad (los últimos N datos) o por tiempo (los datos de los últimos T)
+ *   -Buffer circular primitivo (double[] y, por tiempo, long[] de marcas): sin objetos por dato;
+ *    la ventana por tiempo duplica el buffer cuando se llena, en O(1) amortizado
+ *   -Las sumas se llevan relativas a un ancla y se restan al expulsar un dato; cada
+ *    max(N, {@value #MIN_REANCHOR}) datos se reanclan en la media actual y se recalculan
+ *    desde el buffer, lo que acota el error acumulado por las restas (O(1) amortizado)
+ *   -Es un DoubleConsumer, así que se conecta directamente a {@code DoubleFileReader.read(path, sink)}
+ * La ventana por tiempo expulsa datos al recibir uno nuevo o con {@link #advanceTo(long)}.
+ * No es seguro para hilos.
+ */
+public final class WindowedStats implements DoubleConsumer {
+
+    static final int MIN_REANCHOR = 1024;
+    private static final int INITIAL_TIMED_CAPACITY = 64;
+
+    private final int maxCount;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private double[] values;
+    private long[] times;
+    /** Índice del dato más antiguo */
+    private int head;
+    private int size;
+    private double anchor;
+    /** Suma de (x - anchor) */
+    private double sum;
+    /** Suma de (x - anchor)^2 */
+    private double sumSq;
+    private long updatesSinceAnchor;
+
+    private WindowedStats(int maxCount, long windowNanos, LongSupplier clock, int capacity, boolean timed) {
+        this.maxCount = maxCount;
+        this.windowNanos = windowNanos;
+        this.clock = clock;
+        this.values = new double[capacity];
+        this.times = timed ? new long[capacity] : null;
+    }
+
+    /**
+     * Ventana con los últimos {@code n} datos.
+     *
+     * @param n tamaño de la ventana
+     * @return acumulador vacío
+     * @throws IllegalArgumentException si {@code n} &lt; 1
+     */
+    public static WindowedStats lastN(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("El tamaño de la ventana debe ser >= 1: " + n);
+        }
+        return new WindowedStats(n, Long.MAX_VALUE, () -> 0L, n, false);
+    }
+
+    /**
+     * Ventana con los datos recibidos en el último {@code window}, según System.nanoTime.
+     *
+     * @param window duración de la ventana
+     * @return acumulador vacío
+     * @throws IllegalArgumentException si la duración no es positiva
+     */
+    public static WindowedStats lastDuration(Duration window) {
+        return lastDuration(window, System::nanoTime);
+    }
+
+    /**
+     * Ventana por tiempo con un reloj propio en nanosegundos (útil para datos con marca de tiempo o pruebas).
+     *
+     * @param window duración de la ventana
+     * @param clock reloj monótono en nanosegundos que usa {@link #accept(double)}
+     * @return acumulador vacío
+     * @throws IllegalArgumentException si la duración no es positiva
+     */
+    public static WindowedStats lastDuration(Duration window, LongSupplier clock) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("La duración de la ventana debe ser positiva: " + window);
+        }
+        return new WindowedStats(Integer.MAX_VALUE, window.toNanos(), clock, INITIAL_TIMED_CAPACITY, true);
+    }
+
+    /**
+     * Incorpora un dato; en ventanas por tiempo lo marca con el reloj.
+     *
+     * @param value dato a incorporar
+     */
+    @Override
+    public void accept(double value) {
+        accept(clock.getAsLong(), value);
+    }
+
+    /**
+     * Incorpora un dato con su marca de tiempo (ignorada en ventanas por cantidad).
+     *
+     * @param timeNanos marca de tiempo en nanosegundos, no decreciente
+     * @param value dato a incorporar
+     */
+    public void accept(long timeNanos, double value) {
+        if (times != null) {
+            advanceTo(timeNanos);
+            if (size == values.length) grow();
+        } else if (size == maxCount) {
+            evictOldest();
+        }
+        int tail = (head + size) % values.length;
+        values[tail] = value;
+        if (times != null) times[tail] = timeNanos;
+        if (size++ == 0) {
+            anchor = value;
+            sum = 0.0;
+            sumSq = 0.0;
+        } else {
+            double d = value - anchor;
+            sum += d;
+            sumSq += d * d;
+        }
+        if (++updatesSinceAnchor >= Math.max(size, MIN_REANCHOR)) reanchor();
+    }
+
+    /**
+     * Expulsa de una ventana por tiempo los datos con marca anterior o igual a {@code timeNanos - T}.
+     * En ventanas por cantidad no hace nada.
+     *
+     * @param timeNanos instante actual en nanosegundos
+     */
+    public void advanceTo(long timeNanos) {
+        if (times == null) return;
+        while (size > 0 && timeNanos - times[head] >= windowNanos) evictOldest();
+    }
+
+    /**
+     * @return cantidad de datos en la ventana
+     */
+    public int count() {
+        return size;
+    }
+
+    /**
+     * Media de los datos en la ventana.
+     *
+     * @return media aritmética
+     * @throws IllegalStateException si la ventana está vacía
+     */
+    public double mean() {
+        if (size == 0) {
+            throw new IllegalStateException("La ventana está vacía.");
+        }
+        return anchor + sum / size;
+    }
+
+    /**
+     * Varianza muestral (denominador n-1) de los datos en la ventana.
+     *
+     * @return varianza muestral
+     * @throws IllegalStateException si hay menos de 2 datos en la ventana
+     */
+    public double sampleVariance() {
+        if (size < 2) {
+            throw new IllegalStateException("Se requieren al menos 2 datos en la ventana para la varianza muestral.");
+        }
+        return Math.max(0.0, (sumSq - sum * sum / size) / (size - 1));
+    }
+
+    /**
+     * Desviación estándar muestral (denominador n-1) de los datos en la ventana.
+     *
+     * @return desviación estándar muestral
+     * @throws IllegalStateException si hay menos de 2 datos en la ventana
+     */
+    public double sampleStdDev() {
+        return Math.sqrt(sampleVariance());
+    }
+
+    private void evictOldest() {
+        double d = values[head] - anchor;
+        head = (head + 1) % values.length;
+        if (--size == 0) {
+            sum = 0.0;
+            sumSq = 0.0;
+        } else {
+            sum -= d;
+            sumSq -= d * d;
+        }
+    }
+
+    /** Recalcula las sumas desde el buffer con el ancla en la media actual */
+    private void reanchor() {
+        updatesSinceAnchor = 0;
+        if (size == 0) return;
+        anchor = mean();
+        double s = 0.0;
+        double sq = 0.0;
+        for (int i = 0, idx = head; i < size; i++) {
+            double d = values[idx] - anchor;
+            s += d;
+            sq += d * d;
+            if (++idx == values.length) idx = 0;
+        }
+        sum = s;
+        sumSq = sq;
+    }
+
+    private void grow() {
+        int capacity = values.length << 1;
+        if (capacity < 0) {
+            throw new IllegalStateException("La ventana excede la capacidad máxima.");
+        }
+        double[] v = new double[capacity];
+        long[] t = new long[capacity];
+        for (int i = 0, idx = head; i < size; i++) {
+            v[i] = values[idx];
+            t[i] = times[idx];
+            if (++idx == values.length) idx = 0;
+        }
+        values = v;
+        times = t;
+        head = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "WindowedStats[count=" + size + ", anchor=" + anchor + ", sum=" + sum + ", sumSq=" + sumSq + "]";
+    }
+}
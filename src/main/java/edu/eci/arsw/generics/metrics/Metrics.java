@@ -0,0 +1,239 @@
+package edu.eci.arsw.generics.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores y tiempos por fase de la lectura, las listas y las estadísticas
+ * Características:
+ *   -Desactivado por defecto: cada punto de medición es una lectura de un campo estático y
+ *    un salto predecible, así que puede quedar compilado en producción
+ *   -Se activa con {@link #enable()} antes de empezar el trabajo (App --metrics json)
+ *   -Contadores y tiempos con LongAdder: seguros y baratos con varios hilos
+ *   -Bytes asignados por fase con el ThreadMXBean de HotSpot (por hilo), si la JVM lo soporta
+ *   -{@link #toJson(long)} produce un reporte de una línea para procesar con otras herramientas
+ * Las lecturas también emiten eventos JFR ({@link ReadEvent}) cuando una grabación los habilita,
+ * aunque las métricas estén desactivadas.
+ */
+public final class Metrics {
+
+    /**
+     * Contadores acumulados.
+     */
+    public enum Counter {
+        /** Bytes (o chars, al leer de un Reader) de texto tokenizados */
+        BYTES_READ("bytesRead"),
+        /** Saltos de línea ('\n') encontrados */
+        LINES("lines"),
+        /** Tokens encontrados, válidos u omitidos */
+        TOKENS("tokens"),
+        /** Valores parseados y entregados al destino */
+        VALUES("values"),
+        /** Nodos creados por SimpleLinkedList */
+        LIST_NODES("listNodes");
+
+        private final String key;
+
+        Counter(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Fases con tiempo medido. Las fases de lectura se solapan: READ es la lectura completa
+     * e incluye IO, DECOMPRESS_WAIT y PARSE; PARSE incluye el tiempo del acumulador destino.
+     */
+    public enum Phase {
+        READ("read"),
+        IO("io"),
+        DECOMPRESS_WAIT("decompressWait"),
+        PARSE("parse"),
+        STATS("stats");
+
+        private final String key;
+
+        Phase(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final Counter[] COUNTERS = Counter.values();
+    private static final Phase[] PHASES = Phase.values();
+    private static final LongAdder[] COUNTS = adders(COUNTERS.length);
+    private static final LongAdder[] NANOS = adders(PHASES.length);
+    private static final LongAdder[] CALLS = adders(PHASES.length);
+    private static final LongAdder[] ALLOCATED = adders(PHASES.length);
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    /** No es volatile: se fija antes de iniciar los hilos de trabajo y el JIT puede sacarlo de los bucles */
+    private static boolean enabled;
+
+    private Metrics() { }
+
+    /**
+     * @return true si se están recolectando métricas
+     */
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Activa la recolección. Debe llamarse antes de iniciar los hilos que se quieren medir.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Desactiva la recolección; los valores acumulados se conservan.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Pone en cero todos los contadores y tiempos.
+     */
+    public static void reset() {
+        for (LongAdder[] adders : new LongAdder[][] {COUNTS, NANOS, CALLS, ALLOCATED}) {
+            for (LongAdder adder : adders) adder.reset();
+        }
+    }
+
+    /**
+     * Suma {@code n} al contador si las métricas están activas.
+     *
+     * @param counter contador
+     * @param n cantidad a sumar
+     */
+    public static void add(Counter counter, long n) {
+        if (enabled) COUNTS[counter.ordinal()].add(n);
+    }
+
+    /**
+     * Marca el inicio de una fase medida con {@link #stop(Phase, long)}.
+     *
+     * @return instante actual en nanosegundos, o 0 si las métricas están desactivadas
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Registra el tiempo transcurrido desde {@code start}; no hace nada si {@code start} es 0.
+     *
+     * @param phase fase medida
+     * @param start valor retornado por {@link #start()}
+     */
+    public static void stop(Phase phase, long start) {
+        if (start != 0L) record(phase, System.nanoTime() - start, 0L);
+    }
+
+    /**
+     * Registra una ejecución de la fase si las métricas están activas.
+     *
+     * @param phase fase medida
+     * @param nanos duración en nanosegundos
+     * @param allocatedBytes bytes asignados durante la fase (0 si no se midieron)
+     */
+    public static void record(Phase phase, long nanos, long allocatedBytes) {
+        if (!enabled) return;
+        NANOS[phase.ordinal()].add(nanos);
+        CALLS[phase.ordinal()].increment();
+        if (allocatedBytes > 0) ALLOCATED[phase.ordinal()].add(allocatedBytes);
+    }
+
+    /**
+     * Bytes asignados hasta ahora por el hilo actual.
+     *
+     * @return bytes asignados, o -1 si la JVM no permite medirlos
+     */
+    public static long allocatedBytes() {
+        return THREADS == null ? -1L : THREADS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    /**
+     * @param counter contador
+     * @return valor acumulado
+     */
+    public static long count(Counter counter) {
+        return COUNTS[counter.ordinal()].sum();
+    }
+
+    /**
+     * @param phase fase
+     * @return nanosegundos acumulados
+     */
+    public static long nanos(Phase phase) {
+        return NANOS[phase.ordinal()].sum();
+    }
+
+    /**
+     * @param phase fase
+     * @return cantidad de ejecuciones registradas
+     */
+    public static long calls(Phase phase) {
+        return CALLS[phase.ordinal()].sum();
+    }
+
+    /**
+     * @param phase fase
+     * @return bytes asignados acumulados
+     */
+    public static long allocated(Phase phase) {
+        return ALLOCATED[phase.ordinal()].sum();
+    }
+
+    /**
+     * Reporte en JSON (una línea) con contadores, fases y throughput sobre {@code wallNanos}.
+     *
+     * @param wallNanos duración total de la ejecución, para calcular valores y bytes por segundo
+     * @return objeto JSON
+     */
+    public static String toJson(long wallNanos) {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append("{\"wallNanos\":").append(wallNanos);
+        sb.append(",\"counters\":{");
+        for (int i = 0; i < COUNTERS.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append('"').append(COUNTERS[i].key).append("\":").append(COUNTS[i].sum());
+        }
+        sb.append("},\"phases\":{");
+        for (int i = 0; i < PHASES.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append('"').append(PHASES[i].key).append("\":{\"nanos\":").append(NANOS[i].sum())
+                    .append(",\"calls\":").append(CALLS[i].sum())
+                    .append(",\"allocatedBytes\":").append(ALLOCATED[i].sum()).append('}');
+        }
+        double seconds = wallNanos / 1e9;
+        sb.append("},\"throughput\":{\"valuesPerSecond\":").append(rate(count(Counter.VALUES), seconds))
+                .append(",\"bytesPerSecond\":").append(rate(count(Counter.BYTES_READ), seconds));
+        sb.append("},\"allocationSupported\":").append(THREADS != null).append('}');
+        return sb.toString();
+    }
+
+    private static String rate(long amount, double seconds) {
+        return seconds > 0 ? String.format(Locale.ROOT, "%.1f", amount / seconds) : "0";
+    }
+
+    private static LongAdder[] adders(int n) {
+        LongAdder[] adders = new LongAdder[n];
+        for (int i = 0; i < n; i++) adders[i] = new LongAdder();
+        return adders;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean hotspot && hotspot.isThreadAllocatedMemorySupported()) {
+                hotspot.setThreadAllocatedMemoryEnabled(true);
+                return hotspot;
+            }
+        } catch (RuntimeException | LinkageError ex) {
+            // JVM sin jdk.management: se reporta allocationSupported=false
+        }
+        return null;
+    }
+}
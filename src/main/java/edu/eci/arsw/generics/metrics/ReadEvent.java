@@ -0,0 +1,49 @@
+package edu.eci.arsw.generics.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento JFR de una lectura de DoubleFileReader.
+ * Ejemplo: java -XX:StartFlightRecording=filename=run.jfr ... y luego
+ * jfr print --events edu.eci.arsw.generics.Read run.jfr
+ */
+@Name("edu.eci.arsw.generics.Read")
+@Label("Double Read")
+@Category("Generics")
+@Description("Lectura y parseo de doubles")
+final class ReadEvent extends Event {
+
+    @Label("Source")
+    String source;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Lines")
+    long lines;
+
+    @Label("Tokens")
+    long tokens;
+
+    @Label("Values")
+    long values;
+
+    @Label("I/O Time")
+    @Timespan
+    long ioNanos;
+
+    @Label("Parse Time")
+    @Timespan
+    long parseNanos;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,177 @@
+package edu.eci.arsw.generics.metrics;
+
+import jdk.jfr.EventType;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Mediciones de una lectura: bytes, líneas, valores y tiempo por fase, volcados al terminar en
+ * {@link Metrics} y en un evento JFR
+ * Características:
+ *   -{@link #start(String)} retorna null si no hay métricas ni grabación JFR activas: los lectores
+ *    solo comparan con null una vez por bloque y no envuelven el destino
+ *   -Los valores se cuentan envolviendo el destino ({@link #counting(DoubleConsumer)}), con un
+ *    contador simple por hilo que se suma al terminar
+ *   -Los tiempos y bytes por bloque admiten varios hilos (lectura paralela)
+ */
+public final class ReadProbe {
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(ReadEvent.class);
+
+    private final ReadEvent event;
+    private final boolean metrics;
+    private final long start;
+    private final long allocatedStart;
+    private final Queue<CountingSink> sinks = new ConcurrentLinkedQueue<>();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong lines = new AtomicLong();
+    private final AtomicLong ioNanos = new AtomicLong();
+    private final AtomicLong decompressNanos = new AtomicLong();
+    private final AtomicLong parseNanos = new AtomicLong();
+    private final AtomicLong workerAllocated = new AtomicLong();
+
+    private ReadProbe(String source, boolean metrics, boolean jfr) {
+        this.metrics = metrics;
+        this.event = jfr ? new ReadEvent() : null;
+        if (event != null) {
+            event.source = source;
+            event.begin();
+        }
+        this.start = System.nanoTime();
+        this.allocatedStart = Metrics.allocatedBytes();
+    }
+
+    /**
+     * Inicia las mediciones de una lectura.
+     *
+     * @param source descripción de la fuente (ruta o tipo de stream)
+     * @return la sonda, o null si no hay nada que medir
+     */
+    public static ReadProbe start(String source) {
+        boolean metrics = Metrics.enabled();
+        boolean jfr = EVENT_TYPE.isEnabled();
+        return metrics || jfr ? new ReadProbe(source, metrics, jfr) : null;
+    }
+
+    /**
+     * Envuelve el destino para contar los valores que recibe. Cada hilo debe usar su propio envoltorio.
+     *
+     * @param sink destino original
+     * @return destino que cuenta y delega
+     */
+    public DoubleConsumer counting(DoubleConsumer sink) {
+        CountingSink counting = new CountingSink(sink);
+        sinks.add(counting);
+        return counting;
+    }
+
+    /**
+     * Registra un bloque de bytes a tokenizar (entre la posición y el límite): suma sus bytes y saltos de línea.
+     *
+     * @param buf bloque de entrada
+     */
+    public void scan(ByteBuffer buf) {
+        int newlines = 0;
+        for (int i = buf.position(), limit = buf.limit(); i < limit; i++) {
+            if (buf.get(i) == '\n') newlines++;
+        }
+        bytes.addAndGet(buf.remaining());
+        lines.addAndGet(newlines);
+    }
+
+    /**
+     * Registra un bloque de chars a tokenizar.
+     *
+     * @param buf chars
+     * @param off posición inicial
+     * @param len cantidad de chars
+     */
+    public void scan(char[] buf, int off, int len) {
+        int newlines = 0;
+        for (int i = off, end = off + len; i < end; i++) {
+            if (buf[i] == '\n') newlines++;
+        }
+        bytes.addAndGet(len);
+        lines.addAndGet(newlines);
+    }
+
+    /**
+     * @param nanos tiempo esperando E/S (read o map)
+     */
+    public void io(long nanos) {
+        ioNanos.addAndGet(nanos);
+    }
+
+    /**
+     * @param nanos tiempo esperando bloques del hilo descompresor
+     */
+    public void decompressWait(long nanos) {
+        decompressNanos.addAndGet(nanos);
+    }
+
+    /**
+     * @param nanos tiempo tokenizando y parseando un bloque (incluye el destino)
+     */
+    public void parse(long nanos) {
+        parseNanos.addAndGet(nanos);
+    }
+
+    /**
+     * @param bytes bytes asignados por un hilo auxiliar (por ejemplo un worker de lectura paralela)
+     */
+    public void workerAllocated(long bytes) {
+        if (bytes > 0) workerAllocated.addAndGet(bytes);
+    }
+
+    /**
+     * Cierra la medición y la publica en {@link Metrics} y en JFR.
+     *
+     * @param skipped tokens inválidos omitidos durante la lectura (modo tolerante)
+     */
+    public void finish(long skipped) {
+        long elapsed = System.nanoTime() - start;
+        long values = 0;
+        for (CountingSink sink : sinks) values += sink.count;
+        long allocatedEnd = Metrics.allocatedBytes();
+        long allocated = (allocatedStart < 0 || allocatedEnd < 0 ? 0 : allocatedEnd - allocatedStart) + workerAllocated.get();
+        if (metrics) {
+            Metrics.add(Metrics.Counter.BYTES_READ, bytes.get());
+            Metrics.add(Metrics.Counter.LINES, lines.get());
+            Metrics.add(Metrics.Counter.TOKENS, values + skipped);
+            Metrics.add(Metrics.Counter.VALUES, values);
+            Metrics.record(Metrics.Phase.READ, elapsed, allocated);
+            if (ioNanos.get() > 0) Metrics.record(Metrics.Phase.IO, ioNanos.get(), 0L);
+            if (decompressNanos.get() > 0) Metrics.record(Metrics.Phase.DECOMPRESS_WAIT, decompressNanos.get(), 0L);
+            Metrics.record(Metrics.Phase.PARSE, parseNanos.get(), 0L);
+        }
+        if (event != null && event.shouldCommit()) {
+            event.bytes = bytes.get();
+            event.lines = lines.get();
+            event.tokens = values + skipped;
+            event.values = values;
+            event.ioNanos = ioNanos.get() + decompressNanos.get();
+            event.parseNanos = parseNanos.get();
+            event.allocatedBytes = allocated;
+            event.commit();
+        }
+    }
+
+    private static final class CountingSink implements DoubleConsumer {
+        private final DoubleConsumer sink;
+        private long count;
+
+        CountingSink(DoubleConsumer sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void accept(double value) {
+            count++;
+            sink.accept(value);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.io.BinaryDoubleReader;
+import edu.eci.arsw.generics.io.BinaryDoubleWriter;
+import edu.eci.arsw.generics.io.BinaryHeader;
+import edu.eci.arsw.generics.math.RunningStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryDoubleFileTest {
+
+    @TempDir
+    Path tmp;
+
+    private String resourcePath(String name) {
+        try {
+            var url = Thread.currentThread().getContextClassLoader().getResource(name);
+            if (url == null) throw new IllegalStateException("Recurso no encontrado: " + name);
+            return Paths.get(url.toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Ruta inválida para recurso: " + name, e);
+        }
+    }
+
+    private static double[] randomValues(int n) {
+        Random rnd = new Random(17);
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) values[i] = Math.round(rnd.nextGaussian() * 100_000.0) / 100.0;
+        return values;
+    }
+
+    private String write(double[] values, boolean compress, int blockSize) throws IOException {
+        String path = tmp.resolve(compress ? "data-z.gdbl" : "data.gdbl").toString();
+        try (BinaryDoubleWriter writer = new BinaryDoubleWriter(path, compress, blockSize)) {
+            writer.write(values);
+        }
+        return path;
+    }
+
+    @Test
+    void roundTrip_shouldPreserveValuesBitExactly() throws IOException {
+        double[] values = randomValues(10_007);
+        values[3] = Double.NaN;
+        values[4] = -0.0;
+        values[5] = Double.NEGATIVE_INFINITY;
+        BinaryDoubleReader reader = new BinaryDoubleReader();
+        for (boolean compress : new boolean[] {false, true}) {
+            String path = write(values, compress, 1_000);
+            assertTrue(BinaryDoubleReader.isBinary(path));
+            assertArrayEquals(values, reader.load(path));
+
+            DoubleBuffer mapped = reader.map(path);
+            assertEquals(values.length, mapped.remaining());
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(mapped.get(i)));
+            }
+
+            double[] streamed = new double[values.length];
+            int[] n = {0};
+            reader.read(path, v -> streamed[n[0]++] = v);
+            assertArrayEquals(values, streamed);
+            assertEquals(values.length, reader.read(path).size());
+        }
+    }
+
+    @Test
+    void header_shouldCarryPrecomputedStats() throws IOException {
+        double[] values = randomValues(5_000);
+        RunningStats expected = new RunningStats();
+        for (double v : values) expected.accept(v);
+
+        BinaryHeader header = new BinaryDoubleReader().header(write(values, false, 512));
+        assertEquals(values.length, header.count());
+        assertTrue(header.hasStats());
+        assertFalse(header.compressed());
+        assertEquals(expected.mean(), header.stats().mean(), 0.0);
+        assertEquals(expected.sampleStdDev(), header.stats().sampleStdDev(), 0.0);
+        assertEquals(Arrays.stream(values).min().orElseThrow(), header.min());
+        assertEquals(Arrays.stream(values).max().orElseThrow(), header.max());
+    }
+
+    @Test
+    void compression_shouldShrinkDecimalData() throws IOException {
+        double[] values = randomValues(100_000);
+        long plain = Files.size(Path.of(write(values, false, BinaryDoubleWriter.DEFAULT_BLOCK_SIZE)));
+        long packed = Files.size(Path.of(write(values, true, BinaryDoubleWriter.DEFAULT_BLOCK_SIZE)));
+        assertTrue(packed < plain, packed + " vs " + plain);
+    }
+
+    @Test
+    void convert_shouldMatchTextStats() throws IOException {
+        String text = resourcePath("table1.txt");
+        String binary = tmp.resolve("table1.gdbl").toString();
+        BinaryHeader header = BinaryDoubleWriter.convert(text, binary, true);
+
+        assertFalse(BinaryDoubleReader.isBinary(text));
+        assertEquals(550.60, header.stats().mean(), 0.01);
+        assertEquals(572.03, header.stats().sampleStdDev(), 0.01);
+        assertEquals(header, new BinaryDoubleReader().header(binary));
+    }
+
+    @Test
+    void corruptedData_shouldFailChecksum() throws IOException {
+        BinaryDoubleReader reader = new BinaryDoubleReader();
+        for (boolean compress : new boolean[] {false, true}) {
+            String path = write(randomValues(2_000), compress, 256);
+            byte[] bytes = Files.readAllBytes(Path.of(path));
+            bytes[bytes.length - 3] ^= 0x10;
+            Files.write(Path.of(path), bytes);
+            assertThrows(IOException.class, () -> reader.load(path));
+        }
+        Path truncated = tmp.resolve("short.gdbl");
+        Files.write(truncated, new byte[] {'G', 'D', 'B', 'L'});
+        assertThrows(IOException.class, () -> reader.load(truncated.toString()));
+
+        // un count tan grande que count * 8 desborda: la cabecera se rechaza antes de mapear
+        String huge = write(randomValues(16), false, 16);
+        byte[] bytes = Files.readAllBytes(Path.of(huge));
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putLong(8, Long.MAX_VALUE / 4);
+        Files.write(Path.of(huge), bytes);
+        IOException ex = assertThrows(IOException.class, () -> reader.header(huge));
+        assertTrue(ex.getMessage().contains("count"), ex.getMessage());
+        assertThrows(IOException.class, () -> reader.map(huge));
+    }
+
+    @Test
+    void emptyFile_shouldRoundTrip() throws IOException {
+        String path = write(new double[0], false, 16);
+        BinaryHeader header = new BinaryDoubleReader().header(path);
+        assertEquals(0, header.count());
+        assertFalse(header.hasStats());
+        assertEquals(0, new BinaryDoubleReader().load(path).length);
+        assertEquals(0, new BinaryDoubleReader().map(path).remaining());
+    }
+}
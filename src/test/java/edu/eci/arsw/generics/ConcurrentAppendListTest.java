@@ -0,0 +1,141 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.ConcurrentAppendList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentAppendListTest {
+
+    @Test
+    void singleThread_shouldKeepInsertionOrderAcrossChunks() {
+        ConcurrentAppendList<Integer> list = new ConcurrentAppendList<>();
+        assertTrue(list.isEmpty());
+        for (int i = 0; i < 5_000; i++) list.add(i);
+        assertEquals(5_000, list.size());
+        for (int i = 0; i < 5_000; i++) assertEquals(i, list.get(i));
+        List<Integer> copy = new ArrayList<>(list);
+        assertEquals(5_000, copy.size());
+        assertEquals(4_999, copy.get(4_999));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5_000));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void concurrentProducers_shouldNotLoseElements() throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        ConcurrentAppendList<Integer> list = new ConcurrentAppendList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            Thread w = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) list.add(base + i);
+            });
+            workers.add(w);
+            w.start();
+        }
+        start.countDown();
+        for (Thread w : workers) w.join();
+
+        assertEquals(threads * perThread, list.size());
+        Set<Integer> seen = new HashSet<>(list);
+        assertEquals(threads * perThread, seen.size());
+
+        // dentro de cada hilo se conserva el orden de inserción
+        int[] last = new int[threads];
+        Arrays.fill(last, -1);
+        for (int v : list) {
+            int t = v / perThread;
+            assertTrue(v > last[t]);
+            last[t] = v;
+        }
+    }
+
+    @Test
+    void iterator_shouldBeWeaklyConsistentWhileProducing() throws InterruptedException {
+        ConcurrentAppendList<Integer> list = new ConcurrentAppendList<>();
+        for (int i = 0; i < 100; i++) list.add(i);
+        Thread producer = new Thread(() -> {
+            for (int i = 100; i < 50_000; i++) list.add(i);
+        });
+        producer.start();
+        int seen = 0;
+        for (Integer v : list) {
+            assertNotNull(v);
+            seen++;
+        }
+        producer.join();
+        assertTrue(seen >= 100);
+        assertEquals(50_000, list.size());
+    }
+
+    @Test
+    void shortLivedProducers_shouldReuseSegments() throws InterruptedException {
+        ConcurrentAppendList<Integer> released = new ConcurrentAppendList<>();
+        ConcurrentAppendList<Integer> finished = new ConcurrentAppendList<>();
+        for (int t = 0; t < 200; t++) {
+            int value = t;
+            Thread w = new Thread(() -> {
+                released.add(value);
+                released.release();
+                finished.add(value);
+            });
+            w.start();
+            w.join();
+        }
+        // con release() cada hilo continúa el mismo segmento, así que el orden es el de los hilos
+        for (int i = 0; i < 200; i++) assertEquals(i, released.get(i));
+        assertEquals(200, finished.size());
+        assertEquals(200, new HashSet<>(finished).size());
+        released.release();
+        released.add(200);
+        assertEquals(200, released.get(200));
+    }
+
+    @Test
+    void droppedList_shouldNotBeRetainedByPoolThreads() {
+        // un hilo solo llega a la lista por un ThreadLocal o por un campo estático: la lista no
+        // declara ninguno de los dos (salvo constantes), así que un hilo del pool no la retiene
+        List<Class<?>> classes = new ArrayList<>(List.of(ConcurrentAppendList.class.getDeclaredClasses()));
+        classes.add(ConcurrentAppendList.class);
+        for (Class<?> type : classes) {
+            for (Field field : type.getDeclaredFields()) {
+                assertFalse(ThreadLocal.class.isAssignableFrom(field.getType()), field.toString());
+                if (Modifier.isStatic(field.getModifiers())) {
+                    assertTrue(Modifier.isFinal(field.getModifiers()) && field.getType().isPrimitive(), field.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    void unsupportedOperations_shouldThrow() {
+        ConcurrentAppendList<Integer> list = new ConcurrentAppendList<>();
+        list.add(1);
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 2));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        Iterator<Integer> it = list.iterator();
+        assertEquals(1, it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+}
@@ -0,0 +1,86 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.math.DecayingStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecayingStatsTest {
+
+    @Test
+    void alphaOneTracksLastValue() {
+        DecayingStats ewma = DecayingStats.withAlpha(1.0);
+        ewma.accept(3.0);
+        ewma.accept(7.0);
+        assertEquals(7.0, ewma.mean());
+        assertEquals(0.0, ewma.variance());
+    }
+
+    @Test
+    void matchesExplicitlyWeightedSums() {
+        double alpha = 0.1;
+        Random rnd = new Random(3);
+        double[] values = new double[500];
+        for (int i = 0; i < values.length; i++) values[i] = 100.0 + rnd.nextGaussian() * 5.0;
+        DecayingStats ewma = DecayingStats.withAlpha(alpha);
+        for (double v : values) ewma.accept(v);
+
+        // pesos: el primer dato arrastra (1-alpha)^(n-1), el i-ésimo alpha·(1-alpha)^(n-1-i)
+        int n = values.length;
+        double[] w = new double[n];
+        for (int i = 0; i < n; i++) w[i] = (i == 0 ? 1.0 : alpha) * Math.pow(1.0 - alpha, n - 1 - i);
+        double mean = 0.0;
+        for (int i = 0; i < n; i++) mean += w[i] * values[i];
+        assertEquals(mean, ewma.mean(), 1e-9);
+        assertEquals(500, ewma.count());
+        assertTrue(ewma.stdDev() > 3.0 && ewma.stdDev() < 7.0, "s=" + ewma.stdDev());
+    }
+
+    @Test
+    void spanConvertsToAlpha() {
+        DecayingStats a = DecayingStats.withSpan(19);
+        DecayingStats b = DecayingStats.withAlpha(0.1);
+        for (int i = 0; i < 50; i++) {
+            a.accept(i % 7);
+            b.accept(i % 7);
+        }
+        assertEquals(b.mean(), a.mean(), 1e-12);
+        assertEquals(b.variance(), a.variance(), 1e-12);
+    }
+
+    @Test
+    void halfLifeHalvesHistoryWeightPerInterval() {
+        long s = 1_000_000_000L;
+        DecayingStats ewma = DecayingStats.withHalfLife(Duration.ofSeconds(1));
+        ewma.accept(0, 0.0);
+        ewma.accept(s, 10.0); // alpha = 1/2
+        assertEquals(5.0, ewma.mean(), 1e-12);
+        ewma.accept(3 * s, 10.0); // alpha = 3/4
+        assertEquals(8.75, ewma.mean(), 1e-12);
+        ewma.accept(3 * s, 0.0); // sin tiempo transcurrido no pesa
+        assertEquals(8.75, ewma.mean(), 1e-12);
+    }
+
+    @Test
+    void usesClockForPlainAccept() {
+        long[] now = {0};
+        DecayingStats ewma = DecayingStats.withHalfLife(Duration.ofMillis(1), () -> now[0]);
+        ewma.accept(4.0);
+        now[0] = 1_000_000L;
+        ewma.accept(8.0);
+        assertEquals(6.0, ewma.mean(), 1e-12);
+        assertEquals(4.0, ewma.variance(), 1e-12);
+    }
+
+    @Test
+    void rejectsInvalidParametersAndEmptyQueries() {
+        assertThrows(IllegalArgumentException.class, () -> DecayingStats.withAlpha(0.0));
+        assertThrows(IllegalArgumentException.class, () -> DecayingStats.withAlpha(1.5));
+        assertThrows(IllegalArgumentException.class, () -> DecayingStats.withSpan(0));
+        assertThrows(IllegalArgumentException.class, () -> DecayingStats.withHalfLife(Duration.ZERO));
+        assertThrows(IllegalStateException.class, () -> DecayingStats.withAlpha(0.5).mean());
+    }
+}
@@ -0,0 +1,336 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.math.RunningStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleFileReaderTest {
+
+    @TempDir
+    Path tmp;
+
+    private String resourcePath(String name) {
+        try {
+            var url = Thread.currentThread().getContextClassLoader().getResource(name);
+            if (url == null) throw new IllegalStateException("Recurso no encontrado: " + name);
+            return Paths.get(url.toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Ruta inválida para recurso: " + name, e);
+        }
+    }
+
+    private String write(String content) throws Exception {
+        Path file = Files.createTempFile(tmp, "data", ".txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file.toString();
+    }
+
+    private static DoubleList readMapped(String path) throws Exception {
+        DoubleList values = new DoubleList();
+        new DoubleFileReader().readMapped(path, values);
+        return values;
+    }
+
+    @Test
+    void mapped_shouldMatchLineReaderOnDatasets() throws Exception {
+        DoubleFileReader reader = new DoubleFileReader();
+        for (String name : new String[]{"table1.txt", "table2.txt", "table3.txt"}) {
+            String path = resourcePath(name);
+            assertEquals(reader.read(path), readMapped(path), name);
+        }
+    }
+
+    @Test
+    void mapped_shouldApplySameFormatRules() throws Exception {
+        String path = write("# cabecera\r\n15.0, 69.9,6.5\r\n\r\n"
+                + "\t22.4 28.4,,65.9   # comentario, 1.0 2.0\n"
+                + "-0.0 +1e3 .5 1. 1E-2 NaN -Infinity 0x1p3 2d\n"
+                + "12345678901234567890123 4.9e-324 1.7976931348623157e308#fin");
+        DoubleList expected = new DoubleFileReader().read(path);
+        DoubleList actual = readMapped(path);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(Double.doubleToRawLongBits(expected.getDouble(i)),
+                    Double.doubleToRawLongBits(actual.getDouble(i)), "token " + i);
+        }
+    }
+
+    @Test
+    void mapped_shouldParseRandomValuesBitExactly() throws Exception {
+        Random rnd = new Random(7);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            double x = switch (i % 4) {
+                case 0 -> rnd.nextDouble() * 1000;
+                case 1 -> Math.round(rnd.nextGaussian() * 1e6) / 100.0;
+                case 2 -> Double.longBitsToDouble(rnd.nextLong());
+                default -> rnd.nextInt(100_000) * Math.pow(10, rnd.nextInt(40) - 20);
+            };
+            sb.append(x).append(i % 7 == 0 ? ",\n" : " ");
+        }
+        String path = write(sb.toString());
+        DoubleList expected = new DoubleFileReader().read(path);
+        DoubleList actual = readMapped(path);
+        assertArrayEquals(expected.toDoubleArray(), actual.toDoubleArray());
+    }
+
+    @Test
+    void mapped_shouldReportInvalidTokenLikeParseDouble() throws Exception {
+        String path = write("1.0 2,5.3 abc 4.0\n");
+        NumberFormatException ex = assertThrows(NumberFormatException.class, () -> readMapped(path));
+        assertTrue(ex.getMessage().contains("abc"), ex.getMessage());
+    }
+
+    @Test
+    void mapped_shouldHandleEmptyFile() throws Exception {
+        assertTrue(readMapped(write("")).isEmpty());
+        assertTrue(readMapped(write("# solo comentario\n\n")).isEmpty());
+    }
+
+    private String writeLarge() throws Exception {
+        Random rnd = new Random(11);
+        StringBuilder sb = new StringBuilder();
+        for (int line = 0; line < 200_000; line++) {
+            if (line % 97 == 0) sb.append("# comentario ").append(line).append('\n');
+            for (int k = 0; k < 4; k++) {
+                sb.append(Math.round(rnd.nextGaussian() * 1e5) / 100.0).append(k % 2 == 0 ? ", " : " ");
+            }
+            sb.append(line % 3 == 0 ? "\r\n" : "\n");
+        }
+        return write(sb.toString());
+    }
+
+    @Test
+    void parallel_shouldPreserveOrderAndValues() throws Exception {
+        String path = writeLarge();
+        DoubleList expected = readMapped(path);
+        for (int threads : new int[]{1, 2, 3, 8}) {
+            DoubleList actual = new DoubleFileReader().readParallel(path, threads, DoubleList::new,
+                    (left, right) -> {
+                        left.addAllDoubles(right.toDoubleArray());
+                        return left;
+                    });
+            assertArrayEquals(expected.toDoubleArray(), actual.toDoubleArray(), "threads=" + threads);
+        }
+    }
+
+    @Test
+    void parallel_shouldMergeRunningStats() throws Exception {
+        String path = writeLarge();
+        RunningStats sequential = new RunningStats();
+        new DoubleFileReader().readMapped(path, sequential);
+        RunningStats parallel = new DoubleFileReader().readParallel(path, 4, RunningStats::new, RunningStats::combine);
+
+        assertEquals(sequential.count(), parallel.count());
+        assertEquals(sequential.mean(), parallel.mean(), 1e-9);
+        assertEquals(sequential.sampleStdDev(), parallel.sampleStdDev(), 1e-9);
+    }
+
+    @Test
+    void sharedPool_shouldServeConcurrentReadsAndStayOpen() throws Exception {
+        String path = writeLarge();
+        DoubleList expected = readMapped(path);
+        ForkJoinPool readers = new ForkJoinPool(3);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            Callable<DoubleList> read = () -> new DoubleFileReader().readParallel(path, 3, readers, DoubleList::new,
+                    (left, right) -> {
+                        left.addAllDoubles(right.toDoubleArray());
+                        return left;
+                    });
+            List<Future<DoubleList>> results = callers.invokeAll(List.of(read, read, read, read));
+            for (Future<DoubleList> result : results) {
+                assertArrayEquals(expected.toDoubleArray(), result.get().toDoubleArray());
+            }
+            assertFalse(readers.isShutdown());
+            assertEquals(expected.size(), read.call().size());
+        } finally {
+            callers.shutdownNow();
+            readers.shutdown();
+        }
+    }
+
+    @Test
+    void sharedPool_shouldSplitByTheRequestedThreadsNotThePoolSize() throws Exception {
+        String path = writeLarge();
+        RunningStats sequential = new RunningStats();
+        new DoubleFileReader().readMapped(path, sequential);
+        ForkJoinPool readers = new ForkJoinPool(8);
+        try {
+            AtomicInteger ranges = new AtomicInteger();
+            RunningStats parallel = new DoubleFileReader().readParallel(path, 2, readers, () -> {
+                ranges.incrementAndGet();
+                return new RunningStats();
+            }, RunningStats::combine);
+
+            // un rango por hilo pedido: la lectura no puede ocupar más de 2 de los 8 hilos del pool
+            assertEquals(2, ranges.get());
+            assertEquals(sequential.count(), parallel.count());
+            assertEquals(sequential.mean(), parallel.mean(), 1e-9);
+            assertThrows(IllegalArgumentException.class,
+                    () -> new DoubleFileReader().readParallel(path, 0, readers, RunningStats::new, RunningStats::combine));
+        } finally {
+            readers.shutdown();
+        }
+    }
+
+    @Test
+    void parallel_shouldPropagateParseErrors() throws Exception {
+        String path = write(Files.readString(Path.of(writeLarge())) + "1.0 malo 2.0\n");
+        NumberFormatException ex = assertThrows(NumberFormatException.class,
+                () -> new DoubleFileReader().readParallel(path, 4, RunningStats::new, RunningStats::combine));
+        assertTrue(ex.getMessage().contains("malo"), ex.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> new DoubleFileReader().readParallel(path, 0, RunningStats::new, RunningStats::combine));
+    }
+
+    @Test
+    void streams_shouldMatchPathReader() throws Exception {
+        String content = "# cabecera\r\n15.0, 69.9,6.5\r\n\r\n"
+                + "\t22.4 28.4,,65.9   # comentario, 1.0 2.0\n-0.0 +1e3 .5 1E-2#fin";
+        String path = write(content);
+        DoubleFileReader reader = new DoubleFileReader();
+        DoubleList expected = reader.read(path);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+        DoubleList fromStream = new DoubleList();
+        reader.read(new ByteArrayInputStream(bytes), fromStream);
+        assertEquals(expected, fromStream);
+
+        DoubleList fromChannel = new DoubleList();
+        reader.read(Channels.newChannel(new ByteArrayInputStream(bytes)), fromChannel);
+        assertEquals(expected, fromChannel);
+
+        DoubleList fromReader = new DoubleList();
+        reader.read(new StringReader(content), fromReader);
+        assertEquals(expected, fromReader);
+    }
+
+    @Test
+    void stream_shouldJoinTokensSplitAcrossReads() throws Exception {
+        byte[] bytes = "123.456, 7e-3\n# 99\n-8.5".getBytes(StandardCharsets.UTF_8);
+        // un byte por lectura, como un pipe lento
+        InputStream trickle = new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+        DoubleList values = new DoubleList();
+        new DoubleFileReader().read(trickle, values);
+        assertEquals(List.of(123.456, 7e-3, -8.5), values);
+
+        assertThrows(NumberFormatException.class,
+                () -> new DoubleFileReader().read(new ByteArrayInputStream("1 x2".getBytes(StandardCharsets.US_ASCII)),
+                        new DoubleList()));
+    }
+
+    private String gzip(String content) throws Exception {
+        Path file = Files.createTempFile(tmp, "data", ".txt.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return file.toString();
+    }
+
+    @Test
+    void gzip_shouldBeDetectedInEveryReadMode() throws Exception {
+        Random rnd = new Random(3);
+        StringBuilder sb = new StringBuilder("# comprimido\n");
+        for (int i = 0; i < 200_000; i++) {
+            sb.append(Math.round(rnd.nextGaussian() * 1e5) / 100.0).append(i % 9 == 0 ? "\n" : ", ");
+        }
+        DoubleFileReader reader = new DoubleFileReader();
+        DoubleList expected = reader.read(write(sb.toString()));
+        String compressed = gzip(sb.toString());
+
+        assertEquals(expected, reader.read(compressed));
+        DoubleList mapped = new DoubleList();
+        reader.readMapped(compressed, mapped);
+        assertEquals(expected, mapped);
+        DoubleList parallel = reader.readParallel(compressed, 4, DoubleList::new, (a, b) -> {
+            a.addAll(b);
+            return a;
+        });
+        assertEquals(expected, parallel);
+    }
+
+    @Test
+    void gzip_shouldPropagateParseAndFormatErrors() throws Exception {
+        DoubleFileReader reader = new DoubleFileReader();
+        String bad = gzip("1.0 2.0\n3.0 x4\n");
+        NumberFormatException ex = assertThrows(NumberFormatException.class,
+                () -> reader.readMapped(bad, new DoubleList()));
+        assertTrue(ex.getMessage().contains("x4"));
+
+        byte[] bytes = Files.readAllBytes(Path.of(gzip("1.0 2.0 3.0\n".repeat(1000))));
+        Path truncated = tmp.resolve("truncated.gz");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(IOException.class, () -> reader.readMapped(truncated.toString(), new DoubleList()));
+
+        Path zstd = tmp.resolve("data.zst");
+        Files.write(zstd, new byte[] {0x28, (byte) 0xb5, 0x2f, (byte) 0xfd, 0, 0});
+        assertThrows(IOException.class, () -> reader.read(zstd.toString()));
+    }
+
+    @Test
+    void gzip_shouldForwardUncheckedDecompressorFailures() throws Exception {
+        // GZIPInputStream no lanza excepciones no comprobadas con datos reales: se prueba el
+        // pipeline (package-private) directamente con un stream que falla en el hilo descompresor
+        Method pipeline = Arrays.stream(Class.forName("edu.eci.arsw.generics.io.CompressedInput").getDeclaredMethods())
+                .filter(m -> m.getName().equals("pipeline")).findFirst().orElseThrow();
+        pipeline.setAccessible(true);
+        IllegalStateException boom = new IllegalStateException("inflater dañado");
+        InputStream failing = new InputStream() {
+            private int calls;
+
+            @Override
+            public int read() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (calls++ > 0) throw boom;
+                byte[] data = "1 2 3\n".getBytes(StandardCharsets.US_ASCII);
+                System.arraycopy(data, 0, b, off, data.length);
+                return data.length;
+            }
+        };
+        DoubleList values = new DoubleList();
+        InvocationTargetException ex = assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                assertThrows(InvocationTargetException.class, () -> pipeline.invoke(null, failing, values, null, null)));
+        assertInstanceOf(IOException.class, ex.getCause());
+        assertSame(boom, ex.getCause().getCause());
+    }
+}
@@ -0,0 +1,97 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.math.DoubleKernels;
+import edu.eci.arsw.generics.math.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleKernelsTest {
+
+    private static double exactSum(double[] a, int from, int to) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = from; i < to; i++) sum = sum.add(new BigDecimal(a[i]));
+        return sum.doubleValue();
+    }
+
+    @Test
+    void sum_shouldHandleEveryTailLength() {
+        Random rnd = new Random(11);
+        for (int n = 0; n <= 70; n++) {
+            double[] a = new double[n];
+            for (int i = 0; i < n; i++) a[i] = rnd.nextDouble() * 100.0;
+            assertEquals(exactSum(a, 0, n), DoubleKernels.sum(a), 1e-12, "n=" + n);
+            if (n > 3) assertEquals(exactSum(a, 1, n - 2), DoubleKernels.sum(a, 1, n - 2), 1e-12, "n=" + n);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleKernels.sum(new double[4], 2, 5));
+    }
+
+    @Test
+    void sum_shouldCompensateRoundingError() {
+        // 1e8 + 0.1 * n: la suma ingenua pierde los dígitos bajos en cada paso
+        double[] a = new double[1_000_001];
+        a[0] = 1e8;
+        for (int i = 1; i < a.length; i++) a[i] = 0.1;
+        double naive = 0.0;
+        for (double v : a) naive += v;
+        double exact = exactSum(a, 0, a.length);
+
+        assertEquals(exact, DoubleKernels.sum(a), Math.ulp(exact));
+        assertTrue(Math.abs(naive - exact) > Math.abs(DoubleKernels.sum(a) - exact));
+    }
+
+    @Test
+    void arrayOverloads_shouldMatchListStats() {
+        Random rnd = new Random(4);
+        double[] a = new double[10_003];
+        for (int i = 0; i < a.length; i++) a[i] = 500.0 + rnd.nextGaussian() * 50.0;
+        DoubleList list = new DoubleList(a);
+
+        assertEquals(Stats.mean(list), Stats.mean(a), 1e-9);
+        assertEquals(Stats.sampleStdDev(list), Stats.sampleStdDev(a), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> Stats.mean(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> Stats.sampleStdDev(new double[] {1.0}));
+    }
+
+    @Test
+    void nonFiniteValues_shouldSumLikePlainAddition() {
+        double inf = Double.POSITIVE_INFINITY;
+        for (int n : new int[] {3, 37}) {
+            double[] base = new double[n];
+            Arrays.fill(base, 2.0);
+            double[][] cases = {
+                    with(base, inf), with(base, -inf), with(base, inf, inf),
+                    with(base, inf, -inf), with(base, Double.NaN), with(base, Double.MAX_VALUE, Double.MAX_VALUE)
+            };
+            double[] expected = {inf, -inf, inf, Double.NaN, Double.NaN, inf};
+            for (int c = 0; c < cases.length; c++) {
+                double[] a = cases[c];
+                List<Double> boxed = new ArrayList<>(new DoubleList(a));
+                assertEquals(expected[c], DoubleKernels.sum(a), "caso " + c + ", n=" + n);
+                assertEquals(Stats.mean(boxed), Stats.mean(a), "caso " + c + ", n=" + n);
+                assertEquals(Stats.mean(new DoubleList(a)), Stats.mean(a), "caso " + c + ", n=" + n);
+            }
+        }
+        double[] huge = {1e200, -1e200, 1e200};
+        assertEquals(Double.POSITIVE_INFINITY, Stats.sampleStdDev(huge));
+        assertEquals(Stats.sampleStdDev(List.of(1e200, -1e200, 1e200)), Stats.sampleStdDev(huge));
+        assertEquals(Double.POSITIVE_INFINITY, DoubleKernels.sumSquaredDeviations(huge, 0.0));
+    }
+
+    /** Copia de {@code base} con {@code extra} intercalados cerca del inicio */
+    private static double[] with(double[] base, double... extra) {
+        double[] a = Arrays.copyOf(base, base.length + extra.length);
+        for (int i = 0; i < extra.length; i++) {
+            a[a.length - 1 - i] = a[i + 1];
+            a[i + 1] = extra[i];
+        }
+        return a;
+    }
+}
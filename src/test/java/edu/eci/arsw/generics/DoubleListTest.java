@@ -0,0 +1,81 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import org.junit.jupiter.api.Test;
+
+import java.nio.DoubleBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleListTest {
+
+    @Test
+    void addDouble_and_getDouble_shouldWork() {
+        DoubleList list = new DoubleList(1);
+        assertTrue(list.isEmpty());
+        for (int i = 0; i < 100; i++) list.addDouble(i * 0.5);
+        assertEquals(100, list.size());
+        assertEquals(0.0, list.getDouble(0));
+        assertEquals(49.5, list.getDouble(99));
+        assertEquals(49.5, list.get(99));
+    }
+
+    @Test
+    void listContract_shouldMatchArrayList() {
+        DoubleList list = new DoubleList();
+        list.add(1.0);
+        list.add(3.0);
+        list.add(1, 2.0);
+        assertEquals(List.of(1.0, 2.0, 3.0), list);
+        assertEquals(List.of(1.0, 2.0, 3.0).hashCode(), list.hashCode());
+        assertEquals(2.0, list.set(1, 5.0));
+        assertEquals(5.0, list.remove(1));
+        assertEquals(List.of(1.0, 3.0), list);
+        assertTrue(list.contains(3.0));
+        assertEquals(-1, list.indexOf("3.0"));
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void nullElements_shouldBeRejected() {
+        DoubleList list = new DoubleList();
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        list.addDouble(1.0);
+        assertThrows(NullPointerException.class, () -> list.set(0, null));
+    }
+
+    @Test
+    void invalidIndexes_shouldThrow() {
+        DoubleList list = new DoubleList(new double[]{1.0, 2.0});
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, 9.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.setDouble(2, 0.0));
+    }
+
+    @Test
+    void bulkViews_shouldExposeValues() {
+        DoubleList list = new DoubleList();
+        list.addAllDoubles(new double[]{4.0, 5.0, 6.0});
+        assertArrayEquals(new double[]{4.0, 5.0, 6.0}, list.toDoubleArray());
+
+        DoubleBuffer view = list.asDoubleBuffer();
+        assertEquals(3, view.remaining());
+        assertEquals(6.0, view.get(2));
+        assertTrue(view.isReadOnly());
+    }
+
+    @Test
+    void iterator_shouldBeFailFast() {
+        DoubleList list = new DoubleList(new double[]{1.0, 2.0});
+        Iterator<Double> it = list.iterator();
+        assertTrue(it.hasNext());
+        list.addDouble(3.0);
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+}
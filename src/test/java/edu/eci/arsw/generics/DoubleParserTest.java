@@ -0,0 +1,118 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba diferencial del parser rápido (rutas de bytes y de chars del lector) contra Double.parseDouble.
+ */
+class DoubleParserTest {
+
+    private static final String[] EDGE_CASES = {
+            "0", "-0", "+0", "0.0", "-0.0", "0e999", "00000.00000e-5", ".5", "5.", "+.5e1", "-5.E-1",
+            "1", "1e22", "1e23", "9007199254740992", "9007199254740993", "9007199254740995",
+            "9999999999999999999", "18446744073709551615", "18446744073709551616",
+            "12345678901234567890123456789", "0.1000000000000000055511151231257827021181583404541015625",
+            "0.1000000000000000055511151231257827021181583404541015624",
+            "0.1000000000000000055511151231257827021181583404541015626",
+            "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308", "1e309", "-1e309",
+            "2.2250738585072011e-308", "2.2250738585072014e-308", "4.9e-324", "2.4703282292062327e-324",
+            "2.4703282292062328e-324", "1e-400", "-1e-400", "3.0517578125e-5", "7.450580596923828125e-9",
+            "1E+2", "1e+0002", "123456789012345678e-40", "0.000000000000000000000000000000001234567",
+            "NaN", "-NaN", "Infinity", "-Infinity", "0x1p3", "0x1.8p1", "1d", "2.5f", "3.0D",
+            "4503599627370496.5", "4503599627370497.5", "9007199254740993.0000000000000000001"
+    };
+
+    private static List<String> corpus() {
+        SplittableRandom rnd = new SplittableRandom(2024);
+        List<String> tokens = new ArrayList<>(List.of(EDGE_CASES));
+        for (int i = 0; i < 120_000; i++) {
+            String token = switch (i % 6) {
+                // representación más corta de doubles arbitrarios (todo el rango de exponentes)
+                case 0 -> Double.toString(Double.longBitsToDouble(rnd.nextLong() & 0x7FEFFFFFFFFFFFFFL));
+                // decimales típicos de los datasets
+                case 1 -> String.format(Locale.ROOT, "%.2f", rnd.nextDouble(-1e6, 1e6));
+                // expansión decimal exacta de un double (muchos dígitos)
+                case 2 -> new BigDecimal(Double.longBitsToDouble(rnd.nextLong() & 0x7FEFFFFFFFFFFFFFL)).toString();
+                // punto medio exacto entre dos doubles consecutivos: pone a prueba el redondeo al par
+                case 3 -> {
+                    double d = Double.longBitsToDouble(rnd.nextLong() & 0x7FEFFFFFFFFFFFFEL);
+                    yield new BigDecimal(d).add(new BigDecimal(Math.nextUp(d))).divide(BigDecimal.valueOf(2)).toString();
+                }
+                // dígitos aleatorios con punto y exponente aleatorios
+                case 4 -> {
+                    StringBuilder sb = new StringBuilder(rnd.nextBoolean() ? "-" : "");
+                    int len = 1 + rnd.nextInt(30);
+                    for (int k = 0; k < len; k++) sb.append((char) ('0' + rnd.nextInt(10)));
+                    if (rnd.nextBoolean()) sb.insert(sb.length() - rnd.nextInt(len + 1), '.');
+                    if (rnd.nextBoolean()) sb.append(rnd.nextBoolean() ? 'e' : 'E').append(rnd.nextInt(700) - 350);
+                    yield sb.toString();
+                }
+                default -> String.format(Locale.ROOT, "%." + rnd.nextInt(25) + "e",
+                        rnd.nextDouble() * Math.pow(10, rnd.nextInt(620) - 310));
+            };
+            tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private static String join(List<String> tokens) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tokens.size(); i++) sb.append(tokens.get(i)).append(i % 5 == 4 ? "\n" : ", ");
+        return sb.toString();
+    }
+
+    private static void assertBitIdentical(List<String> tokens, DoubleList actual) {
+        assertEquals(tokens.size(), actual.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            assertEquals(Double.doubleToRawLongBits(Double.parseDouble(token)),
+                    Double.doubleToRawLongBits(actual.getDouble(i)), () -> "token " + token);
+        }
+    }
+
+    @Test
+    void bytePath_shouldMatchParseDoubleBitForBit() throws Exception {
+        List<String> tokens = corpus();
+        DoubleList actual = new DoubleList();
+        new DoubleFileReader().read(new ByteArrayInputStream(join(tokens).getBytes(StandardCharsets.UTF_8)), actual);
+        assertBitIdentical(tokens, actual);
+    }
+
+    @Test
+    void charPath_shouldMatchParseDoubleBitForBit() throws Exception {
+        List<String> tokens = corpus();
+        DoubleList actual = new DoubleList();
+        new DoubleFileReader().read(new StringReader(join(tokens)), actual);
+        assertBitIdentical(tokens, actual);
+    }
+
+    @Test
+    void invalidTokens_shouldFailLikeParseDoubleInBothPaths() {
+        for (String bad : new String[] {"abc", "1.2.3", "1e", "--1", "1e+", ".", "1_000", "5e1.5"}) {
+            String expected = assertThrows(NumberFormatException.class, () -> Double.parseDouble(bad)).getMessage();
+            String text = "1.0 " + bad + " 2.0\n";
+            NumberFormatException fromBytes = assertThrows(NumberFormatException.class, () -> new DoubleFileReader()
+                    .read(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), new DoubleList()));
+            NumberFormatException fromChars = assertThrows(NumberFormatException.class,
+                    () -> new DoubleFileReader().read(new StringReader(text), new DoubleList()));
+            assertEquals(expected, fromBytes.getMessage());
+            assertEquals(expected, fromChars.getMessage());
+        }
+        NumberFormatException ex = assertThrows(NumberFormatException.class,
+                () -> new DoubleFileReader().read(new StringReader("1.0 abc"), new DoubleList()));
+        assertTrue(ex.getMessage().contains("abc"), ex.getMessage());
+    }
+}
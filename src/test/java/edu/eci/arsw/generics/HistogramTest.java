@@ -0,0 +1,51 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.math.Histogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramTest {
+
+    @Test
+    void linear_shouldCountEachBinAndOutOfRange() {
+        Histogram h = Histogram.linear(0.0, 10.0, 5);
+        for (double v : new double[] {-1.0, 0.0, 1.9, 2.0, 5.5, 9.99, 10.0, Double.NaN}) h.accept(v);
+
+        assertArrayEquals(new long[] {2, 1, 1, 0, 1}, h.counts());
+        assertEquals(1, h.underflow());
+        assertEquals(2, h.overflow());
+        assertEquals(8, h.total());
+        assertEquals(4.0, h.lowerBound(2), 1e-12);
+        assertEquals(6.0, h.upperBound(2), 1e-12);
+        assertEquals(10.0, h.upperBound(4));
+    }
+
+    @Test
+    void logarithmic_shouldUseGeometricBins() {
+        Histogram h = Histogram.logarithmic(1.0, 1_000.0, 3);
+        for (double v : new double[] {1.0, 9.0, 10.0, 50.0, 999.0, 0.5}) h.accept(v);
+
+        assertArrayEquals(new long[] {2, 2, 1}, h.counts());
+        assertEquals(1, h.underflow());
+        assertEquals(10.0, h.lowerBound(1), 1e-9);
+        assertEquals(100.0, h.upperBound(1), 1e-9);
+    }
+
+    @Test
+    void combine_shouldAddCountsOfSameShape() {
+        Histogram a = Histogram.linear(0.0, 1.0, 4);
+        Histogram b = Histogram.linear(0.0, 1.0, 4);
+        a.accept(0.1);
+        b.accept(0.1);
+        b.accept(0.9);
+        b.accept(2.0);
+        a.combine(b);
+        assertArrayEquals(new long[] {2, 0, 0, 1}, a.counts());
+        assertEquals(1, a.overflow());
+
+        assertThrows(IllegalArgumentException.class, () -> a.combine(Histogram.linear(0.0, 1.0, 5)));
+        assertThrows(IllegalArgumentException.class, () -> Histogram.logarithmic(0.0, 1.0, 4));
+        assertThrows(IllegalArgumentException.class, () -> Histogram.linear(1.0, 1.0, 4));
+    }
+}
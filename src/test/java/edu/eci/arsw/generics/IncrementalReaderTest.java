@@ -0,0 +1,127 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.io.IncrementalReader;
+import edu.eci.arsw.generics.math.RunningStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalReaderTest {
+
+    @TempDir
+    Path tmp;
+
+    private static void append(Path file, String text) throws IOException {
+        Files.writeString(file, text, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static RunningStats full(Path file) throws IOException {
+        RunningStats stats = new RunningStats();
+        new DoubleFileReader().read(file.toString(), stats);
+        return stats;
+    }
+
+    private static void assertSameStats(RunningStats expected, RunningStats actual) {
+        assertEquals(expected.count(), actual.count());
+        assertEquals(expected.mean(), actual.mean(), 1e-9 * Math.max(1, Math.abs(expected.mean())));
+        assertEquals(expected.m2(), actual.m2(), 1e-9 * Math.max(1, expected.m2()));
+    }
+
+    @Test
+    void appendedDataIsMergedWithCheckpoint() throws IOException {
+        Path file = tmp.resolve("log.txt");
+        Random random = new Random(7);
+        IncrementalReader reader = new IncrementalReader();
+        append(file, "# cabecera\n1, 2, 3\n");
+        IncrementalReader.Result first = reader.read(file.toString());
+        assertEquals(0, first.resumedAt());
+        assertEquals(3, first.newValues());
+        assertTrue(Files.exists(tmp.resolve("log.txt" + IncrementalReader.SUFFIX)));
+
+        for (int day = 0; day < 5; day++) {
+            long before = Files.size(file);
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 200; i++) sb.append(random.nextGaussian() * 100).append(i % 4 == 3 ? '\n' : ' ');
+            append(file, sb.toString());
+            IncrementalReader.Result result = reader.read(file.toString());
+
+            assertEquals(before, result.resumedAt());
+            assertEquals(200, result.newValues());
+            assertFalse(result.reset());
+            assertSameStats(full(file), result.stats());
+        }
+        IncrementalReader.Result unchanged = reader.read(file.toString());
+        assertEquals(0, unchanged.newValues());
+        assertEquals(1003, unchanged.stats().count());
+    }
+
+    @Test
+    void unterminatedLastLineIsReadAgainOnNextRun() throws IOException {
+        Path file = tmp.resolve("log.txt");
+        IncrementalReader reader = new IncrementalReader();
+        append(file, "1 2\n-3");
+        IncrementalReader.Result first = reader.read(file.toString());
+        assertEquals(3, first.stats().count());
+        assertEquals(-3.0, first.min());
+
+        append(file, "4\n5 6\n");
+        IncrementalReader.Result second = reader.read(file.toString());
+
+        assertEquals(4, second.resumedAt());
+        assertEquals(3, second.newValues());
+        assertEquals(-34.0, second.min());
+        assertEquals(6.0, second.max());
+        assertSameStats(full(file), second.stats());
+    }
+
+    @Test
+    void truncatedOrRewrittenFileIsReadFromStart() throws IOException {
+        Path file = tmp.resolve("log.txt");
+        IncrementalReader reader = new IncrementalReader();
+        Files.writeString(file, "10 20 30\n40\n");
+        reader.read(file.toString());
+
+        Files.writeString(file, "1\n");
+        IncrementalReader.Result truncated = reader.read(file.toString());
+        assertTrue(truncated.reset());
+        assertEquals(0, truncated.resumedAt());
+        assertEquals(1, truncated.stats().count());
+
+        Files.writeString(file, "7\n8 9\n");
+        reader.read(file.toString());
+        Files.writeString(file, "5\n8 9\n1\n");
+        IncrementalReader.Result rewritten = reader.read(file.toString());
+        assertTrue(rewritten.reset());
+        assertSameStats(full(file), rewritten.stats());
+    }
+
+    @Test
+    void checkpointDirectoryAndDamagedCheckpoints() throws IOException {
+        Path file = tmp.resolve("log.txt");
+        Path dir = tmp.resolve("cache");
+        IncrementalReader reader = new IncrementalReader(dir);
+        Files.writeString(file, "1 2 3\n");
+        reader.read(file.toString());
+
+        Path checkpoint = reader.checkpointFor(file);
+        assertEquals(dir, checkpoint.getParent());
+        assertTrue(Files.exists(checkpoint));
+        assertFalse(Files.exists(tmp.resolve("log.txt" + IncrementalReader.SUFFIX)));
+
+        append(file, "4\n");
+        Files.write(checkpoint, new byte[] {1, 2, 3});
+        IncrementalReader.Result result = reader.read(file.toString());
+        assertEquals(0, result.resumedAt());
+        assertFalse(result.reset());
+        assertEquals(4, result.stats().count());
+        assertEquals(Files.size(file), reader.read(file.toString()).resumedAt());
+    }
+}
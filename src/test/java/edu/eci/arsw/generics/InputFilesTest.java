@@ -0,0 +1,52 @@
+package edu.eci.arsw.generics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputFilesTest {
+
+    @TempDir
+    Path tmp;
+
+    private Path touch(String name) throws IOException {
+        Path file = tmp.resolve(name);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, "1, 2\n");
+    }
+
+    @Test
+    void expand_shouldResolveFilesDirectoriesAndGlobs() throws IOException {
+        Path a = touch("a.txt");
+        Path b = touch("b.txt");
+        Path c = touch("c.gdbl");
+        Path nested = touch("sub/d.txt");
+
+        assertEquals(List.of(a, b, c), InputFiles.expand(List.of(tmp.toString())));
+        assertEquals(List.of(a, b), InputFiles.expand(List.of(tmp + "/*.txt")));
+        assertEquals(List.of(a, b, nested), InputFiles.expand(List.of(tmp + "/**.txt")));
+        assertEquals(List.of(c, a, b), InputFiles.expand(List.of(c.toString(), tmp + "/{a,b,c}.*")));
+    }
+
+    @Test
+    void expand_shouldSkipIncrementalCheckpoints() throws IOException {
+        Path a = touch("a.txt");
+        Path checkpoint = touch("a.txt.gstats");
+
+        assertEquals(List.of(a), InputFiles.expand(List.of(tmp.toString())));
+        assertEquals(List.of(a), InputFiles.expand(List.of(tmp + "/a.*")));
+        assertEquals(List.of(checkpoint), InputFiles.expand(List.of(checkpoint.toString())));
+    }
+
+    @Test
+    void expand_shouldRejectMissingInputs() {
+        assertThrows(IOException.class, () -> InputFiles.expand(List.of(tmp.resolve("nope.txt").toString())));
+        assertThrows(IOException.class, () -> InputFiles.expand(List.of(tmp + "/*.csv")));
+    }
+}
@@ -0,0 +1,86 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.math.KllSketch;
+import edu.eci.arsw.generics.math.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KllSketchTest {
+
+    private static final double[] FRACTIONS = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99};
+
+    /** Error de rango del valor estimado respecto a los datos ordenados */
+    private static double rankError(double[] sorted, double q, double estimate) {
+        int below = Arrays.binarySearch(sorted, estimate);
+        if (below < 0) below = -below - 1;
+        return Math.abs((double) below / sorted.length - q);
+    }
+
+    @Test
+    void quantiles_shouldStayWithinRankError() {
+        Random rnd = new Random(5);
+        double[] values = new double[1_000_000];
+        KllSketch sketch = new KllSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rnd.nextGaussian() * 100.0;
+            sketch.accept(values[i]);
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        double[] estimates = sketch.quantiles(FRACTIONS);
+        for (int i = 0; i < FRACTIONS.length; i++) {
+            assertTrue(rankError(sorted, FRACTIONS[i], estimates[i]) < 0.02, "q=" + FRACTIONS[i]);
+        }
+        assertEquals(sorted[0], sketch.quantile(0.0));
+        assertEquals(sorted[sorted.length - 1], sketch.quantile(1.0));
+        assertEquals(0.5, sketch.rank(sorted[sorted.length / 2]), 0.02);
+        assertTrue(sketch.retained() < 5_000, "memoria acotada: " + sketch.retained());
+        assertEquals(values.length, sketch.count());
+    }
+
+    @Test
+    void combine_shouldBehaveLikeOneSketch() {
+        Random rnd = new Random(9);
+        double[] values = new double[200_000];
+        KllSketch[] parts = {new KllSketch(), new KllSketch(), new KllSketch(), new KllSketch()};
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rnd.nextDouble() * 1_000.0;
+            parts[i % parts.length].accept(values[i]);
+        }
+        KllSketch merged = new KllSketch();
+        for (KllSketch part : parts) merged.combine(part);
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        assertEquals(values.length, merged.count());
+        double[] estimates = merged.quantiles(FRACTIONS);
+        for (int i = 0; i < FRACTIONS.length; i++) {
+            assertTrue(rankError(sorted, FRACTIONS[i], estimates[i]) < 0.02, "q=" + FRACTIONS[i]);
+        }
+    }
+
+    @Test
+    void smallInputs_shouldBeExact() {
+        List<Double> data = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) data.add((double) i);
+        double[] q = Stats.approximateQuantiles(data, 0.0, 0.5, 0.99, 1.0);
+        assertArrayEquals(new double[] {1.0, 50.0, 99.0, 100.0}, q);
+    }
+
+    @Test
+    void invalidArguments_shouldThrow() {
+        KllSketch sketch = new KllSketch();
+        assertThrows(IllegalStateException.class, () -> sketch.quantile(0.5));
+        sketch.accept(1.0);
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> sketch.accept(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new KllSketch(4));
+    }
+}
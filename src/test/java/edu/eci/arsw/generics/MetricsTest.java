@@ -0,0 +1,143 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.collections.SimpleLinkedList;
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.math.RunningStats;
+import edu.eci.arsw.generics.math.Stats;
+import edu.eci.arsw.generics.metrics.Metrics;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTest {
+
+    private static final String TEXT = "1, 2, 3\n# comentario 4 5\n4 5\n6\n";
+
+    @TempDir
+    Path tmp;
+
+    /** Ejecuta {@code body} con las métricas en cero y activas, y las desactiva al terminar */
+    private static void measured(Executable body) throws Throwable {
+        Metrics.reset();
+        Metrics.enable();
+        try {
+            body.execute();
+        } finally {
+            Metrics.disable();
+        }
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = tmp.resolve("data.txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    void disabledRecordsNothing() throws Exception {
+        Metrics.reset();
+        Path file = write(TEXT);
+        DoubleList values = new DoubleFileReader().read(file.toString());
+        Stats.mean(values);
+        new SimpleLinkedList<Double>().add(1.0);
+
+        for (Metrics.Counter counter : Metrics.Counter.values()) assertEquals(0, Metrics.count(counter));
+        for (Metrics.Phase phase : Metrics.Phase.values()) assertEquals(0, Metrics.calls(phase));
+    }
+
+    @Test
+    void countsBytesLinesTokensAndValues() throws Throwable {
+        Path file = write(TEXT);
+        measured(() -> {
+            DoubleList values = new DoubleFileReader().read(file.toString());
+
+            assertEquals(6, values.size());
+            assertEquals(Files.size(file), Metrics.count(Metrics.Counter.BYTES_READ));
+            assertEquals(4, Metrics.count(Metrics.Counter.LINES));
+            assertEquals(6, Metrics.count(Metrics.Counter.TOKENS));
+            assertEquals(6, Metrics.count(Metrics.Counter.VALUES));
+            assertEquals(1, Metrics.calls(Metrics.Phase.READ));
+            assertTrue(Metrics.calls(Metrics.Phase.PARSE) >= 1);
+            assertTrue(Metrics.nanos(Metrics.Phase.READ) >= Metrics.nanos(Metrics.Phase.PARSE));
+        });
+    }
+
+    @Test
+    void readerAndParallelReadsAreCounted() throws Throwable {
+        Path file = write(TEXT);
+        measured(() -> {
+            new DoubleFileReader().read(new StringReader(TEXT), v -> { });
+            new DoubleFileReader().readParallel(file.toString(), 4, RunningStats::new, RunningStats::combine);
+
+            assertEquals(2 * TEXT.length(), Metrics.count(Metrics.Counter.BYTES_READ));
+            assertEquals(12, Metrics.count(Metrics.Counter.VALUES));
+            assertEquals(2, Metrics.calls(Metrics.Phase.READ));
+        });
+    }
+
+    @Test
+    void statsAndListNodesAreCounted() throws Throwable {
+        measured(() -> {
+            SimpleLinkedList<Double> data = new SimpleLinkedList<>();
+            data.add(1.0);
+            data.add(0, 2.0);
+            data.add(1, 3.0);
+            data.addAll(List.of(4.0, 5.0));
+            Stats.sampleStdDev(data);
+            Stats.mean(new double[] {1, 2, 3});
+
+            assertEquals(5, Metrics.count(Metrics.Counter.LIST_NODES));
+            assertEquals(2, Metrics.calls(Metrics.Phase.STATS));
+        });
+    }
+
+    @Test
+    void jsonReportHasCountersPhasesAndThroughput() throws Throwable {
+        Path file = write(TEXT);
+        measured(() -> {
+            new DoubleFileReader().read(file.toString());
+            String json = Metrics.toJson(1_000_000_000L);
+
+            assertTrue(json.startsWith("{\"wallNanos\":1000000000,"), json);
+            assertTrue(json.contains("\"values\":6"), json);
+            assertTrue(json.contains("\"read\":{\"nanos\":"), json);
+            assertTrue(json.contains("\"valuesPerSecond\":6.0"), json);
+            assertTrue(json.contains("\"allocationSupported\":"), json);
+            assertFalse(json.contains("\n"));
+        });
+    }
+
+    @Test
+    void emitsJfrReadEventWhenRecording() throws Exception {
+        Path file = write(TEXT);
+        Path dump = tmp.resolve("read.jfr");
+        Metrics.reset();
+        try (Recording recording = new Recording()) {
+            recording.enable("edu.eci.arsw.generics.Read");
+            recording.start();
+            new DoubleFileReader().read(file.toString());
+            recording.stop();
+            recording.dump(dump);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(file.toString(), event.getString("source"));
+        assertEquals(6, event.getLong("values"));
+        assertEquals(Files.size(file), event.getLong("bytes"));
+        // Las métricas siguen desactivadas: el evento no depende de ellas
+        assertEquals(0, Metrics.count(Metrics.Counter.VALUES));
+    }
+}
@@ -0,0 +1,98 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.collections.OffHeapDoubleList;
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.math.Stats;
+import edu.eci.arsw.generics.math.Summation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapDoubleListTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void listContractAndPrimitiveAccess() {
+        try (OffHeapDoubleList list = OffHeapDoubleList.direct()) {
+            assertTrue(list.isEmpty());
+            list.add(1.0);
+            list.addDouble(2.0);
+            list.accept(3.0);
+            assertEquals(List.of(1.0, 2.0, 3.0), list);
+            assertEquals(List.of(1.0, 2.0, 3.0).hashCode(), list.hashCode());
+            assertEquals(2.0, list.set(1, 5.0));
+            assertEquals(5.0, list.getDouble(1L));
+            assertTrue(list.contains(3.0));
+            assertEquals(-1, list.indexOf("3.0"));
+            assertThrows(NullPointerException.class, () -> list.add(null));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(3L));
+            assertThrows(UnsupportedOperationException.class, () -> list.add(0, 1.0));
+            assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+            list.clear();
+            assertEquals(0, list.longSize());
+            list.addDouble(7.0);
+            assertEquals(List.of(7.0), list);
+        }
+    }
+
+    @Test
+    void valuesSpanSegmentsAndStatsReadThemDirectly() {
+        int n = OffHeapDoubleList.SEGMENT_SIZE + 1000;
+        DoubleList heap = new DoubleList(n);
+        try (OffHeapDoubleList list = OffHeapDoubleList.direct()) {
+            for (int i = 0; i < n; i++) {
+                double v = (i % 1000) * 0.25 - 100;
+                list.addDouble(v);
+                heap.addDouble(v);
+            }
+            assertEquals(n, list.longSize());
+            assertEquals(heap.getDouble(n - 1), list.getDouble(n - 1L));
+            DoubleBuffer[] segments = list.asDoubleBuffers();
+            assertEquals(2, segments.length);
+            assertEquals(1000, segments[1].limit());
+            assertTrue(segments[0].isReadOnly());
+
+            assertEquals(Stats.mean(heap), Stats.mean(list), 1e-9);
+            assertEquals(Stats.sampleStdDev(heap), Stats.sampleStdDev(list), 1e-9);
+            assertEquals(Stats.mean(heap, Summation.NEUMAIER), Stats.mean(list, Summation.NEUMAIER), 1e-12);
+        }
+    }
+
+    @Test
+    void mappedListLeavesValuesInFile() throws Exception {
+        Path data = Files.writeString(tmp.resolve("datos.txt"), "1.5, 2.5\n# comentario\n-3\n");
+        Path spill = tmp.resolve("valores.bin");
+        OffHeapDoubleList list = OffHeapDoubleList.mapped(spill);
+        new DoubleFileReader().read(data.toString(), list);
+        assertEquals(List.of(1.5, 2.5, -3.0), list);
+        assertEquals(Stats.sampleStdDev(List.of(1.5, 2.5, -3.0)), Stats.sampleStdDev(list), 1e-12);
+        DoubleBuffer view = list.asDoubleBuffers()[0];
+        list.close();
+        list.close();
+
+        // el archivo no se recorta mientras siga mapeado: la cabecera dice cuántos valores son válidos
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(spill)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(3, bytes.getLong(0));
+        assertEquals(1.5, bytes.getDouble(OffHeapDoubleList.HEADER_BYTES));
+        assertEquals(-3.0, bytes.getDouble(OffHeapDoubleList.HEADER_BYTES + 16));
+        assertEquals(-3.0, view.get(2));
+        assertEquals(0, list.longSize());
+        assertThrows(IllegalStateException.class, () -> list.addDouble(1.0));
+        assertThrows(IllegalStateException.class, list::asDoubleBuffers);
+        assertThrows(IllegalStateException.class, () -> list.getDouble(0L));
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+        assertThrows(IllegalStateException.class, () -> list.setDouble(0L, 1.0));
+        assertThrows(IllegalStateException.class, () -> list.forEachDouble(v -> { }));
+    }
+}
@@ -0,0 +1,133 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.collections.OffHeapDoubleList;
+import edu.eci.arsw.generics.collections.SimpleLinkedList;
+import edu.eci.arsw.generics.math.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelStatsTest {
+
+    private static final int N = Stats.PARALLEL_THRESHOLD * 2 + 17;
+
+    private static double[] values(int n) {
+        Random random = new Random(42);
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) values[i] = 1e6 + random.nextGaussian() * 250;
+        return values;
+    }
+
+    /** Corre dentro de un pool de 4 hilos, para que la ruta paralela se use aunque la máquina tenga un solo núcleo */
+    private static <T> T inPool(Callable<T> task) throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            return pool.submit(task).get();
+        } catch (ExecutionException ex) {
+            // get() puede envolver la excepción del worker en una copia del mismo tipo
+            Throwable cause = ex.getCause();
+            while (cause.getCause() != null && cause.getCause().getClass() == cause.getClass()) cause = cause.getCause();
+            throw (Exception) cause;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertMatchesSequential(List<Double> data) throws Exception {
+        double mean = Stats.mean(data);
+        double std = Stats.sampleStdDev(data);
+        assertEquals(mean, inPool(() -> Stats.parallelMean(data)), Math.abs(mean) * 1e-12);
+        assertEquals(std, inPool(() -> Stats.parallelSampleStdDev(data)), std * 1e-9);
+    }
+
+    @Test
+    void parallelArrayMatchesSequential() throws Exception {
+        double[] data = values(N);
+        double mean = Stats.mean(data);
+        double std = Stats.sampleStdDev(data);
+
+        assertEquals(mean, inPool(() -> Stats.parallelMean(data)), Math.abs(mean) * 1e-12);
+        assertEquals(std, inPool(() -> Stats.parallelSampleStdDev(data)), std * 1e-9);
+    }
+
+    @Test
+    void parallelListsMatchSequential() throws Exception {
+        double[] data = values(N);
+        DoubleList primitive = new DoubleList(data);
+        List<Double> boxed = new ArrayList<>(primitive);
+        List<Double> linked = new SimpleLinkedList<>();
+        linked.addAll(boxed);
+
+        assertMatchesSequential(primitive);
+        assertMatchesSequential(boxed);
+        assertMatchesSequential(linked);
+        try (OffHeapDoubleList offHeap = OffHeapDoubleList.direct()) {
+            for (double v : data) offHeap.addDouble(v);
+            assertMatchesSequential(offHeap);
+        }
+    }
+
+    @Test
+    void largeInputsAreActuallySplit() throws Exception {
+        // 1e16 seguido de unos: la suma secuencial (un solo acumulador) pierde cada 1.0 por redondeo,
+        // mientras que cada parte de la ruta paralela suma sus unos de forma exacta
+        double[] data = new double[N];
+        Arrays.fill(data, 1.0);
+        data[0] = 1e16;
+        double exact = (1e16 + (N - 1)) / N;
+        List<Double> boxed = new ArrayList<>(new DoubleList(data));
+        List<Double> primitive = new DoubleList(data);
+
+        for (List<Double> list : List.of(boxed, primitive)) {
+            double sequential = Stats.mean(list);
+            double parallel = inPool(() -> Stats.parallelMean(list));
+            assertNotEquals(sequential, parallel);
+            assertTrue(Math.abs(parallel - exact) < Math.abs(sequential - exact));
+        }
+    }
+
+    @Test
+    void nonFiniteValuesMatchSequential() throws Exception {
+        double[] data = values(N);
+        data[N / 2] = Double.POSITIVE_INFINITY;
+        List<Double> boxed = new ArrayList<>(new DoubleList(data));
+
+        assertEquals(Double.POSITIVE_INFINITY, inPool(() -> Stats.parallelMean(data)));
+        assertEquals(Stats.mean(data), inPool(() -> Stats.parallelMean(data)));
+        assertEquals(Stats.mean(boxed), inPool(() -> Stats.parallelMean(boxed)));
+        assertEquals(Stats.sampleStdDev(boxed), inPool(() -> Stats.parallelSampleStdDev(boxed)));
+    }
+
+    @Test
+    void smallInputsUseSequentialPath() throws Exception {
+        double[] data = values(1000);
+        DoubleList list = new DoubleList(data);
+
+        assertEquals(Stats.mean(data), inPool(() -> Stats.parallelMean(data)));
+        assertEquals(Stats.sampleStdDev(data), inPool(() -> Stats.parallelSampleStdDev(data)));
+        assertEquals(Stats.mean(list), inPool(() -> Stats.parallelMean(list)));
+        assertEquals(Stats.sampleStdDev(list), inPool(() -> Stats.parallelSampleStdDev(list)));
+    }
+
+    @Test
+    void invalidInputsAreRejected() {
+        List<Double> withNull = new ArrayList<>(new DoubleList(values(N)));
+        withNull.set(N - 5, null);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> inPool(() -> Stats.parallelMean(withNull)));
+        assertEquals("Los datos no pueden contener valores nulos.", ex.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> Stats.parallelMean(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> Stats.parallelSampleStdDev(new double[] {1}));
+        assertThrows(IllegalArgumentException.class, () -> Stats.parallelMean((double[]) null));
+    }
+}
@@ -0,0 +1,143 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.io.ParseErrors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseErrorsTest {
+
+    private static final String TEXT = "1, 2, 3\n4, x5, 6\r\n7 8e 9 # 1.0.0 en comentario\n\n  10,nope\n";
+    private static final List<ParseErrors.Entry> EXPECTED = List.of(
+            new ParseErrors.Entry(2, 4, "x5"),
+            new ParseErrors.Entry(3, 3, "8e"),
+            new ParseErrors.Entry(5, 6, "nope"));
+
+    @TempDir
+    Path tmp;
+
+    private String write(String content) throws Exception {
+        Path file = Files.createTempFile(tmp, "data", ".txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file.toString();
+    }
+
+    private static void assertSkipped(DoubleList values, ParseErrors errors) {
+        assertArrayEquals(new double[] {1, 2, 3, 4, 6, 7, 9, 10}, values.toDoubleArray());
+        assertEquals(3, errors.errorCount());
+        assertEquals(8, errors.valueCount());
+        assertEquals(EXPECTED, errors.recorded());
+    }
+
+    @Test
+    void everyReadMode_shouldSkipAndLocateInvalidTokens() throws Exception {
+        String path = write(TEXT);
+        Path gz = Files.createTempFile(tmp, "data", ".txt.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gz))) {
+            out.write(TEXT.getBytes(StandardCharsets.UTF_8));
+        }
+
+        ParseErrors errors = new ParseErrors(0.5);
+        DoubleList values = new DoubleList();
+        new DoubleFileReader(errors).read(path, values);
+        assertSkipped(values, errors);
+
+        errors = new ParseErrors(0.5);
+        values = new DoubleList();
+        new DoubleFileReader(errors).readMapped(path, values);
+        assertSkipped(values, errors);
+
+        errors = new ParseErrors(0.5);
+        values = new DoubleFileReader(errors).readParallel(path, 4, DoubleList::new, (a, b) -> {
+            a.addAll(b);
+            return a;
+        });
+        assertSkipped(values, errors);
+
+        errors = new ParseErrors(0.5);
+        values = new DoubleList();
+        new DoubleFileReader(errors).read(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)), values);
+        assertSkipped(values, errors);
+
+        errors = new ParseErrors(0.5);
+        values = new DoubleList();
+        new DoubleFileReader(errors).read(new StringReader(TEXT), values);
+        assertSkipped(values, errors);
+
+        errors = new ParseErrors(0.5);
+        values = new DoubleList();
+        new DoubleFileReader(errors).read(gz.toString(), values);
+        assertSkipped(values, errors);
+    }
+
+    @Test
+    void positions_shouldSurviveTokensSplitAcrossBuffers() throws Exception {
+        // líneas largas para que los tokens crucen los bloques de 64 KB del stream
+        StringBuilder sb = new StringBuilder();
+        for (int line = 1; line <= 2_000; line++) {
+            for (int k = 0; k < 50; k++) sb.append("123.456, ");
+            sb.append(line % 500 == 0 ? "bad" + line : "1").append(line % 2 == 0 ? "\r\n" : "\n");
+        }
+        int column = 50 * "123.456, ".length() + 1;
+        ParseErrors errors = new ParseErrors(0.01);
+        new DoubleFileReader(errors).read(new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)),
+                new DoubleList());
+        assertEquals(List.of(new ParseErrors.Entry(500, column, "bad500"), new ParseErrors.Entry(1000, column, "bad1000"),
+                new ParseErrors.Entry(1500, column, "bad1500"), new ParseErrors.Entry(2000, column, "bad2000")),
+                errors.recorded());
+        assertEquals(2_000 * 51 - 4, errors.valueCount());
+    }
+
+    @Test
+    void errorRateAboveMaximum_shouldFailWithFirstPosition() throws Exception {
+        String path = write(TEXT);
+        NumberFormatException ex = assertThrows(NumberFormatException.class,
+                () -> new DoubleFileReader(new ParseErrors(0.2)).readMapped(path, new DoubleList()));
+        assertTrue(ex.getMessage().contains("3 de 11"), ex.getMessage());
+        assertTrue(ex.getMessage().contains("línea 2, columna 4: 'x5'"), ex.getMessage());
+
+        ParseErrors none = new ParseErrors(0.0);
+        new DoubleFileReader(none).readMapped(write("1 2 3\n"), new DoubleList());
+        assertEquals(0, none.errorCount());
+    }
+
+    @Test
+    void report_shouldBeBoundedAndTruncateLongTokens() throws Exception {
+        StringBuilder sb = new StringBuilder("x".repeat(1_000)).append('\n');
+        for (int i = 0; i < 50; i++) sb.append("bad ");
+        ParseErrors errors = new ParseErrors(1.0, 5);
+        new DoubleFileReader(errors).read(new StringReader(sb.toString()), new DoubleList());
+        assertEquals(51, errors.errorCount());
+        assertEquals(5, errors.recorded().size());
+        assertTrue(errors.recorded().get(0).token().length() < 100);
+        assertEquals(1.0, errors.errorRate());
+    }
+
+    @Test
+    void strictReader_shouldStillFailOnFirstInvalidToken() throws Exception {
+        String path = write(TEXT);
+        NumberFormatException ex = assertThrows(NumberFormatException.class,
+                () -> new DoubleFileReader().readMapped(path, new DoubleList()));
+        assertTrue(ex.getMessage().contains("x5"), ex.getMessage());
+    }
+
+    @Test
+    void invalidSettings_shouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ParseErrors(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> new ParseErrors(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new ParseErrors(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new ParseErrors(0.1, -1));
+    }
+}
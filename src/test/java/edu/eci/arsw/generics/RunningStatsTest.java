@@ -0,0 +1,83 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.math.RunningStats;
+import edu.eci.arsw.generics.math.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunningStatsTest {
+
+    private String resourcePath(String name) {
+        try {
+            var url = Thread.currentThread().getContextClassLoader().getResource(name);
+            if (url == null) throw new IllegalStateException("Recurso no encontrado: " + name);
+            return Paths.get(url.toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Ruta inválida para recurso: " + name, e);
+        }
+    }
+
+    @Test
+    void streamingRead_shouldMatchExpectedMeanAndSampleStdDev() throws Exception {
+        DoubleFileReader reader = new DoubleFileReader();
+        RunningStats stats = new RunningStats();
+        reader.read(resourcePath("table1.txt"), stats);
+
+        assertEquals(550.60, stats.mean(), 0.01, "mean col1");
+        assertEquals(572.03, stats.sampleStdDev(), 0.01, "sample stdDev col1");
+    }
+
+    @Test
+    void singlePass_shouldMatchTwoPassStats() throws Exception {
+        List<Double> data = new DoubleFileReader().read(resourcePath("table3.txt"));
+        RunningStats stats = new RunningStats();
+        data.forEach(stats::accept);
+
+        assertEquals(data.size(), stats.count());
+        assertEquals(Stats.mean(data), stats.mean(), 1e-9);
+        assertEquals(Stats.sampleStdDev(data), stats.sampleStdDev(), 1e-9);
+    }
+
+    @Test
+    void largeOffset_shouldStayNumericallyStable() {
+        RunningStats stats = new RunningStats();
+        for (int i = 0; i < 1000; i++) stats.accept(1e9 + (i % 2));
+        assertEquals(1e9 + 0.5, stats.mean(), 1e-6);
+        assertEquals(0.25 * 1000 / 999, stats.sampleVariance(), 1e-9);
+    }
+
+    @Test
+    void combine_shouldEqualSequentialAccumulation() {
+        Random rnd = new Random(42);
+        RunningStats all = new RunningStats();
+        RunningStats left = new RunningStats();
+        RunningStats right = new RunningStats();
+        for (int i = 0; i < 10_000; i++) {
+            double x = rnd.nextGaussian() * 10 + 3;
+            all.accept(x);
+            (i < 3_000 ? left : right).accept(x);
+        }
+        left.combine(right);
+
+        assertEquals(all.count(), left.count());
+        assertEquals(all.mean(), left.mean(), 1e-9);
+        assertEquals(all.sampleStdDev(), left.sampleStdDev(), 1e-9);
+        assertSame(left, left.combine(new RunningStats()));
+    }
+
+    @Test
+    void tooFewValues_shouldThrow() {
+        RunningStats stats = new RunningStats();
+        assertThrows(IllegalStateException.class, stats::mean);
+        stats.accept(1.0);
+        assertEquals(1.0, stats.mean());
+        assertThrows(IllegalStateException.class, stats::sampleStdDev);
+    }
+}
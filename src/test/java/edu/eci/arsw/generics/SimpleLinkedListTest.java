@@ -3,8 +3,16 @@ package edu.eci.arsw.generics;
 import edu.eci.arsw.generics.collections.SimpleLinkedList;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -137,4 +145,148 @@ class SimpleLinkedListTest {
         String[] arr2 = list.toArray(new String[0]);
         assertArrayEquals(new String[]{"a", "b"}, arr2);
     }
+
+    @Test
+    void listIterator_shouldWalkBothWaysAndModify() {
+        SimpleLinkedList<String> list = new SimpleLinkedList<>();
+        list.addAll(List.of("a", "b", "c"));
+        ListIterator<String> it = list.listIterator(1);
+        assertEquals(0, it.previousIndex());
+        assertEquals("b", it.next());
+        it.set("B");
+        it.add("x");
+        assertEquals("c", it.next());
+        assertFalse(it.hasNext());
+        assertEquals("c", it.previous());
+        assertEquals("x", it.previous());
+        it.remove();
+        assertEquals("B", it.previous());
+        assertEquals("a", it.previous());
+        assertFalse(it.hasPrevious());
+        assertEquals(List.of("a", "B", "c"), new ArrayList<>(list));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(4));
+    }
+
+    @Test
+    void sortAndReplaceAll_shouldWork() {
+        SimpleLinkedList<Integer> list = new SimpleLinkedList<>();
+        list.addAll(List.of(5, 3, 9, 1));
+        Collections.sort(list);
+        assertEquals(List.of(1, 3, 5, 9), new ArrayList<>(list));
+        list.sort(Comparator.reverseOrder());
+        list.replaceAll(x -> x * 10);
+        assertEquals(List.of(90, 50, 30, 10), new ArrayList<>(list));
+    }
+
+    @Test
+    void subList_shouldBeAView() {
+        SimpleLinkedList<Integer> list = new SimpleLinkedList<>();
+        for (int i = 0; i < 6; i++) list.add(i);
+        List<Integer> sub = list.subList(1, 4);
+        assertEquals(List.of(1, 2, 3), sub);
+        sub.set(0, 10);
+        sub.remove(Integer.valueOf(2));
+        sub.add(7);
+        assertEquals(List.of(10, 3, 7), sub);
+        assertEquals(List.of(0, 10, 3, 7, 4, 5), new ArrayList<>(list));
+        sub.clear();
+        assertEquals(List.of(0, 4, 5), new ArrayList<>(list));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(2, 1));
+
+        List<Integer> stale = list.subList(0, 2);
+        list.add(99);
+        assertThrows(ConcurrentModificationException.class, stale::size);
+    }
+
+    @Test
+    void spliterator_shouldSplitAndReportSize() {
+        SimpleLinkedList<Integer> list = new SimpleLinkedList<>();
+        IntStream.range(0, 10_000).forEach(list::add);
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+        assertEquals(10_000, spliterator.estimateSize());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(10_000, prefix.estimateSize() + spliterator.estimateSize());
+
+        long sum = list.parallelStream().mapToLong(Integer::longValue).sum();
+        assertEquals(49_995_000L, sum);
+        assertEquals(IntStream.range(0, 10_000).boxed().toList(), list.parallelStream().toList());
+    }
+
+    @Test
+    void addAllAtIndex_shouldSpliceInOrder() {
+        SimpleLinkedList<Integer> list = new SimpleLinkedList<>();
+        list.addAll(List.of(1, 5));
+        assertTrue(list.addAll(1, List.of(2, 3, 4)));
+        assertTrue(list.addAll(0, List.of(0)));
+        assertTrue(list.addAll(list.size(), List.of(6)));
+        assertFalse(list.addAll(2, List.of()));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), new ArrayList<>(list));
+        assertEquals(6, list.get(6));
+
+        list.addAll(list);
+        assertEquals(14, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(15, List.of(1)));
+    }
+
+    @Test
+    void removeAllAndRetainAll_shouldHandleLargeArguments() {
+        SimpleLinkedList<Integer> list = new SimpleLinkedList<>();
+        IntStream.range(0, 1000).forEach(list::add);
+        List<Integer> evens = IntStream.range(0, 1000).filter(i -> i % 2 == 0).boxed().toList();
+
+        assertTrue(list.removeAll(evens));
+        assertEquals(500, list.size());
+        assertTrue(list.stream().allMatch(i -> i % 2 == 1));
+
+        assertTrue(list.retainAll(List.of(1, 3, 5, 1001)));
+        assertEquals(List.of(1, 3, 5), new ArrayList<>(list));
+        assertFalse(list.retainAll(list));
+        assertTrue(list.containsAll(List.of(5, 3)));
+        assertFalse(list.containsAll(evens));
+    }
+
+    @Test
+    void fingerSearch_shouldMatchArrayListUnderRandomOperations() {
+        Random rnd = new Random(5);
+        SimpleLinkedList<Integer> list = new SimpleLinkedList<>(true);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5_000; step++) {
+            int op = rnd.nextInt(6);
+            if (op <= 1 || expected.isEmpty()) {
+                int index = rnd.nextInt(expected.size() + 1);
+                list.add(index, step);
+                expected.add(index, step);
+            } else if (op == 2) {
+                int index = rnd.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (op == 3) {
+                int index = rnd.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            } else if (op == 4) {
+                list.add(0, step);
+                expected.add(0, step);
+            } else {
+                Integer value = expected.get(rnd.nextInt(expected.size()));
+                assertEquals(expected.remove(value), list.remove(value));
+            }
+        }
+        assertEquals(expected, new ArrayList<>(list));
+        for (int i = 0; i < expected.size(); i++) assertEquals(expected.get(i), list.get(i));
+        for (int i = expected.size() - 1; i >= 0; i--) assertEquals(expected.get(i), list.set(i, -i));
+    }
+
+    @Test
+    void fingerSearch_shouldKeepFailFastIterators() {
+        SimpleLinkedList<Integer> list = new SimpleLinkedList<>(true);
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> it = list.iterator();
+        assertEquals(2, list.get(1));
+        assertTrue(it.hasNext());
+        list.add(0, 0);
+        assertThrows(ConcurrentModificationException.class, it::next);
+        assertEquals(List.of(0, 1, 2), new ArrayList<>(list));
+    }
 }
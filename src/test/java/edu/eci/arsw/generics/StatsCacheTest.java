@@ -0,0 +1,143 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.math.RunningStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsCacheTest {
+
+    @TempDir
+    Path tmp;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private StatsCache cache(int maxEntries) {
+        return new StatsCache(maxEntries, path -> {
+            loads.incrementAndGet();
+            RunningStats stats = new RunningStats();
+            new DoubleFileReader().read(path.toString(), stats);
+            return new StatsCache.Result(stats.count(), stats.mean(), stats.count() < 2 ? Double.NaN : stats.sampleStdDev(), 0);
+        });
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tmp.resolve(name), content);
+    }
+
+    /** Mueve la fecha de modificación para que el cambio se note aunque el reloj del sistema de archivos sea grueso */
+    private static void bumpModified(Path file) throws IOException {
+        FileTime before = Files.getLastModifiedTime(file);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(before.toMillis() + 5_000));
+    }
+
+    @Test
+    void repeatedQueryIsServedFromCache() throws IOException {
+        Path file = write("a.txt", "1, 2, 3, 4\n");
+        StatsCache cache = cache(8);
+
+        StatsCache.Lookup first = cache.get(file);
+        StatsCache.Lookup second = cache.get(tmp.resolve("./a.txt"));
+
+        assertFalse(first.hit());
+        assertTrue(second.hit());
+        assertEquals(first.result(), second.result());
+        assertEquals(4, first.result().count());
+        assertEquals(2.5, first.result().mean(), 1e-12);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void changedFileIsReprocessed() throws IOException {
+        Path file = write("a.txt", "1, 2, 3, 4\n");
+        StatsCache cache = cache(8);
+        cache.get(file);
+
+        Files.writeString(file, "5, 6, 7, 8\n");
+        bumpModified(file);
+        StatsCache.Lookup changed = cache.get(file);
+
+        assertFalse(changed.hit());
+        assertEquals(6.5, changed.result().mean(), 1e-12);
+        assertTrue(cache.get(file).hit());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void touchedFileWithSameContentIsNotReprocessed() throws IOException {
+        Path file = write("a.txt", "1, 2, 3, 4\n");
+        StatsCache cache = cache(8);
+        cache.get(file);
+
+        // un fallo de caché no calcula el CRC32C: el primer touch todavía no se puede verificar
+        bumpModified(file);
+        assertFalse(cache.get(file).hit());
+        assertEquals(2, loads.get());
+
+        bumpModified(file);
+        assertTrue(cache.get(file).hit());
+        assertTrue(cache.get(file).hit());
+        bumpModified(file);
+        assertTrue(cache.get(file).hit());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() throws IOException {
+        Path a = write("a.txt", "1\n");
+        Path b = write("b.txt", "2\n");
+        Path c = write("c.txt", "3\n");
+        StatsCache cache = cache(2);
+
+        cache.get(a);
+        cache.get(b);
+        cache.get(a);
+        cache.get(c);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(a).hit());
+        assertFalse(cache.get(b).hit());
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void deletedFileQueriedThroughSymlinksIsEvicted() throws IOException {
+        Path dir = Files.createDirectory(tmp.resolve("datos"));
+        Path file = Files.writeString(dir.resolve("a.txt"), "1, 2\n");
+        Path linkedDir = Files.createSymbolicLink(tmp.resolve("enlace"), dir);
+        Path linkedFile = Files.createSymbolicLink(tmp.resolve("b.txt"), file);
+        StatsCache cache = cache(8);
+
+        cache.get(linkedDir.resolve("a.txt"));
+        assertTrue(cache.get(linkedFile).hit());
+        assertEquals(1, cache.size());
+        Files.delete(file);
+
+        assertThrows(NoSuchFileException.class, () -> cache.get(linkedDir.resolve("a.txt")));
+        assertEquals(0, cache.size());
+        assertThrows(NoSuchFileException.class, () -> cache.get(linkedFile));
+    }
+
+    @Test
+    void missingFilesAndInvalidSizesAreRejected() throws IOException {
+        Path file = write("a.txt", "1, 2\n");
+        StatsCache cache = cache(8);
+        cache.get(file);
+        Files.delete(file);
+
+        assertThrows(NoSuchFileException.class, () -> cache.get(file));
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> cache(0));
+    }
+}
@@ -0,0 +1,71 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.math.RunningStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsServerTest {
+
+    @TempDir
+    Path tmp;
+
+    private static StatsCache cache() {
+        return new StatsCache(8, path -> {
+            RunningStats stats = new RunningStats();
+            new DoubleFileReader().read(path.toString(), stats);
+            return new StatsCache.Result(stats.count(), stats.mean(), stats.sampleStdDev(), 0);
+        });
+    }
+
+    @Test
+    void answersStatsFromCacheOverLineProtocol() throws Exception {
+        Path file = Files.writeString(tmp.resolve("datos.txt"), "2, 4, 4, 4, 5, 5, 7, 9\n");
+        StatsServer server = new StatsServer(0, cache());
+        Thread serving = new Thread(() -> {
+            try {
+                server.serve();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        serving.start();
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.port());
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true)) {
+            out.println("PING");
+            assertEquals("OK pong", in.readLine());
+
+            String expected = "OK n=8 media=5.0 s=" + Math.sqrt(32.0 / 7) + " omitidos=0 cache=";
+            out.println("STATS " + file);
+            assertEquals(expected + "miss", in.readLine());
+            out.println("STATS " + file);
+            assertEquals(expected + "hit", in.readLine());
+            out.println("CACHE");
+            assertEquals("OK entradas=1 aciertos=1 fallos=1", in.readLine());
+
+            out.println("STATS " + tmp.resolve("nope.txt"));
+            assertTrue(in.readLine().startsWith("ERR "));
+            out.println("HELLO");
+            assertTrue(in.readLine().startsWith("ERR Comando desconocido"));
+
+            out.println("SHUTDOWN");
+            assertEquals("OK", in.readLine());
+        }
+        serving.join(5_000);
+        assertFalse(serving.isAlive());
+    }
+}
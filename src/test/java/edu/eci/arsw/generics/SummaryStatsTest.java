@@ -0,0 +1,106 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.math.Stats;
+import edu.eci.arsw.generics.math.Summary;
+import edu.eci.arsw.generics.math.SummaryStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryStatsTest {
+
+    private static double[] sample(int n, long seed) {
+        Random rnd = new Random(seed);
+        double[] values = new double[n];
+        // distribución exponencial: asimetría 2 y exceso de curtosis 6
+        for (int i = 0; i < n; i++) values[i] = 1_000.0 - Math.log(1.0 - rnd.nextDouble()) * 3.0;
+        return values;
+    }
+
+    /** Momentos centrales por la definición, en dos pasadas */
+    private static double[] twoPass(double[] values) {
+        int n = values.length;
+        double mean = 0.0;
+        for (double v : values) mean += v;
+        mean /= n;
+        double m2 = 0.0, m3 = 0.0, m4 = 0.0;
+        for (double v : values) {
+            double d = v - mean;
+            m2 += d * d;
+            m3 += d * d * d;
+            m4 += d * d * d * d;
+        }
+        return new double[] {mean, m2 / (n - 1), Math.sqrt(n) * m3 / Math.pow(m2, 1.5), n * m4 / (m2 * m2) - 3.0};
+    }
+
+    @Test
+    void summarize_shouldMatchTwoPassMoments() {
+        double[] values = sample(50_000, 1);
+        List<Double> data = new ArrayList<>();
+        double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+        for (double v : values) {
+            data.add(v);
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        double[] expected = twoPass(values);
+
+        Summary s = Stats.summarize(data);
+        assertEquals(values.length, s.count());
+        assertEquals(min, s.min());
+        assertEquals(max, s.max());
+        assertEquals(expected[0], s.mean(), 1e-9);
+        assertEquals(expected[1], s.variance(), 1e-6);
+        assertEquals(expected[2], s.skewness(), 1e-6);
+        assertEquals(expected[3], s.kurtosis(), 1e-6);
+        assertEquals(Stats.sampleStdDev(data), s.stdDev(), 1e-9);
+        assertEquals(2.0, s.skewness(), 0.2);
+        assertEquals(6.0, s.kurtosis(), 1.5);
+
+        assertEquals(s, Stats.summarize(new DoubleList(values)));
+    }
+
+    @Test
+    void combine_shouldMatchSinglePass() {
+        double[] values = sample(10_001, 2);
+        SummaryStats all = new SummaryStats();
+        SummaryStats left = new SummaryStats();
+        SummaryStats right = new SummaryStats();
+        for (int i = 0; i < values.length; i++) {
+            all.accept(values[i]);
+            (i < 3_000 ? left : right).accept(values[i]);
+        }
+        Summary expected = all.summary();
+        Summary merged = left.combine(right).combine(new SummaryStats()).summary();
+
+        assertEquals(expected.count(), merged.count());
+        assertEquals(expected.min(), merged.min());
+        assertEquals(expected.max(), merged.max());
+        assertEquals(expected.mean(), merged.mean(), 1e-9);
+        assertEquals(expected.variance(), merged.variance(), 1e-9);
+        assertEquals(expected.skewness(), merged.skewness(), 1e-9);
+        assertEquals(expected.kurtosis(), merged.kurtosis(), 1e-9);
+    }
+
+    @Test
+    void degenerateInputs_shouldReportNaNMoments() {
+        Summary one = Stats.summarize(List.of(5.0));
+        assertEquals(1, one.count());
+        assertEquals(5.0, one.min());
+        assertEquals(5.0, one.mean());
+        assertTrue(Double.isNaN(one.variance()));
+
+        Summary constant = Stats.summarize(List.of(3.0, 3.0, 3.0));
+        assertEquals(0.0, constant.variance());
+        assertTrue(Double.isNaN(constant.skewness()));
+        assertTrue(Double.isNaN(constant.kurtosis()));
+
+        assertThrows(IllegalArgumentException.class, () -> Stats.summarize(List.of()));
+        assertThrows(IllegalStateException.class, () -> new SummaryStats().summary());
+    }
+}
@@ -0,0 +1,129 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.DoubleList;
+import edu.eci.arsw.generics.math.Stats;
+import edu.eci.arsw.generics.math.Summation;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummationTest {
+
+    private static double exactSum(double[] a) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (double v : a) sum = sum.add(new BigDecimal(v));
+        return sum.doubleValue();
+    }
+
+    /** Valores grandes con decimales pequeños: la suma ingenua acumula error de redondeo */
+    private static double[] driftingValues(int n) {
+        Random rnd = new Random(13);
+        double[] a = new double[n];
+        for (int i = 0; i < n; i++) a[i] = 1e6 + rnd.nextDouble() * 0.001;
+        return a;
+    }
+
+    @Test
+    void arraySums_shouldBeMoreAccurateThanNaive() {
+        double[] a = driftingValues(2_000_003);
+        double exact = exactSum(a);
+        double naiveError = Math.abs(Summation.NAIVE.sum(a) - exact);
+
+        assertEquals(exact, Summation.NEUMAIER.sum(a), Math.ulp(exact));
+        for (Summation s : List.of(Summation.PAIRWISE, Summation.BLOCKED)) {
+            double error = Math.abs(s.sum(a) - exact);
+            assertTrue(error < naiveError, s + ": " + error + " vs " + naiveError);
+        }
+    }
+
+    @Test
+    void accumulators_shouldMatchArraySumsAndCombine() {
+        double[] a = driftingValues(300_017);
+        double exact = exactSum(a);
+        for (Summation s : Summation.values()) {
+            Summation.Accumulator all = s.newAccumulator();
+            Summation.Accumulator left = s.newAccumulator();
+            Summation.Accumulator right = s.newAccumulator();
+            for (int i = 0; i < a.length; i++) {
+                all.accept(a[i]);
+                (i < 100_003 ? left : right).accept(a[i]);
+            }
+            double tolerance = s == Summation.NAIVE ? 1e-1 : 1e-4;
+            assertEquals(a.length, all.count());
+            assertEquals(exact, all.sum(), tolerance, s.name());
+            assertEquals(exact, left.combine(right).sum(), tolerance, s.name());
+            assertEquals(a.length, left.count());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> Summation.NAIVE.newAccumulator().combine(Summation.PAIRWISE.newAccumulator()));
+    }
+
+    @Test
+    void statsOverloads_shouldAgreeWithDefaultPath() throws Exception {
+        Random rnd = new Random(21);
+        double[] a = new double[5_000];
+        List<Double> boxed = new ArrayList<>();
+        for (int i = 0; i < a.length; i++) {
+            a[i] = rnd.nextGaussian() * 10.0 + 100.0;
+            boxed.add(a[i]);
+        }
+        DoubleList primitive = new DoubleList(a);
+        for (Summation s : Summation.values()) {
+            assertEquals(Stats.mean(boxed), Stats.mean(boxed, s), 1e-9, s.name());
+            assertEquals(Stats.mean(boxed), Stats.mean(primitive, s), 1e-9, s.name());
+            assertEquals(Stats.mean(boxed), Stats.mean(a, s), 1e-9, s.name());
+            assertEquals(Stats.sampleStdDev(boxed), Stats.sampleStdDev(boxed, s), 1e-9, s.name());
+            assertEquals(Stats.sampleStdDev(boxed), Stats.sampleStdDev(a, s), 1e-9, s.name());
+        }
+        assertThrows(IllegalArgumentException.class, () -> Stats.sampleStdDev(List.of(1.0), Summation.PAIRWISE));
+        assertThrows(IllegalArgumentException.class, () -> Stats.mean(new double[0], Summation.NAIVE));
+    }
+
+    @Test
+    void nonFiniteValues_shouldGiveTheSameSumInEveryStrategy() {
+        double inf = Double.POSITIVE_INFINITY;
+        double[][] extras = {{inf}, {-inf}, {inf, inf}, {inf, -inf}, {Double.NaN}, {Double.MAX_VALUE, Double.MAX_VALUE}};
+        double[] expected = {inf, -inf, inf, Double.NaN, Double.NaN, inf};
+        for (int n : new int[] {3, 2_500}) {
+            for (int c = 0; c < extras.length; c++) {
+                double[] a = new double[n];
+                Arrays.fill(a, 2.0);
+                for (int i = 0; i < extras[c].length; i++) a[1 + i * (n / 2)] = extras[c][i];
+                List<Double> boxed = new ArrayList<>(new DoubleList(a));
+                for (Summation s : Summation.values()) {
+                    String label = s + " caso " + c + ", n=" + n;
+                    Summation.Accumulator all = s.newAccumulator();
+                    Summation.Accumulator left = s.newAccumulator();
+                    Summation.Accumulator right = s.newAccumulator();
+                    for (int i = 0; i < n; i++) {
+                        all.accept(a[i]);
+                        (i < n / 2 ? left : right).accept(a[i]);
+                    }
+                    assertEquals(expected[c], s.sum(a), label);
+                    assertEquals(expected[c], all.sum(), label);
+                    assertEquals(expected[c], left.combine(right).sum(), label);
+                    assertEquals(Stats.mean(boxed), Stats.mean(boxed, s), label);
+                    assertEquals(Stats.mean(boxed), Stats.mean(a, s), label);
+                }
+            }
+        }
+        List<Double> huge = List.of(1e200, -1e200, 1e200);
+        for (Summation s : Summation.values()) {
+            assertEquals(Double.POSITIVE_INFINITY, Stats.sampleStdDev(huge, s), s.name());
+        }
+    }
+
+    @Test
+    void parse_shouldIgnoreCase() {
+        assertEquals(Summation.PAIRWISE, Summation.parse("Pairwise"));
+        assertEquals(Summation.NEUMAIER, Summation.parse(" neumaier "));
+        assertThrows(IllegalArgumentException.class, () -> Summation.parse("bigdecimal"));
+        assertThrows(IllegalArgumentException.class, () -> Summation.parse(null));
+    }
+}
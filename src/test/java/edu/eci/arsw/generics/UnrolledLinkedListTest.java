@@ -0,0 +1,143 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.collections.UnrolledLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnrolledLinkedListTest {
+
+    @Test
+    void add_and_get_shouldSpanSeveralNodes() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 100; i++) list.add(i);
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) assertEquals(i, list.get(i));
+        assertEquals(42, list.indexOf(42));
+        assertFalse(list.contains(100));
+    }
+
+    @Test
+    void randomOperations_shouldMatchArrayList() {
+        Random rnd = new Random(3);
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5_000; step++) {
+            int op = rnd.nextInt(5);
+            if (op <= 1 || expected.isEmpty()) {
+                int index = rnd.nextInt(expected.size() + 1);
+                list.add(index, step);
+                expected.add(index, step);
+            } else if (op == 2) {
+                int index = rnd.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (op == 3) {
+                int index = rnd.nextInt(expected.size());
+                assertEquals(expected.set(index, -step), list.set(index, -step));
+            } else {
+                list.add(step);
+                expected.add(step);
+            }
+        }
+        assertEquals(expected, list);
+        assertEquals(expected, new ArrayList<>(list));
+    }
+
+    @Test
+    void listIterator_shouldWalkBothWaysAndModify() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(2);
+        list.addAll(List.of(0, 1, 2, 3, 4, 5));
+        ListIterator<Integer> it = list.listIterator();
+        while (it.hasNext()) {
+            int x = it.next();
+            if (x % 2 == 0) it.remove();
+            else it.add(x * 10);
+        }
+        assertEquals(List.of(1, 10, 3, 30, 5, 50), list);
+        while (it.hasPrevious()) {
+            int x = it.previous();
+            if (x >= 10) it.set(-x);
+        }
+        assertEquals(List.of(1, -10, 3, -30, 5, -50), list);
+    }
+
+    @Test
+    void iteratorRemoveAndAdd_shouldFollowSplitsAndMerges() {
+        Random rnd = new Random(11);
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        for (int round = 0; round < 20; round++) {
+            ListIterator<Integer> it = list.listIterator(rnd.nextInt(list.size() + 1));
+            ListIterator<Integer> ref = expected.listIterator(it.nextIndex());
+            for (int step = 0; step < 500; step++) {
+                int op = rnd.nextInt(6);
+                if (op <= 1 && it.hasNext()) {
+                    assertEquals(ref.next(), it.next());
+                    if (op == 0) {
+                        it.remove();
+                        ref.remove();
+                    }
+                } else if (op == 2 && it.hasPrevious()) {
+                    assertEquals(ref.previous(), it.previous());
+                    it.remove();
+                    ref.remove();
+                } else if (op == 3) {
+                    it.add(-step);
+                    ref.add(-step);
+                } else if (it.hasPrevious()) {
+                    assertEquals(ref.previous(), it.previous());
+                }
+                assertEquals(ref.nextIndex(), it.nextIndex());
+            }
+            assertEquals(expected, list);
+        }
+
+        list.removeIf(x -> x % 3 != 0);
+        expected.removeIf(x -> x % 3 != 0);
+        assertEquals(expected, list);
+        list.retainAll(List.of(0, 3, 6));
+        expected.retainAll(List.of(0, 3, 6));
+        assertEquals(expected, list);
+        list.removeIf(x -> true);
+        assertTrue(list.isEmpty());
+        ListIterator<Integer> it = list.listIterator();
+        it.add(1);
+        it.add(2);
+        assertEquals(List.of(1, 2), list);
+    }
+
+    @Test
+    void iterator_shouldBeFailFast() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> it = list.iterator();
+        assertTrue(it.hasNext());
+        list.add(3);
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    void invalidIndexes_shouldThrow() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        list.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(2, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<Integer>(1));
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertFalse(list.iterator().hasNext());
+    }
+}
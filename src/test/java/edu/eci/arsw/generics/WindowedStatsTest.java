@@ -0,0 +1,125 @@
+package edu.eci.arsw.generics;
+
+import edu.eci.arsw.generics.io.DoubleFileReader;
+import edu.eci.arsw.generics.math.WindowedStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WindowedStatsTest {
+
+    @TempDir
+    Path dir;
+
+    /** Media y varianza muestral de values[from, to) en dos pasadas */
+    private static double[] twoPass(double[] values, int from, int to) {
+        int n = to - from;
+        double mean = 0.0;
+        for (int i = from; i < to; i++) mean += values[i];
+        mean /= n;
+        double m2 = 0.0;
+        for (int i = from; i < to; i++) m2 += (values[i] - mean) * (values[i] - mean);
+        return new double[] {mean, m2 / (n - 1)};
+    }
+
+    @Test
+    void countWindowMatchesTwoPassAtEveryStep() {
+        Random rnd = new Random(7);
+        double[] values = new double[5_000];
+        for (int i = 0; i < values.length; i++) values[i] = rnd.nextGaussian() * 10.0 + 50.0;
+        WindowedStats window = WindowedStats.lastN(100);
+        for (int i = 0; i < values.length; i++) {
+            window.accept(values[i]);
+            int from = Math.max(0, i + 1 - 100);
+            assertEquals(i + 1 - from, window.count());
+            if (i >= 1) {
+                double[] expected = twoPass(values, from, i + 1);
+                assertEquals(expected[0], window.mean(), 1e-9);
+                assertEquals(expected[1], window.sampleVariance(), 1e-7);
+            }
+        }
+    }
+
+    @Test
+    void reanchoringKeepsPrecisionWithLargeOffsetAndDrift() {
+        // valores grandes con tendencia: las restas sin reanclaje acumularían cancelación
+        Random rnd = new Random(11);
+        int n = 200_000;
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) values[i] = 1e9 + i * 1_000.0 + rnd.nextDouble();
+        WindowedStats window = WindowedStats.lastN(64);
+        for (double v : values) window.accept(v);
+        double[] expected = twoPass(values, n - 64, n);
+        assertEquals(expected[0], window.mean(), 1e-6);
+        assertEquals(Math.sqrt(expected[1]), window.sampleStdDev(), 1e-3);
+    }
+
+    @Test
+    void windowOfOneHasNoDeviation() {
+        WindowedStats window = WindowedStats.lastN(1);
+        window.accept(3.0);
+        window.accept(8.0);
+        assertEquals(1, window.count());
+        assertEquals(8.0, window.mean());
+        assertThrows(IllegalStateException.class, window::sampleStdDev);
+    }
+
+    @Test
+    void timeWindowEvictsExpiredSamples() {
+        WindowedStats window = WindowedStats.lastDuration(Duration.ofSeconds(10));
+        long s = 1_000_000_000L;
+        window.accept(0, 1.0);
+        window.accept(5 * s, 2.0);
+        window.accept(9 * s, 3.0);
+        assertEquals(3, window.count());
+        assertEquals(2.0, window.mean(), 1e-12);
+
+        window.accept(10 * s, 4.0); // expulsa el de t=0
+        assertEquals(3, window.count());
+        assertEquals(3.0, window.mean(), 1e-12);
+        assertEquals(1.0, window.sampleStdDev(), 1e-12);
+
+        window.advanceTo(19 * s + 1); // solo queda t=10
+        assertEquals(1, window.count());
+        assertEquals(4.0, window.mean(), 1e-12);
+
+        window.advanceTo(100 * s);
+        assertEquals(0, window.count());
+        assertThrows(IllegalStateException.class, window::mean);
+    }
+
+    @Test
+    void timeWindowGrowsPastInitialCapacityAndUsesClock() {
+        long[] now = {0};
+        WindowedStats window = WindowedStats.lastDuration(Duration.ofNanos(1_000), () -> now[0]);
+        for (int i = 0; i < 10_000; i++) {
+            now[0] = i;
+            window.accept(i);
+        }
+        // ventana (8999, 9999]
+        assertEquals(1_000, window.count());
+        assertEquals(9_499.5, window.mean(), 1e-9);
+    }
+
+    @Test
+    void plugsIntoStreamingReader() throws Exception {
+        Path file = dir.resolve("datos.txt");
+        Files.writeString(file, "1, 2, 3\n4, 5\n6, 7, 8, 9, 10\n");
+        WindowedStats window = WindowedStats.lastN(4);
+        new DoubleFileReader().read(file.toString(), window);
+        assertEquals(4, window.count());
+        assertEquals(8.5, window.mean(), 1e-12);
+    }
+
+    @Test
+    void rejectsInvalidWindows() {
+        assertThrows(IllegalArgumentException.class, () -> WindowedStats.lastN(0));
+        assertThrows(IllegalArgumentException.class, () -> WindowedStats.lastDuration(Duration.ZERO));
+    }
+}